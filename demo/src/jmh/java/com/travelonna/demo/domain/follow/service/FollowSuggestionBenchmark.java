@@ -0,0 +1,130 @@
+package com.travelonna.demo.domain.follow.service;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.travelonna.demo.domain.follow.repository.FollowRepository;
+
+/**
+ * 알 수도 있는 사람 계산 벤치마크 (사용자 20,000명, 팔로우 관계 약 1,000,000개)
+ *
+ * 팔로우 대상은 작은 ID(인기 계정)로 치우치게 생성한다.
+ * FollowGraph는 메모리 저장소를 읽어 전체 그래프를 캐시하고, 추천 결과 캐시는 크기 0으로 꺼서 매 호출마다 계산한다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FollowSuggestionBenchmark {
+
+    private static final int USERS = 20_000;
+    private static final int EDGES = 1_000_000;
+    private static final int QUERY_USERS = 1024;
+
+    @Param({ "1", "4" })
+    private int parallelism;
+
+    @Param({ "500" })
+    private int maxFollowees;
+
+    private FollowSuggestionEngine engine;
+    private int[] queryUsers;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[][] graph = generateGraph(new Random(42));
+        FollowGraph followGraph = new FollowGraph(inMemoryRepository(graph), USERS + 1, 3600);
+        engine = new FollowSuggestionEngine(followGraph, parallelism, maxFollowees, 200, 0, 3600);
+
+        Random random = new Random(7);
+        queryUsers = new int[QUERY_USERS];
+        for (int i = 0; i < QUERY_USERS; i++) {
+            queryUsers[i] = 1 + random.nextInt(USERS);
+        }
+        // 팔로우 그래프 캐시 채우기 (측정 대상은 추천 계산)
+        for (int userId = 1; userId <= USERS; userId++) {
+            followGraph.followeesOf(userId);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engine.shutdown();
+    }
+
+    @Benchmark
+    public FollowSuggestionEngine.Suggestions suggestionsFor() {
+        return engine.suggestionsFor(queryUsers[next++ & (QUERY_USERS - 1)]);
+    }
+
+    // 사용자별 팔로잉 (오름차순, 중복 없음), 대상 ID는 제곱 분포로 작은 ID에 몰림
+    private static int[][] generateGraph(Random random) {
+        int[][] graph = new int[USERS + 1][];
+        int perUser = EDGES / USERS;
+        for (int userId = 1; userId <= USERS; userId++) {
+            int degree = random.nextInt(perUser * 2 + 1);
+            graph[userId] = random.ints(degree, 0, Integer.MAX_VALUE)
+                    .map(r -> 1 + (int) (USERS * Math.pow(r / (double) Integer.MAX_VALUE, 2)))
+                    .distinct()
+                    .sorted()
+                    .toArray();
+        }
+        return graph;
+    }
+
+    // FollowGraph가 사용하는 조회만 구현한 메모리 저장소
+    @SuppressWarnings("unchecked")
+    private static FollowRepository inMemoryRepository(int[][] graph) {
+        return (FollowRepository) Proxy.newProxyInstance(FollowRepository.class.getClassLoader(),
+                new Class<?>[] { FollowRepository.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findFolloweeIds": {
+                            List<Integer> ids = new ArrayList<>();
+                            for (int id : graph[(Integer) args[0]]) {
+                                ids.add(id);
+                            }
+                            return ids;
+                        }
+                        case "findFollowEdges": {
+                            List<Object[]> edges = new ArrayList<>();
+                            for (Integer fromUser : ((Collection<Integer>) args[0]).stream().sorted().distinct().toList()) {
+                                for (int toUser : graph[fromUser]) {
+                                    edges.add(new Object[] { fromUser, toUser });
+                                }
+                            }
+                            return edges;
+                        }
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "InMemoryFollowRepository";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
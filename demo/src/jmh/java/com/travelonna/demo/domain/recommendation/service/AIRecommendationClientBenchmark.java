@@ -0,0 +1,140 @@
+package com.travelonna.demo.domain.recommendation.service;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.travelonna.demo.domain.recommendation.service.AIRecommendationClient.AIRecommendationResponse;
+import com.travelonna.demo.global.config.AsyncConfig;
+import com.travelonna.demo.global.config.RestTemplateConfig;
+
+/**
+ * AI 추천 서비스 실시간 호출 벤치마크 (로컬 HTTP 스텁 서버)
+ *
+ * 스텁 서버는 요청마다 latencyMs만큼 지연하고, slowEvery번째 요청마다 SLOW_LATENCY_MS만큼 지연해 꼬리 지연을 만든다.
+ * - shared: 공용 RestTemplate으로 직접 호출 (전용 클라이언트 도입 전 경로)
+ * - pooled: AIRecommendationClient (전용 연결 풀 + 호출 제한 시간)
+ * - hedged: pooled + hedge-delay-ms (HEDGE_DELAY_MS 이내 응답이 없으면 한 번 더 요청)
+ * SampleTime 모드의 백분위(p0.99 등)로 꼬리 지연을 비교한다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class AIRecommendationClientBenchmark {
+
+    private static final String BODY =
+            "{\"userId\":1,\"itemType\":\"log\",\"recommendations\":[{\"itemId\":10,\"score\":0.9}]}";
+    private static final long SLOW_LATENCY_MS = 200;
+    private static final long HEDGE_DELAY_MS = 50;
+    private static final long DEADLINE_MS = 2000;
+
+    @Param({ "shared", "pooled", "hedged" })
+    private String path;
+
+    @Param({ "5" })
+    private long latencyMs;
+
+    @Param({ "20" })
+    private int slowEvery;
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ThreadPoolTaskExecutor clientExecutor;
+    private RestTemplate sharedRestTemplate;
+    private AIRecommendationClient client;
+    private String url;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/", this::handle);
+        server.start();
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+        url = baseUrl + "/api/v1/recommendations?userId=1&type=log&limit=50";
+
+        RestTemplateConfig restTemplateConfig = new RestTemplateConfig();
+        sharedRestTemplate = restTemplateConfig.restTemplate(new RestTemplateBuilder());
+        clientExecutor = (ThreadPoolTaskExecutor) new AsyncConfig().aiRecommendationExecutor(8, 32, 100);
+        // 느린 응답(SLOW_LATENCY_MS)으로 차단기가 열리지 않도록 느린 호출 기준을 제한 시간과 같게 설정
+        AIServiceCircuitBreaker circuitBreaker = new AIServiceCircuitBreaker(5, DEADLINE_MS, 30_000);
+        client = new AIRecommendationClient(sharedRestTemplate,
+                restTemplateConfig.aiRecommendationRestTemplate(new RestTemplateBuilder(), 500, 1500),
+                clientExecutor, circuitBreaker);
+        setField("aiServiceUrl", baseUrl);
+        setField("deadlineMillis", DEADLINE_MS);
+        setField("hedgeDelayMillis", "hedged".equals(path) ? HEDGE_DELAY_MS : 0L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        clientExecutor.shutdown();
+    }
+
+    @Benchmark
+    public AIRecommendationResponse getRecommendations() {
+        if ("shared".equals(path)) {
+            return sharedRestTemplate.getForObject(url, AIRecommendationResponse.class);
+        }
+        return client.getRecommendations(1, "log", 50);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(requests.incrementAndGet() % slowEvery == 0 ? SLOW_LATENCY_MS : latencyMs);
+            byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 헤징에서 진 요청이 취소되어 연결이 끊긴 경우
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // 설정 값 주입 (@Value 필드)
+    private void setField(String name, Object value) throws ReflectiveOperationException {
+        Field field = AIRecommendationClient.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(client, value);
+    }
+}
@@ -13,13 +13,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.travelonna.demo.domain.follow.dto.FollowRequestDto;
 import com.travelonna.demo.domain.follow.dto.FollowResponseDto;
+import com.travelonna.demo.domain.follow.dto.FollowSuggestionDto;
 import com.travelonna.demo.domain.follow.service.FollowService;
 import com.travelonna.demo.domain.user.service.ProfileService;
 import com.travelonna.demo.global.common.ApiResponse;
+import com.travelonna.demo.global.common.CursorPage;
 import com.travelonna.demo.global.security.jwt.JwtUserDetails;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -137,7 +140,7 @@ public class FollowController {
         return ResponseEntity.ok(ApiResponse.success("팔로우 상태 확인에 성공했습니다.", result));
     }
 
-    @Operation(summary = "프로필 팔로워 목록 조회", description = "특정 프로필의 팔로워 목록을 조회합니다. 로그인이 필요한 기능입니다.")
+    @Operation(summary = "프로필 팔로워 목록 조회", description = "특정 프로필의 팔로워 목록을 최근 팔로우 순으로 조회합니다. 응답의 nextCursor를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다. 로그인이 필요한 기능입니다.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "팔로워 목록 조회 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패")
@@ -145,7 +148,11 @@ public class FollowController {
     @GetMapping("/followers/{profileId}")
     public ResponseEntity<ApiResponse<List<FollowResponseDto>>> getProfileFollowers(
             @Parameter(name = "profileId", description = "팔로워 목록을 조회할 프로필 ID", required = true, example = "6", in = ParameterIn.PATH)
-            @PathVariable("profileId") Integer profileId) {
+            @PathVariable("profileId") Integer profileId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본값: 20, 최대: 100)", example = "20")
+            @RequestParam(required = false) Integer size) {
         
         Integer loggedInUserId = getCurrentUserId();
         
@@ -155,11 +162,11 @@ public class FollowController {
                     .body(ApiResponse.error("로그인이 필요한 서비스입니다."));
         }
         
-        List<FollowResponseDto> followers = followService.getProfileFollowers(profileId, loggedInUserId);
-        return ResponseEntity.ok(ApiResponse.success("팔로워 목록 조회에 성공했습니다.", followers));
+        CursorPage<List<FollowResponseDto>> page = followService.getProfileFollowers(profileId, loggedInUserId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.successWithCursor("팔로워 목록 조회에 성공했습니다.", page));
     }
 
-    @Operation(summary = "프로필 팔로잉 목록 조회", description = "특정 프로필의 팔로잉 목록을 조회합니다. 로그인이 필요한 기능입니다.")
+    @Operation(summary = "프로필 팔로잉 목록 조회", description = "특정 프로필의 팔로잉 목록을 최근 팔로우 순으로 조회합니다. 응답의 nextCursor를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다. 로그인이 필요한 기능입니다.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "팔로잉 목록 조회 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패")
@@ -167,7 +174,35 @@ public class FollowController {
     @GetMapping("/followings/{profileId}")
     public ResponseEntity<ApiResponse<List<FollowResponseDto>>> getProfileFollowings(
             @Parameter(name = "profileId", description = "팔로잉 목록을 조회할 프로필 ID", required = true, example = "6", in = ParameterIn.PATH)
-            @PathVariable("profileId") Integer profileId) {
+            @PathVariable("profileId") Integer profileId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본값: 20, 최대: 100)", example = "20")
+            @RequestParam(required = false) Integer size) {
+        
+        Integer loggedInUserId = getCurrentUserId();
+        
+        // 인증 정보가 없으면 401 Unauthorized 반환
+        if (loggedInUserId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("로그인이 필요한 서비스입니다."));
+        }
+        
+        CursorPage<List<FollowResponseDto>> page = followService.getProfileFollowings(profileId, loggedInUserId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.successWithCursor("팔로잉 목록 조회에 성공했습니다.", page));
+    }
+
+    @Operation(summary = "알 수도 있는 사람 조회", description = "내가 팔로우하는 사용자들이 팔로우하는 사용자를 공통 팔로우 수가 많은 순으로 조회합니다. 로그인이 필요한 기능입니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "추천 목록 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/suggestions")
+    public ResponseEntity<ApiResponse<List<FollowSuggestionDto>>> getFollowSuggestions(
+            @Parameter(description = "페이지 번호 (1부터 시작, 기본값: 1)", example = "1")
+            @RequestParam(required = false) Integer page,
+            @Parameter(description = "페이지 크기 (기본값: 20, 최대: 100)", example = "20")
+            @RequestParam(required = false) Integer size) {
         
         Integer loggedInUserId = getCurrentUserId();
         
@@ -177,8 +212,8 @@ public class FollowController {
                     .body(ApiResponse.error("로그인이 필요한 서비스입니다."));
         }
         
-        List<FollowResponseDto> followings = followService.getProfileFollowings(profileId, loggedInUserId);
-        return ResponseEntity.ok(ApiResponse.success("팔로잉 목록 조회에 성공했습니다.", followings));
+        List<FollowSuggestionDto> suggestions = followService.getFollowSuggestions(loggedInUserId, page, size);
+        return ResponseEntity.ok(ApiResponse.success("알 수도 있는 사람 조회에 성공했습니다.", suggestions));
     }
 
     @Operation(summary = "프로필 팔로워 수 조회", description = "특정 프로필의 팔로워 수를 조회합니다. 로그인이 필요한 기능입니다.")
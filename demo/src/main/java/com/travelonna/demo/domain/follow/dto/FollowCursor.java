@@ -0,0 +1,33 @@
+package com.travelonna.demo.domain.follow.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 팔로워/팔로잉 목록 키셋 페이지네이션 커서 (f_id, 최근 팔로우 순)
+ * 클라이언트에는 Base64 URL-safe 문자열로만 노출된다.
+ */
+public final class FollowCursor {
+
+    private FollowCursor() {
+    }
+
+    // 커서 문자열이 없으면 첫 페이지(상한값), 있으면 해당 팔로우 ID 이전
+    public static int decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Integer.MAX_VALUE;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Integer.parseInt(decoded);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+
+    public static String encode(Integer followId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(followId).getBytes(StandardCharsets.UTF_8));
+    }
+}
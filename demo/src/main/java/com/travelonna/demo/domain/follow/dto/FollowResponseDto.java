@@ -1,6 +1,8 @@
 package com.travelonna.demo.domain.follow.dto;
 
 import com.travelonna.demo.domain.follow.entity.Follow;
+import com.travelonna.demo.domain.user.entity.Profile;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,6 +18,9 @@ public class FollowResponseDto {
     private Integer toUser;
     private Integer profileId;
     private boolean isFollowing;
+    // 목록에 표시되는 사용자(팔로워 목록은 fromUser, 팔로잉 목록은 toUser)의 프로필 정보
+    private String nickname;
+    private String profileImage;
     
     public static FollowResponseDto fromEntity(Follow follow, boolean isFollowing) {
         return FollowResponseDto.builder()
@@ -26,4 +31,16 @@ public class FollowResponseDto {
                 .isFollowing(isFollowing)
                 .build();
     }
+    
+    public static FollowResponseDto fromEntity(Follow follow, boolean isFollowing, Profile listedProfile) {
+        return FollowResponseDto.builder()
+                .id(follow.getId())
+                .fromUser(follow.getFromUser())
+                .toUser(follow.getToUser())
+                .profileId(follow.getProfileId())
+                .isFollowing(isFollowing)
+                .nickname(listedProfile != null ? listedProfile.getNickname() : null)
+                .profileImage(listedProfile != null ? listedProfile.getProfileImage() : null)
+                .build();
+    }
 } 
\ No newline at end of file
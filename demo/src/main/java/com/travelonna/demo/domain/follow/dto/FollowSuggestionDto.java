@@ -0,0 +1,19 @@
+package com.travelonna.demo.domain.follow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FollowSuggestionDto {
+    private Integer userId;
+    private Integer profileId;
+    private String nickname;
+    private String profileImage;
+    // 내가 팔로우하는 사용자 중 이 사용자를 팔로우하는 사람 수
+    private Integer mutualFollowCount;
+}
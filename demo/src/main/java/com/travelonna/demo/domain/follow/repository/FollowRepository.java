@@ -1,9 +1,13 @@
 package com.travelonna.demo.domain.follow.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.travelonna.demo.domain.follow.entity.Follow;
@@ -14,9 +18,31 @@ public interface FollowRepository extends JpaRepository<Follow, Integer> {
     // 특정 사용자가 팔로우하는 모든 관계 조회
     List<Follow> findAllByFromUser(Integer fromUser);
     
+    // 특정 사용자가 팔로우하는 사용자 ID (오름차순, 팔로우 그래프 로딩용)
+    @Query("SELECT f.toUser FROM Follow f WHERE f.fromUser = :fromUser AND f.toUser IS NOT NULL ORDER BY f.toUser")
+    List<Integer> findFolloweeIds(@Param("fromUser") Integer fromUser);
+    
+    // 여러 사용자의 팔로우 관계 (fromUser, toUser) 쌍, 사용자별/대상 ID 오름차순 (팔로우 그래프 일괄 로딩용)
+    @Query("SELECT f.fromUser, f.toUser FROM Follow f " +
+           "WHERE f.fromUser IN :fromUsers AND f.toUser IS NOT NULL " +
+           "ORDER BY f.fromUser, f.toUser")
+    List<Object[]> findFollowEdges(@Param("fromUsers") Collection<Integer> fromUsers);
+    
     // 특정 사용자를 팔로우하는 모든 관계 조회
     List<Follow> findAllByToUser(Integer toUser);
     
+    // 특정 사용자의 팔로워 (f_id 역순 키셋 페이지)
+    @Query("SELECT f FROM Follow f WHERE f.toUser = :toUser AND f.id < :followId ORDER BY f.id DESC")
+    List<Follow> findFollowersBefore(@Param("toUser") Integer toUser,
+                                     @Param("followId") Integer followId,
+                                     Pageable pageable);
+    
+    // 특정 사용자의 팔로잉 (f_id 역순 키셋 페이지)
+    @Query("SELECT f FROM Follow f WHERE f.fromUser = :fromUser AND f.id < :followId ORDER BY f.id DESC")
+    List<Follow> findFollowingsBefore(@Param("fromUser") Integer fromUser,
+                                      @Param("followId") Integer followId,
+                                      Pageable pageable);
+    
     // 특정 프로필을 팔로우하는 모든 관계 조회
     List<Follow> findAllByProfileId(Integer profileId);
     
@@ -26,8 +52,8 @@ public interface FollowRepository extends JpaRepository<Follow, Integer> {
     // 특정 사용자가 특정 프로필을 팔로우하는지 확인
     Optional<Follow> findByFromUserAndProfileId(Integer fromUser, Integer profileId);
     
-    // 특정 사용자가 특정 사용자를 팔로우하는 관계 삭제
-    void deleteByFromUserAndToUser(Integer fromUser, Integer toUser);
+    // 특정 사용자가 특정 사용자를 팔로우하는 관계 삭제 (삭제된 행 수 반환)
+    long deleteByFromUserAndToUser(Integer fromUser, Integer toUser);
     
     // 특정 사용자가 특정 프로필을 팔로우하는 관계 삭제
     void deleteByFromUserAndProfileId(Integer fromUser, Integer profileId);
@@ -0,0 +1,49 @@
+package com.travelonna.demo.domain.follow.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.travelonna.demo.domain.user.repository.ProfileRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로필 팔로워/팔로잉 카운터 보정 작업
+ *
+ * 카운터는 FollowService에서 원자적 UPDATE로 증감되지만,
+ * 외부에서 follow 행이 직접 삭제되거나 팔로우 이후 프로필이 새로 만들어진 경우 실제 개수와 어긋날 수 있다.
+ * profile_id 범위 단위로 나누어 어긋난 행만 다시 계산한다. (범위마다 별도 트랜잭션으로 잠금 시간 최소화)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowCounterReconciler {
+
+    private final ProfileRepository profileRepository;
+
+    @Value("${follow.counter.reconcile-chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${follow.counter.reconcile-cron:0 50 4 * * *}")
+    public void reconcile() {
+        Integer maxProfileId = profileRepository.findMaxProfileId();
+        int repaired = 0;
+
+        for (int fromId = 1; fromId <= maxProfileId; fromId += chunkSize) {
+            int toId = fromId + chunkSize - 1;
+            try {
+                repaired += profileRepository.reconcileFollowCounters(fromId, toId);
+            } catch (Exception e) {
+                log.warn("팔로우 카운터 보정 실패: profileId {}~{}", fromId, toId, e);
+            }
+        }
+
+        if (repaired > 0) {
+            log.info("팔로우 카운터 보정 완료: 보정된 프로필 수={}", repaired);
+        } else {
+            log.debug("팔로우 카운터 보정 완료: 불일치 없음");
+        }
+    }
+}
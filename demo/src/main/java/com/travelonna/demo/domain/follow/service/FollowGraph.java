@@ -0,0 +1,274 @@
+package com.travelonna.demo.domain.follow.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.travelonna.demo.domain.follow.repository.FollowRepository;
+
+/**
+ * 팔로우 그래프 (프로세스 내, 사용자별 팔로잉 집합 LRU + TTL)
+ *
+ * 사용자별 팔로잉 대상 ID를 정렬된 int 배열로 보관하여 팔로우 여부(이진 탐색), 교집합, 개수를 메모리에서 계산한다.
+ * 처음 조회할 때 DB에서 읽어 오고, 팔로우/언팔로우는 커밋 후 새 배열로 교체해 반영한다. (원본은 항상 DB)
+ * 다중 인스턴스 환경에서는 TTL 동안 다른 인스턴스의 변경이 늦게 반영될 수 있다.
+ */
+@Component
+public class FollowGraph {
+
+    private static final int[] EMPTY = new int[0];
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final FollowRepository followRepository;
+    private final int maxUsers;
+    private final long ttlMillis;
+    private final LinkedHashMap<Integer, Followees> followees;
+    // 로딩 중인 사용자별 변경 버전 (로딩 도중 그 사용자의 팔로우 변경이 반영되면 오래된 로딩 결과를 저장하지 않음)
+    private final LoadVersions loadVersions = new LoadVersions();
+
+    public FollowGraph(FollowRepository followRepository,
+                       @Value("${follow.graph.max-users:100000}") int maxUsers,
+                       @Value("${follow.graph.ttl-seconds:600}") long ttlSeconds) {
+        this.followRepository = followRepository;
+        this.maxUsers = maxUsers;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.followees = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Followees> eldest) {
+                return size() > FollowGraph.this.maxUsers;
+            }
+        };
+    }
+
+    /**
+     * 사용자가 팔로우하는 사용자 ID (오름차순, 중복 없음, 수정 금지)
+     */
+    public int[] followeesOf(Integer userId) {
+        if (userId == null) {
+            return EMPTY;
+        }
+        int[] cached = getCached(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = beginLoad(userId);
+        try {
+            int[] loaded = followRepository.findFolloweeIds(userId).stream()
+                    .mapToInt(Integer::intValue)
+                    .distinct()
+                    .toArray();
+            putIfUnchanged(userId, loaded, version);
+            return loaded;
+        } finally {
+            endLoads(List.of(userId));
+        }
+    }
+
+    /**
+     * 여러 사용자의 팔로잉 집합 (입력 순서와 같은 순서, 캐시에 없는 사용자는 IN 쿼리로 나누어 한 번에 로딩)
+     */
+    public int[][] followeesOfAll(int[] userIds) {
+        int[][] result = new int[userIds.length][];
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < userIds.length; i++) {
+            result[i] = getCached(userIds[i]);
+            if (result[i] == null) {
+                missing.add(userIds[i]);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        long[] versions = beginLoads(missing);
+        try {
+            Map<Integer, int[]> loaded = new HashMap<>();
+            for (int from = 0; from < missing.size(); from += LOAD_CHUNK_SIZE) {
+                List<Integer> chunk = missing.subList(from, Math.min(from + LOAD_CHUNK_SIZE, missing.size()));
+                loadEdges(chunk, loaded);
+            }
+            // missing은 result의 빈 칸과 같은 순서
+            int next = 0;
+            for (int i = 0; i < userIds.length; i++) {
+                if (result[i] == null) {
+                    result[i] = loaded.getOrDefault(userIds[i], EMPTY);
+                    putIfUnchanged(userIds[i], result[i], versions[next++]);
+                }
+            }
+            return result;
+        } finally {
+            endLoads(missing);
+        }
+    }
+
+    // 결과가 (fromUser, toUser) 순으로 정렬되어 있으므로 연속 구간을 한 사용자의 배열로 묶음
+    private void loadEdges(List<Integer> fromUsers, Map<Integer, int[]> loaded) {
+        List<Object[]> edges = followRepository.findFollowEdges(fromUsers);
+        int start = 0;
+        while (start < edges.size()) {
+            int fromUser = ((Number) edges.get(start)[0]).intValue();
+            int end = start;
+            while (end < edges.size() && ((Number) edges.get(end)[0]).intValue() == fromUser) {
+                end++;
+            }
+            loaded.put(fromUser, IntStream.range(start, end)
+                    .map(i -> ((Number) edges.get(i)[1]).intValue())
+                    .distinct()
+                    .toArray());
+            start = end;
+        }
+    }
+
+    public boolean isFollowing(Integer fromUser, Integer toUser) {
+        return toUser != null && Arrays.binarySearch(followeesOf(fromUser), toUser) >= 0;
+    }
+
+    public int followeeCount(Integer userId) {
+        return followeesOf(userId).length;
+    }
+
+    /**
+     * 두 사용자가 공통으로 팔로우하는 사용자 ID (오름차순)
+     */
+    public int[] commonFollowees(Integer userA, Integer userB) {
+        return intersect(followeesOf(userA), followeesOf(userB));
+    }
+
+    /**
+     * 정렬된 두 배열의 교집합 (한쪽이 훨씬 작으면 작은 쪽 원소를 큰 쪽에서 이진 탐색)
+     */
+    public static int[] intersect(int[] a, int[] b) {
+        if (a.length > b.length) {
+            int[] swap = a;
+            a = b;
+            b = swap;
+        }
+        int[] result = new int[a.length];
+        int size = 0;
+        if ((long) a.length * 32 < b.length) {
+            for (int value : a) {
+                if (Arrays.binarySearch(b, value) >= 0) {
+                    result[size++] = value;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) {
+                    i++;
+                } else if (a[i] > b[j]) {
+                    j++;
+                } else {
+                    result[size++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    // 팔로우 생성 반영 (커밋 후)
+    public void onFollowed(Integer fromUser, Integer toUser) {
+        afterCommit(() -> update(fromUser, toUser, true));
+    }
+
+    // 팔로우 삭제 반영 (커밋 후)
+    public void onUnfollowed(Integer fromUser, Integer toUser) {
+        afterCommit(() -> update(fromUser, toUser, false));
+    }
+
+    private synchronized void update(Integer fromUser, Integer toUser, boolean follow) {
+        loadVersions.bump(fromUser);
+        Followees current = followees.get(fromUser);
+        if (current == null) {
+            return;
+        }
+        int index = Arrays.binarySearch(current.ids, toUser);
+        int[] updated;
+        if (follow && index < 0) {
+            int insertAt = -index - 1;
+            updated = new int[current.ids.length + 1];
+            System.arraycopy(current.ids, 0, updated, 0, insertAt);
+            updated[insertAt] = toUser;
+            System.arraycopy(current.ids, insertAt, updated, insertAt + 1, current.ids.length - insertAt);
+        } else if (!follow && index >= 0) {
+            updated = new int[current.ids.length - 1];
+            System.arraycopy(current.ids, 0, updated, 0, index);
+            System.arraycopy(current.ids, index + 1, updated, index, current.ids.length - index - 1);
+        } else {
+            return;
+        }
+        followees.put(fromUser, new Followees(updated, current.expiresAt));
+    }
+
+    private synchronized int[] getCached(Integer userId) {
+        Followees cached = followees.get(userId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt < System.currentTimeMillis()) {
+            followees.remove(userId);
+            return null;
+        }
+        return cached.ids;
+    }
+
+    private long beginLoad(Integer userId) {
+        return beginLoads(List.of(userId))[0];
+    }
+
+    // 로딩 시작 시점의 사용자별 변경 버전 (반드시 endLoads로 해제)
+    private synchronized long[] beginLoads(List<Integer> userIds) {
+        long[] versions = new long[userIds.size()];
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = loadVersions.begin(userIds.get(i));
+        }
+        return versions;
+    }
+
+    private synchronized void endLoads(List<Integer> userIds) {
+        userIds.forEach(loadVersions::end);
+    }
+
+    // 로딩 시작 이후 이 사용자의 팔로우 변경이 없었을 때만 저장
+    private synchronized void putIfUnchanged(Integer userId, int[] ids, long versionBefore) {
+        if (loadVersions.isCurrent(userId, versionBefore)) {
+            followees.put(userId, new Followees(ids, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static class Followees {
+        private final int[] ids;
+        private final long expiresAt;
+
+        private Followees(int[] ids, long expiresAt) {
+            this.ids = ids;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
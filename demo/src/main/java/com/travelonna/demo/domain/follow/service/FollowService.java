@@ -1,17 +1,28 @@
 package com.travelonna.demo.domain.follow.service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.travelonna.demo.domain.follow.dto.FollowCursor;
 import com.travelonna.demo.domain.follow.dto.FollowResponseDto;
+import com.travelonna.demo.domain.follow.dto.FollowSuggestionDto;
 import com.travelonna.demo.domain.follow.entity.Follow;
 import com.travelonna.demo.domain.follow.repository.FollowRepository;
+import com.travelonna.demo.domain.log.service.FollowingTimelineCache;
 import com.travelonna.demo.domain.user.entity.Profile;
+import com.travelonna.demo.domain.user.repository.ProfileRepository;
 import com.travelonna.demo.domain.user.service.ProfileService;
+import com.travelonna.demo.global.common.CursorPage;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +34,13 @@ public class FollowService {
 
     private final FollowRepository followRepository;
     private final ProfileService profileService;
+    private final ProfileRepository profileRepository;
+    private final FollowingTimelineCache followingTimelineCache;
+    private final FollowGraph followGraph;
+    private final FollowSuggestionEngine followSuggestionEngine;
+    
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
     /**
      * 프로필 팔로우하기
@@ -87,6 +105,11 @@ public class FollowService {
             
             Follow savedFollow = followRepository.save(follow);
             log.info("팔로우 관계가 생성되었습니다. ID: {}", savedFollow.getId());
+            profileRepository.adjustFollowingCount(fromUser, 1);
+            profileRepository.adjustFollowerCount(toUser, 1);
+            followingTimelineCache.invalidateViewer(fromUser);
+            followGraph.onFollowed(fromUser, toUser);
+            followSuggestionEngine.invalidate(fromUser);
             
             return FollowResponseDto.fromEntity(savedFollow, true);
         } catch (Exception e) {
@@ -119,8 +142,15 @@ public class FollowService {
             }
             
             // 팔로우 관계 삭제
-            followRepository.deleteByFromUserAndToUser(fromUser, toUser);
+            long deleted = followRepository.deleteByFromUserAndToUser(fromUser, toUser);
             log.info("팔로우 관계가 삭제되었습니다");
+            if (deleted > 0) {
+                profileRepository.adjustFollowingCount(fromUser, (int) -deleted);
+                profileRepository.adjustFollowerCount(toUser, (int) -deleted);
+            }
+            followingTimelineCache.invalidateViewer(fromUser);
+            followGraph.onUnfollowed(fromUser, toUser);
+            followSuggestionEngine.invalidate(fromUser);
         } catch (Exception e) {
             log.error("언팔로우 처리 중 오류가 발생했습니다: {}", e.getMessage(), e);
             throw new RuntimeException("언팔로우 처리 중 오류가 발생했습니다: " + e.getMessage());
@@ -142,7 +172,7 @@ public class FollowService {
         }
         
         try {
-            return followRepository.findByFromUserAndToUser(fromUser, toUser).isPresent();
+            return followGraph.isFollowing(fromUser, toUser);
         } catch (Exception e) {
             log.error("팔로우 상태 확인 중 오류가 발생했습니다: {}", e.getMessage(), e);
             throw new RuntimeException("팔로우 상태 확인 중 오류가 발생했습니다: " + e.getMessage());
@@ -150,12 +180,15 @@ public class FollowService {
     }
     
     /**
-     * 프로필의 팔로워 목록 조회
+     * 프로필의 팔로워 목록 조회 (최근 팔로우 순, 커서 기반 페이지네이션)
      * @param profileId 조회할 프로필 ID
      * @param currentUserId 현재 로그인한 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (기본 20, 최대 100)
      */
     @Transactional(readOnly = true)
-    public List<FollowResponseDto> getProfileFollowers(Integer profileId, Integer currentUserId) {
+    public CursorPage<List<FollowResponseDto>> getProfileFollowers(Integer profileId, Integer currentUserId,
+                                                                  String cursor, Integer size) {
         log.info("프로필 ID: {}의 팔로워 목록을 조회합니다", profileId);
         
         // 입력값 검증
@@ -163,6 +196,8 @@ public class FollowService {
             log.error("프로필 ID가 null입니다.");
             throw new IllegalArgumentException("프로필 ID가 null입니다.");
         }
+        int followCursor = FollowCursor.decode(cursor);
+        int pageSize = normalizePageSize(size);
         
         try {
             // 프로필 ID로 사용자 ID 조회
@@ -171,19 +206,11 @@ public class FollowService {
             
             log.info("프로필 ID: {}의 사용자 ID: {}에 대한 팔로워 목록을 조회합니다", profileId, userId);
             
-            // 해당 사용자를 팔로우하는 모든 사용자 목록 조회
-            List<Follow> followers = followRepository.findAllByToUser(userId);
+            // 해당 사용자를 팔로우하는 관계 한 페이지 조회 (size + 1개로 다음 페이지 여부 판단)
+            List<Follow> followers = followRepository.findFollowersBefore(userId, followCursor,
+                    PageRequest.of(0, pageSize + 1));
             
-            return followers.stream()
-                    .map(follow -> {
-                        boolean isFollowing = false;
-                        if (currentUserId != null) {
-                            // 현재 로그인한 사용자가 이 팔로워를 팔로우하고 있는지 확인
-                            isFollowing = followRepository.findByFromUserAndToUser(currentUserId, follow.getFromUser()).isPresent();
-                        }
-                        return FollowResponseDto.fromEntity(follow, isFollowing);
-                    })
-                    .collect(Collectors.toList());
+            return toFollowPage(followers, pageSize, Follow::getFromUser, currentUserId);
         } catch (Exception e) {
             log.error("팔로워 목록 조회 중 오류가 발생했습니다: {}", e.getMessage(), e);
             throw new RuntimeException("팔로워 목록 조회 중 오류가 발생했습니다: " + e.getMessage());
@@ -191,12 +218,15 @@ public class FollowService {
     }
     
     /**
-     * 사용자의 팔로잉 목록 조회
+     * 사용자의 팔로잉 목록 조회 (최근 팔로우 순, 커서 기반 페이지네이션)
      * @param userId 조회할 사용자 ID
      * @param currentUserId 현재 로그인한 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (기본 20, 최대 100)
      */
     @Transactional(readOnly = true)
-    public List<FollowResponseDto> getUserFollowings(Integer userId, Integer currentUserId) {
+    public CursorPage<List<FollowResponseDto>> getUserFollowings(Integer userId, Integer currentUserId,
+                                                                String cursor, Integer size) {
         log.info("사용자 ID: {}의 팔로잉 목록을 조회합니다", userId);
         
         // 입력값 검증
@@ -204,24 +234,15 @@ public class FollowService {
             log.error("사용자 ID가 null입니다.");
             throw new IllegalArgumentException("사용자 ID가 null입니다.");
         }
+        int followCursor = FollowCursor.decode(cursor);
+        int pageSize = normalizePageSize(size);
         
         try {
-            // 해당 사용자가 팔로우하는 모든 프로필 목록 조회
-            List<Follow> followings = followRepository.findAllByFromUser(userId);
+            // 해당 사용자가 팔로우하는 관계 한 페이지 조회 (size + 1개로 다음 페이지 여부 판단)
+            List<Follow> followings = followRepository.findFollowingsBefore(userId, followCursor,
+                    PageRequest.of(0, pageSize + 1));
             
-            return followings.stream()
-                    .map(follow -> {
-                        boolean isFollowing = false;
-                        if (currentUserId != null && currentUserId.equals(userId)) {
-                            // 자신의 팔로잉 목록을 조회하는 경우 항상 true
-                            isFollowing = true;
-                        } else if (currentUserId != null) {
-                            // 현재 로그인한 사용자가 이 팔로잉 대상을 팔로우하고 있는지 확인
-                            isFollowing = followRepository.findByFromUserAndToUser(currentUserId, follow.getToUser()).isPresent();
-                        }
-                        return FollowResponseDto.fromEntity(follow, isFollowing);
-                    })
-                    .collect(Collectors.toList());
+            return toFollowPage(followings, pageSize, Follow::getToUser, currentUserId);
         } catch (Exception e) {
             log.error("팔로잉 목록 조회 중 오류가 발생했습니다: {}", e.getMessage(), e);
             throw new RuntimeException("팔로잉 목록 조회 중 오류가 발생했습니다: " + e.getMessage());
@@ -248,8 +269,8 @@ public class FollowService {
             
             log.info("프로필 ID: {}의 사용자 ID: {}에 대한 팔로워 수를 조회합니다", profileId, userId);
             
-            // 해당 사용자를 팔로우하는 수 조회
-            return followRepository.countByToUser(userId);
+            // 프로필에 저장된 팔로워 수 (follow 테이블 COUNT 없음)
+            return profile.getFollowerCount();
         } catch (Exception e) {
             log.error("팔로워 수 조회 중 오류가 발생했습니다: {}", e.getMessage(), e);
             throw new RuntimeException("팔로워 수 조회 중 오류가 발생했습니다: " + e.getMessage());
@@ -276,8 +297,8 @@ public class FollowService {
             
             log.info("프로필 ID: {}의 사용자 ID: {}에 대한 팔로잉 수를 조회합니다", profileId, userId);
             
-            // 해당 사용자가 팔로우하는 수 조회
-            return followRepository.countByFromUser(userId);
+            // 프로필에 저장된 팔로잉 수 (follow 테이블 COUNT 없음)
+            return profile.getFollowingCount();
         } catch (Exception e) {
             log.error("팔로잉 수 조회 중 오류가 발생했습니다: {}", e.getMessage(), e);
             throw new RuntimeException("팔로잉 수 조회 중 오류가 발생했습니다: " + e.getMessage());
@@ -285,13 +306,16 @@ public class FollowService {
     }
     
     /**
-     * 프로필의 팔로잉 목록 조회
+     * 프로필의 팔로잉 목록 조회 (최근 팔로우 순, 커서 기반 페이지네이션)
      * @param profileId 조회할 프로필 ID
      * @param currentUserId 현재 로그인한 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (기본 20, 최대 100)
      * @return 팔로잉 목록
      */
     @Transactional(readOnly = true)
-    public List<FollowResponseDto> getProfileFollowings(Integer profileId, Integer currentUserId) {
+    public CursorPage<List<FollowResponseDto>> getProfileFollowings(Integer profileId, Integer currentUserId,
+                                                                   String cursor, Integer size) {
         log.info("프로필 ID: {}의 팔로잉 목록을 조회합니다", profileId);
         
         // 입력값 검증
@@ -300,32 +324,99 @@ public class FollowService {
             throw new IllegalArgumentException("프로필 ID가 null입니다.");
         }
         
+        Integer userId;
         try {
             // 프로필 ID로 사용자 ID 조회
-            Profile profile = profileService.getProfileById(profileId);
-            Integer userId = profile.getUserId();
-            
-            log.info("프로필 ID: {}의 사용자 ID: {}에 대한 팔로잉 목록을 조회합니다", profileId, userId);
-            
-            // 해당 사용자가 팔로우하는 모든 프로필 목록 조회
-            List<Follow> followings = followRepository.findAllByFromUser(userId);
-            
-            return followings.stream()
-                    .map(follow -> {
-                        boolean isFollowing = false;
-                        if (currentUserId != null && currentUserId.equals(userId)) {
-                            // 자신의 팔로잉 목록을 조회하는 경우 항상 true
-                            isFollowing = true;
-                        } else if (currentUserId != null) {
-                            // 현재 로그인한 사용자가 이 팔로잉 대상을 팔로우하고 있는지 확인
-                            isFollowing = followRepository.findByFromUserAndToUser(currentUserId, follow.getToUser()).isPresent();
-                        }
-                        return FollowResponseDto.fromEntity(follow, isFollowing);
-                    })
-                    .collect(Collectors.toList());
+            userId = profileService.getProfileById(profileId).getUserId();
         } catch (Exception e) {
             log.error("팔로잉 목록 조회 중 오류가 발생했습니다: {}", e.getMessage(), e);
             throw new RuntimeException("팔로잉 목록 조회 중 오류가 발생했습니다: " + e.getMessage());
         }
+        
+        log.info("프로필 ID: {}의 사용자 ID: {}에 대한 팔로잉 목록을 조회합니다", profileId, userId);
+        return getUserFollowings(userId, currentUserId, cursor, size);
+    }
+    
+    /**
+     * 알 수도 있는 사람 목록 (공통 팔로우 수 순, 페이지 단위)
+     * @param userId 현재 로그인한 사용자 ID
+     * @param page 페이지 번호 (1부터, 기본 1)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     */
+    @Transactional(readOnly = true)
+    public List<FollowSuggestionDto> getFollowSuggestions(Integer userId, Integer page, Integer size) {
+        // 입력값 검증
+        if (userId == null) {
+            log.error("사용자 ID가 null입니다.");
+            throw new IllegalArgumentException("사용자 ID가 null입니다.");
+        }
+        int pageNumber = page != null && page > 0 ? page : 1;
+        int pageSize = normalizePageSize(size);
+        
+        FollowSuggestionEngine.Suggestions suggestions = followSuggestionEngine.suggestionsFor(userId);
+        int from = (int) Math.min((long) (pageNumber - 1) * pageSize, suggestions.size());
+        int to = Math.min(from + pageSize, suggestions.size());
+        
+        List<Integer> suggestedUserIds = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            suggestedUserIds.add(suggestions.userIdAt(i));
+        }
+        Map<Integer, Profile> profiles = profileService.getProfilesByUserIds(suggestedUserIds);
+        
+        // 프로필이 없는 사용자(탈퇴 등)는 제외
+        List<FollowSuggestionDto> result = new ArrayList<>(suggestedUserIds.size());
+        for (int i = from; i < to; i++) {
+            Profile profile = profiles.get(suggestions.userIdAt(i));
+            if (profile == null) {
+                continue;
+            }
+            result.add(FollowSuggestionDto.builder()
+                    .userId(profile.getUserId())
+                    .profileId(profile.getProfileId())
+                    .nickname(profile.getNickname())
+                    .profileImage(profile.getProfileImage())
+                    .mutualFollowCount(suggestions.mutualCountAt(i))
+                    .build());
+        }
+        
+        log.info("알 수도 있는 사람 조회: userId={}, 페이지={}, 결과 수={}, 전체 후보 수={}",
+                userId, pageNumber, result.size(), suggestions.size());
+        return result;
+    }
+    
+    /**
+     * 팔로우 관계 페이지를 응답으로 변환
+     * 목록에 표시할 사용자들의 프로필은 IN 쿼리 한 번으로 조회하고,
+     * 현재 사용자의 팔로우 여부는 팔로우 그래프(현재 사용자의 팔로잉 집합)에서 계산한다.
+     */
+    private CursorPage<List<FollowResponseDto>> toFollowPage(List<Follow> fetched, int pageSize,
+                                                            Function<Follow, Integer> listedUser,
+                                                            Integer currentUserId) {
+        boolean hasNext = fetched.size() > pageSize;
+        List<Follow> page = hasNext ? fetched.subList(0, pageSize) : fetched;
+        String nextCursor = hasNext ? FollowCursor.encode(page.get(page.size() - 1).getId()) : null;
+        
+        Set<Integer> listedUserIds = page.stream()
+                .map(listedUser)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Integer, Profile> profiles = profileService.getProfilesByUserIds(listedUserIds);
+        
+        List<FollowResponseDto> content = page.stream()
+                .map(follow -> {
+                    Integer listedUserId = listedUser.apply(follow);
+                    boolean isFollowing = currentUserId != null && followGraph.isFollowing(currentUserId, listedUserId);
+                    return FollowResponseDto.fromEntity(follow, isFollowing, profiles.get(listedUserId));
+                })
+                .collect(Collectors.toList());
+        return new CursorPage<>(content, nextCursor);
+    }
+    
+    // 페이지 크기 보정 (기본 20, 최대 100)
+    private int normalizePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,328 @@
+package com.travelonna.demo.domain.follow.service;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알 수도 있는 사람 추천 (친구의 친구, 프로세스 내 계산 + 사용자별 LRU/TTL 캐시)
+ *
+ * 내가 팔로우하는 사용자들의 팔로잉 집합(FollowGraph의 정렬된 int 배열)에서 나와 이미 팔로우한 사용자를 뺀 뒤,
+ * 후보별로 "나의 팔로잉 중 몇 명이 팔로우하는지"(공통 팔로우 수)를 센다.
+ * 팔로잉 목록을 구간으로 나누어 ForkJoinPool에서 병렬로 계산하고, 구간 결과는 (ID 오름차순 후보, 개수) 배열의 병합으로 합친다.
+ * 공통 팔로우 수 내림차순(같으면 사용자 ID 오름차순)으로 상위 max-candidates명만 캐시한다.
+ * 팔로잉이 max-followees명보다 많으면 사용자 ID를 시드로 한 무작위 표본 max-followees명만 기준으로 계산한다.
+ */
+@Slf4j
+@Component
+public class FollowSuggestionEngine {
+
+    // 이 수 이하의 팔로잉 구간은 한 작업에서 순차 처리
+    private static final int SEQUENTIAL_THRESHOLD = 16;
+
+    private final FollowGraph followGraph;
+    private final ForkJoinPool pool;
+    private final int maxFollowees;
+    private final int maxCandidates;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<Integer, Suggestions> cache;
+    // 계산 중인 사용자별 무효화 버전 (계산 도중 무효화된 사용자의 오래된 결과를 저장하지 않음)
+    private final LoadVersions computeVersions = new LoadVersions();
+
+    public FollowSuggestionEngine(FollowGraph followGraph,
+                                  @Value("${follow.suggestion.parallelism:4}") int parallelism,
+                                  @Value("${follow.suggestion.max-followees:500}") int maxFollowees,
+                                  @Value("${follow.suggestion.max-candidates:200}") int maxCandidates,
+                                  @Value("${follow.suggestion.cache.max-size:10000}") int maxSize,
+                                  @Value("${follow.suggestion.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.followGraph = followGraph;
+        this.pool = new ForkJoinPool(parallelism);
+        this.maxFollowees = maxFollowees;
+        this.maxCandidates = maxCandidates;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Suggestions> eldest) {
+                return size() > FollowSuggestionEngine.this.maxSize;
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 사용자에게 추천할 사용자 목록 (공통 팔로우 수 순, 캐시 우선)
+     */
+    public Suggestions suggestionsFor(Integer userId) {
+        Suggestions cached = getCached(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long start = System.currentTimeMillis();
+        long version = beginCompute(userId);
+        try {
+            Suggestions computed = compute(userId);
+            putIfUnchanged(userId, computed, version);
+            log.debug("알 수도 있는 사람 계산: userId={}, 후보 수={}, 소요 시간={}ms",
+                    userId, computed.size(), System.currentTimeMillis() - start);
+            return computed;
+        } finally {
+            endCompute(userId);
+        }
+    }
+
+    // 팔로우 관계가 바뀐 사용자의 추천 제거 (커밋 후)
+    public void invalidate(Integer userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(userId);
+                }
+            });
+        } else {
+            remove(userId);
+        }
+    }
+
+    private Suggestions compute(Integer userId) {
+        int[] myFollowees = followGraph.followeesOf(userId);
+        if (myFollowees.length == 0) {
+            return Suggestions.EMPTY;
+        }
+
+        int[] sources = myFollowees.length > maxFollowees ? sample(myFollowees, maxFollowees, userId) : myFollowees;
+        int[][] neighborFollowees = followGraph.followeesOfAll(sources);
+
+        Candidates candidates = pool.invoke(new MutualCountTask(neighborFollowees, myFollowees, userId, 0, sources.length));
+        return rank(candidates, maxCandidates);
+    }
+
+    /**
+     * 팔로잉 중 count명 무작위 표본 (오름차순)
+     *
+     * 팔로우 시각을 저장하지 않아 최근 팔로우 기준으로 고를 수 없고, 앞쪽(작은 ID)만 쓰면 오래된 계정으로 치우치므로
+     * 전체 팔로잉에서 고르게 뽑는다. 시드가 사용자 ID라서 캐시가 만료되어 다시 계산해도 같은 표본이 나온다.
+     */
+    static int[] sample(int[] followees, int count, long seed) {
+        int[] shuffled = followees.clone();
+        Random random = new Random(seed);
+        // 앞쪽 count칸만 채우는 부분 Fisher-Yates
+        for (int i = 0; i < count; i++) {
+            int pick = i + random.nextInt(shuffled.length - i);
+            int swap = shuffled[i];
+            shuffled[i] = shuffled[pick];
+            shuffled[pick] = swap;
+        }
+        int[] sample = Arrays.copyOf(shuffled, count);
+        Arrays.sort(sample);
+        return sample;
+    }
+
+    // 공통 팔로우 수 내림차순, 사용자 ID 오름차순으로 상위 maxCandidates명 선택
+    static Suggestions rank(Candidates candidates, int maxCandidates) {
+        long[] keys = new long[candidates.size];
+        for (int i = 0; i < candidates.size; i++) {
+            keys[i] = ((long) (Integer.MAX_VALUE - candidates.counts[i]) << 32) | candidates.ids[i];
+        }
+        Arrays.sort(keys);
+
+        int size = Math.min(keys.length, maxCandidates);
+        int[] userIds = new int[size];
+        int[] mutualCounts = new int[size];
+        for (int i = 0; i < size; i++) {
+            userIds[i] = (int) keys[i];
+            mutualCounts[i] = Integer.MAX_VALUE - (int) (keys[i] >>> 32);
+        }
+        return new Suggestions(userIds, mutualCounts);
+    }
+
+    private synchronized Suggestions getCached(Integer userId) {
+        Suggestions cached = cache.get(userId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt < System.currentTimeMillis()) {
+            cache.remove(userId);
+            return null;
+        }
+        return cached;
+    }
+
+    private synchronized long beginCompute(Integer userId) {
+        return computeVersions.begin(userId);
+    }
+
+    private synchronized void endCompute(Integer userId) {
+        computeVersions.end(userId);
+    }
+
+    // 계산 시작 이후 무효화되지 않았을 때만 저장
+    private synchronized void putIfUnchanged(Integer userId, Suggestions suggestions, long versionBefore) {
+        if (suggestions != Suggestions.EMPTY && computeVersions.isCurrent(userId, versionBefore)) {
+            suggestions.expiresAt = System.currentTimeMillis() + ttlMillis;
+            cache.put(userId, suggestions);
+        }
+    }
+
+    private synchronized void remove(Integer userId) {
+        computeVersions.bump(userId);
+        cache.remove(userId);
+    }
+
+    /**
+     * 팔로잉 구간 [from, to)의 후보별 공통 팔로우 수
+     */
+    private static final class MutualCountTask extends RecursiveTask<Candidates> {
+        private final int[][] neighborFollowees;
+        private final int[] excluded;
+        private final int userId;
+        private final int from;
+        private final int to;
+
+        private MutualCountTask(int[][] neighborFollowees, int[] excluded, int userId, int from, int to) {
+            this.neighborFollowees = neighborFollowees;
+            this.excluded = excluded;
+            this.userId = userId;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Candidates compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                Candidates result = Candidates.NONE;
+                for (int i = from; i < to; i++) {
+                    result = Candidates.merge(result, Candidates.difference(neighborFollowees[i], excluded, userId));
+                }
+                return result;
+            }
+
+            int mid = (from + to) >>> 1;
+            MutualCountTask left = new MutualCountTask(neighborFollowees, excluded, userId, from, mid);
+            left.fork();
+            Candidates right = new MutualCountTask(neighborFollowees, excluded, userId, mid, to).compute();
+            return Candidates.merge(left.join(), right);
+        }
+    }
+
+    /**
+     * 후보 ID(오름차순)와 후보별 개수
+     */
+    static final class Candidates {
+        private static final Candidates NONE = new Candidates(new int[0], new int[0], 0);
+
+        private final int[] ids;
+        private final int[] counts;
+        private final int size;
+
+        private Candidates(int[] ids, int[] counts, int size) {
+            this.ids = ids;
+            this.counts = counts;
+            this.size = size;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int idAt(int index) {
+            return ids[index];
+        }
+
+        int countAt(int index) {
+            return counts[index];
+        }
+
+        // 정렬된 팔로잉 배열에서 이미 팔로우한 사용자(정렬된 excluded)와 본인을 뺀 후보 (개수 1)
+        static Candidates difference(int[] followees, int[] excluded, int userId) {
+            int[] ids = new int[followees.length];
+            int size = 0;
+            int j = 0;
+            for (int id : followees) {
+                while (j < excluded.length && excluded[j] < id) {
+                    j++;
+                }
+                if (id != userId && (j == excluded.length || excluded[j] != id)) {
+                    ids[size++] = id;
+                }
+            }
+            int[] counts = new int[size];
+            Arrays.fill(counts, 1);
+            return new Candidates(ids, counts, size);
+        }
+
+        // 두 후보 목록 병합 (같은 ID는 개수 합산)
+        static Candidates merge(Candidates a, Candidates b) {
+            if (a.size == 0) {
+                return b;
+            }
+            if (b.size == 0) {
+                return a;
+            }
+            int[] ids = new int[a.size + b.size];
+            int[] counts = new int[a.size + b.size];
+            int size = 0;
+            int i = 0;
+            int j = 0;
+            while (i < a.size || j < b.size) {
+                if (j == b.size || (i < a.size && a.ids[i] < b.ids[j])) {
+                    ids[size] = a.ids[i];
+                    counts[size++] = a.counts[i++];
+                } else if (i == a.size || b.ids[j] < a.ids[i]) {
+                    ids[size] = b.ids[j];
+                    counts[size++] = b.counts[j++];
+                } else {
+                    ids[size] = a.ids[i];
+                    counts[size++] = a.counts[i++] + b.counts[j++];
+                }
+            }
+            return new Candidates(ids, counts, size);
+        }
+    }
+
+    /**
+     * 추천 사용자 목록 (공통 팔로우 수 내림차순, 배열은 생성 후 수정하지 않음)
+     */
+    public static final class Suggestions {
+        private static final Suggestions EMPTY = new Suggestions(new int[0], new int[0]);
+
+        private final int[] userIds;
+        private final int[] mutualCounts;
+        private volatile long expiresAt;
+
+        private Suggestions(int[] userIds, int[] mutualCounts) {
+            this.userIds = userIds;
+            this.mutualCounts = mutualCounts;
+        }
+
+        public int size() {
+            return userIds.length;
+        }
+
+        public int userIdAt(int index) {
+            return userIds[index];
+        }
+
+        public int mutualCountAt(int index) {
+            return mutualCounts[index];
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.travelonna.demo.domain.follow.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 로딩 중인 사용자별 변경 버전 (캐시 로딩 도중 무효화/변경된 사용자의 오래된 결과를 저장하지 않기 위해 사용)
+ *
+ * 로딩 중인 사용자만 보관하므로 크기는 동시에 로딩 중인 사용자 수로 제한된다.
+ * 스레드 안전하지 않으므로 캐시의 락 안에서 begin → (bump) → isCurrent → end 순으로 사용한다.
+ */
+final class LoadVersions {
+
+    private final Map<Integer, Pending> pending = new HashMap<>();
+
+    // 로딩 시작 시점의 버전 (반드시 end로 해제)
+    long begin(Integer userId) {
+        Pending load = pending.computeIfAbsent(userId, id -> new Pending());
+        load.loads++;
+        return load.version;
+    }
+
+    void end(Integer userId) {
+        Pending load = pending.get(userId);
+        if (load != null && --load.loads == 0) {
+            pending.remove(userId);
+        }
+    }
+
+    // 사용자의 데이터가 바뀜 (로딩 중이 아니면 기록할 필요 없음)
+    void bump(Integer userId) {
+        Pending load = pending.get(userId);
+        if (load != null) {
+            load.version++;
+        }
+    }
+
+    // 로딩 시작 이후 bump되지 않았는지
+    boolean isCurrent(Integer userId, long versionBefore) {
+        Pending load = pending.get(userId);
+        return load != null && load.version == versionBefore;
+    }
+
+    private static final class Pending {
+        private long version;
+        private int loads;
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.travelonna.demo.domain.log.dto.LogRequestDto;
@@ -20,6 +21,7 @@ import com.travelonna.demo.domain.log.dto.LogResponseDto;
 import com.travelonna.demo.domain.log.service.LogService;
 import com.travelonna.demo.domain.user.repository.UserRepository;
 import com.travelonna.demo.global.common.ApiResponse;
+import com.travelonna.demo.global.common.CursorPage;
 import com.travelonna.demo.global.security.jwt.JwtUserDetails;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -79,7 +81,7 @@ public class LogController {
         return ResponseEntity.ok(ApiResponse.success("기록을 성공적으로 조회했습니다.", responseDto));
     }
     
-    @Operation(summary = "사용자별 여행 기록 목록 조회", description = "특정 사용자의 여행 기록 목록을 조회합니다.")
+    @Operation(summary = "사용자별 여행 기록 목록 조회", description = "특정 사용자의 여행 기록 목록을 최신순으로 조회합니다. 응답의 nextCursor를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다.")
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "기록 목록 조회 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음")
@@ -87,15 +89,37 @@ public class LogController {
     @GetMapping("/users/{userId}")
     public ResponseEntity<ApiResponse<List<LogResponseDto>>> getLogsByUser(
             @Parameter(description = "조회할 사용자 ID", required = true, example = "1")
-            @PathVariable Integer userId) {
+            @PathVariable Integer userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본값: 20, 최대: 100)", example = "20")
+            @RequestParam(required = false) Integer size) {
         // 현재 로그인한 사용자 ID (인증 구현 필요)
         Integer currentUserId = getCurrentUserId();
         
-        List<LogResponseDto> responseDtoList = logService.getLogsByUser(userId, currentUserId);
-        return ResponseEntity.ok(ApiResponse.success("사용자별 기록을 성공적으로 조회했습니다.", responseDtoList));
+        CursorPage<List<LogResponseDto>> page = logService.getLogsByUser(userId, currentUserId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.successWithCursor("사용자별 기록을 성공적으로 조회했습니다.", page));
     }
     
-    @Operation(summary = "일정별 여행 기록 목록 조회", description = "특정 여행 일정에 연결된 모든 기록을 조회합니다.")
+    @Operation(summary = "팔로잉 피드 조회", description = "로그인한 사용자가 팔로우하는 사용자들의 공개 기록을 최신순으로 조회합니다. 응답의 nextCursor를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "팔로잉 피드 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<List<LogResponseDto>>> getFollowingFeed(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본값: 20, 최대: 100)", example = "20")
+            @RequestParam(required = false) Integer size) {
+        Integer userId = getCurrentUserId();
+        
+        CursorPage<List<LogResponseDto>> page = logService.getFollowingFeed(userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.successWithCursor("팔로잉 피드를 성공적으로 조회했습니다.", page));
+    }
+    
+    @Operation(summary = "일정별 여행 기록 목록 조회", description = "특정 여행 일정에 연결된 기록을 최신순으로 조회합니다. 응답의 nextCursor를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다.")
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "일정별 기록 목록 조회 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "일정을 찾을 수 없음")
@@ -103,28 +127,36 @@ public class LogController {
     @GetMapping("/plans/{planId}")
     public ResponseEntity<ApiResponse<List<LogResponseDto>>> getLogsByPlan(
             @Parameter(description = "조회할 일정 ID", required = true, example = "5")
-            @PathVariable Integer planId) {
+            @PathVariable Integer planId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본값: 20, 최대: 100)", example = "20")
+            @RequestParam(required = false) Integer size) {
         // 현재 로그인한 사용자 ID (인증 구현 필요)
         Integer userId = getCurrentUserId();
         
-        List<LogResponseDto> responseDtoList = logService.getLogsByPlan(planId, userId);
-        return ResponseEntity.ok(ApiResponse.success("일정별 기록을 성공적으로 조회했습니다.", responseDtoList));
+        CursorPage<List<LogResponseDto>> page = logService.getLogsByPlan(planId, userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.successWithCursor("일정별 기록을 성공적으로 조회했습니다.", page));
     }
     
-    @Operation(summary = "공개 여행 기록 목록 조회", description = "모든 공개 여행 기록을 조회합니다.")
+    @Operation(summary = "공개 여행 기록 목록 조회", description = "공개 여행 기록을 최신순으로 조회합니다. 응답의 nextCursor를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다.")
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "공개 기록 목록 조회 성공")
     })
     @GetMapping("/public")
-    public ResponseEntity<ApiResponse<List<LogResponseDto>>> getPublicLogs() {
+    public ResponseEntity<ApiResponse<List<LogResponseDto>>> getPublicLogs(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본값: 20, 최대: 100)", example = "20")
+            @RequestParam(required = false) Integer size) {
         // 현재 로그인한 사용자 ID (인증 구현 필요)
         Integer userId = getCurrentUserId();
         
-        List<LogResponseDto> responseDtoList = logService.getPublicLogs(userId);
-        return ResponseEntity.ok(ApiResponse.success("공개 기록을 성공적으로 조회했습니다.", responseDtoList));
+        CursorPage<List<LogResponseDto>> page = logService.getPublicLogs(userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.successWithCursor("공개 기록을 성공적으로 조회했습니다.", page));
     }
     
-    @Operation(summary = "장소별 여행 기록 목록 조회", description = "특정 장소에 연결된 모든 여행 기록을 조회합니다. 이미지, 공개/비공개 여부, 댓글 내용이 포함됩니다.")
+    @Operation(summary = "장소별 여행 기록 목록 조회", description = "특정 장소에 연결된 여행 기록을 최신순으로 조회합니다. 이미지, 공개/비공개 여부, 댓글 내용이 포함됩니다. 응답의 nextCursor를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다.")
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "장소별 기록 목록 조회 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "장소를 찾을 수 없음")
@@ -132,12 +164,16 @@ public class LogController {
     @GetMapping("/places/{placeId}")
     public ResponseEntity<ApiResponse<List<LogResponseDto>>> getLogsByPlace(
             @Parameter(description = "조회할 장소 ID", required = true, example = "6")
-            @PathVariable Integer placeId) {
+            @PathVariable Integer placeId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본값: 20, 최대: 100)", example = "20")
+            @RequestParam(required = false) Integer size) {
         // 현재 로그인한 사용자 ID (인증 구현 필요)
         Integer userId = getCurrentUserId();
         
-        List<LogResponseDto> responseDtoList = logService.getLogsByPlace(placeId, userId);
-        return ResponseEntity.ok(ApiResponse.success("장소별 기록을 성공적으로 조회했습니다.", responseDtoList));
+        CursorPage<List<LogResponseDto>> page = logService.getLogsByPlace(placeId, userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.successWithCursor("장소별 기록을 성공적으로 조회했습니다.", page));
     }
     
     @Operation(summary = "여행 기록 수정", description = "기존 여행 기록의 내용과 이미지를 수정합니다.")
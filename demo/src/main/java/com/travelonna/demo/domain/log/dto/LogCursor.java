@@ -0,0 +1,53 @@
+package com.travelonna.demo.domain.log.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.travelonna.demo.domain.log.entity.Log;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 기록 피드 키셋 페이지네이션 커서 (created_at, log_id)
+ * 클라이언트에는 Base64 URL-safe 문자열로만 노출된다.
+ */
+@Getter
+@AllArgsConstructor
+public class LogCursor {
+
+    // 첫 페이지 조회용 상한값 (MySQL DATETIME 최대값)
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Integer logId;
+
+    // 커서 문자열이 없으면 첫 페이지, 있으면 해당 위치 이후
+    public static LogCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new LogCursor(MAX_CREATED_AT, Integer.MAX_VALUE);
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+            LocalDateTime createdAt = LocalDateTime.parse(decoded.substring(0, separatorIndex));
+            Integer logId = Integer.valueOf(decoded.substring(separatorIndex + 1));
+            return new LogCursor(createdAt, logId);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+
+    public static String encode(Log log) {
+        return encode(log.getCreatedAt(), log.getLogId());
+    }
+
+    public static String encode(LocalDateTime createdAt, Integer logId) {
+        String raw = createdAt + SEPARATOR + logId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
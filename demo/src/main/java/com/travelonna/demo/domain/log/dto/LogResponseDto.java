@@ -6,6 +6,8 @@ import java.util.stream.Collectors;
 
 import com.travelonna.demo.domain.log.entity.Log;
 import com.travelonna.demo.domain.plan.dto.PlanSummaryDto;
+import com.travelonna.demo.domain.plan.entity.Plan;
+import com.travelonna.demo.domain.user.entity.User;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -50,12 +52,28 @@ public class LogResponseDto {
                 .comment(log.getComment())
                 .createdAt(log.getCreatedAt())
                 .isPublic(log.getIsPublic())
-                .likeCount(log.getLikes().size())
-                .commentCount(log.getComments().size())
+                .likeCount(log.getLikeCount() != null ? log.getLikeCount() : 0)
+                .commentCount(log.getCommentCount() != null ? log.getCommentCount() : 0)
                 .isLiked(isLiked)
                 .plan(PlanSummaryDto.fromEntity(log.getPlan()))
                 .placeId(log.getPlace() != null ? log.getPlace().getPlaceId() : null)
                 .placeName(log.getPlace() != null ? log.getPlace().getName() : null)
                 .build();
     }
-} 
\ No newline at end of file
+    
+    // 작성자, 일정을 미리 일괄 조회한 경우 사용 (연관 엔티티 지연 로딩 없음)
+    public static LogResponseDto fromEntity(Log log, User author, Plan plan, boolean isLiked) {
+        return LogResponseDto.builder()
+                .logId(log.getLogId())
+                .userId(author.getUserId())
+                .userName(author.getName())
+                .comment(log.getComment())
+                .createdAt(log.getCreatedAt())
+                .isPublic(log.getIsPublic())
+                .likeCount(log.getLikeCount() != null ? log.getLikeCount() : 0)
+                .commentCount(log.getCommentCount() != null ? log.getCommentCount() : 0)
+                .isLiked(isLiked)
+                .plan(PlanSummaryDto.fromEntity(plan))
+                .build();
+    }
+}
\ No newline at end of file
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 
 import com.travelonna.demo.domain.plan.entity.Plan;
 import com.travelonna.demo.domain.plan.entity.Place;
@@ -17,6 +18,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -29,7 +31,14 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "log")
+@DynamicUpdate // 변경된 컬럼만 UPDATE 하여 영속성 컨텍스트의 오래된 카운터 값으로 덮어쓰지 않음
+@Table(name = "log", indexes = {
+    // 피드 키셋 페이지네이션용 복합 인덱스 (V3 마이그레이션과 동일)
+    @Index(name = "idx_log_public_created", columnList = "is_public, created_at, log_id"),
+    @Index(name = "idx_log_user_created", columnList = "user_id, created_at, log_id"),
+    @Index(name = "idx_log_plan_created", columnList = "plan_id, created_at, log_id"),
+    @Index(name = "idx_log_place_created", columnList = "place_id, created_at, log_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -64,6 +73,15 @@ public class Log {
     @Column(name = "is_public", nullable = false)
     private Boolean isPublic;
     
+    // 좋아요/댓글 수 비정규화 컬럼 (LogRepository의 원자적 UPDATE로만 변경, LogCounterReconciler가 주기적으로 보정)
+    @Column(name = "like_count", nullable = false)
+    @Builder.Default
+    private Integer likeCount = 0;
+    
+    @Column(name = "comment_count", nullable = false)
+    @Builder.Default
+    private Integer commentCount = 0;
+    
     @OneToMany(mappedBy = "log", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<LogImage> images = new ArrayList<>();
@@ -81,6 +99,12 @@ public class Log {
         if (isPublic == null) {
             isPublic = Boolean.FALSE;
         }
+        if (likeCount == null) {
+            likeCount = 0;
+        }
+        if (commentCount == null) {
+            commentCount = 0;
+        }
     }
     
     // 이미지 추가
@@ -95,9 +119,9 @@ public class Log {
         comment.setLog(this);
     }
     
-    // 좋아요 추가
+    // 좋아요 수 (컬렉션을 로딩하지 않고 카운터 컬럼 사용)
     public int getLikesCount() {
-        return likes.size();
+        return likeCount != null ? likeCount : 0;
     }
     
     // 공개 여부 변경
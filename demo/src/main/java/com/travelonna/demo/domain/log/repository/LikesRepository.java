@@ -1,5 +1,6 @@
 package com.travelonna.demo.domain.log.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,10 @@ public interface LikesRepository extends JpaRepository<Likes, LikesId> {
     @Query("SELECT l.log.logId FROM Likes l WHERE l.user.userId = :userId")
     List<Integer> findLogIdsByUserUserId(@Param("userId") Integer userId);
     
+    // 주어진 기록 중 특정 사용자가 좋아요 한 기록 ID 조회 (페이지 단위 좋아요 여부 확인용)
+    @Query("SELECT l.log.logId FROM Likes l WHERE l.user.userId = :userId AND l.log.logId IN :logIds")
+    List<Integer> findLikedLogIds(@Param("userId") Integer userId, @Param("logIds") Collection<Integer> logIds);
+    
     // 특정 기록의 모든 좋아요 삭제
     void deleteByLogLogId(Integer logId);
     
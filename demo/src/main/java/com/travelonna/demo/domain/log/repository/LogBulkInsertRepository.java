@@ -0,0 +1,95 @@
+package com.travelonna.demo.domain.log.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기록/기록 이미지 일괄 INSERT (JDBC 배치)
+ *
+ * Log/LogImage는 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못하므로,
+ * 여러 장소에 대한 기록을 한 번에 생성할 때는 JDBC 배치로 저장한다.
+ * (rewriteBatchedStatements=true 설정 시 multi-row INSERT 한 번으로 전송되고 생성된 키도 함께 반환됨)
+ */
+@Repository
+@RequiredArgsConstructor
+public class LogBulkInsertRepository {
+
+    private static final String INSERT_LOG_SQL =
+            "INSERT INTO log (user_id, plan_id, place_id, comment, is_public, like_count, comment_count, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, 0, 0, ?)";
+
+    private static final String INSERT_LOG_IMAGE_SQL =
+            "INSERT INTO log_image (log_id, image_url, order_num) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 장소마다 같은 내용의 기록을 생성하고, 생성된 log_id를 placeIds 순서대로 반환
+     */
+    public List<Integer> insertLogs(Integer userId, Integer planId, List<Integer> placeIds,
+                                    String comment, boolean isPublic, LocalDateTime createdAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_LOG_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setInt(1, userId);
+                        ps.setInt(2, planId);
+                        ps.setInt(3, placeIds.get(i));
+                        ps.setString(4, comment);
+                        ps.setBoolean(5, isPublic);
+                        ps.setObject(6, createdAt);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return placeIds.size();
+                    }
+                },
+                keyHolder);
+
+        List<Integer> logIds = new ArrayList<>(placeIds.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            logIds.add(((Number) keys.values().iterator().next()).intValue());
+        }
+        return logIds;
+    }
+
+    /**
+     * 각 기록에 같은 이미지 목록을 순서대로 저장 (order_num은 1부터)
+     */
+    public void insertImages(List<Integer> logIds, List<String> imageUrls) {
+        if (logIds.isEmpty() || imageUrls.isEmpty()) {
+            return;
+        }
+
+        int imageCount = imageUrls.size();
+        jdbcTemplate.batchUpdate(INSERT_LOG_IMAGE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setInt(1, logIds.get(i / imageCount));
+                ps.setString(2, imageUrls.get(i % imageCount));
+                ps.setInt(3, i % imageCount + 1);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return logIds.size() * imageCount;
+            }
+        });
+    }
+}
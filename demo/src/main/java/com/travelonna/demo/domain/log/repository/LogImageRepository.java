@@ -1,8 +1,11 @@
 package com.travelonna.demo.domain.log.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.travelonna.demo.domain.log.entity.LogImage;
@@ -13,6 +16,10 @@ public interface LogImageRepository extends JpaRepository<LogImage, Integer> {
     // 특정 기록의 모든 이미지 조회 (순서대로)
     List<LogImage> findByLogLogIdOrderByOrderNum(Integer logId);
     
+    // 여러 기록의 이미지 일괄 조회 (순서대로)
+    @Query("SELECT i FROM LogImage i WHERE i.log.logId IN :logIds ORDER BY i.orderNum")
+    List<LogImage> findByLogIdsOrderByOrderNum(@Param("logIds") Collection<Integer> logIds);
+    
     // 특정 기록의 모든 이미지 삭제
     void deleteByLogLogId(Integer logId);
 } 
\ No newline at end of file
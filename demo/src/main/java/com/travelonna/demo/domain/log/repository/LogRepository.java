@@ -1,39 +1,87 @@
 package com.travelonna.demo.domain.log.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.travelonna.demo.domain.log.entity.Log;
 
 @Repository
 public interface LogRepository extends JpaRepository<Log, Integer> {
     
-    // 사용자별 기록 조회
-    @Query("SELECT l FROM Log l LEFT JOIN FETCH l.place WHERE l.user.userId = :userId ORDER BY l.createdAt DESC")
-    List<Log> findByUserUserIdOrderByCreatedAtDesc(@Param("userId") Integer userId);
+    // 키셋 페이지네이션: (createdAt, logId) 커서 이후의 기록을 최신순으로 조회
+    // 페이지 크기는 Pageable로 제한하며, 복합 인덱스 (조건 컬럼, created_at, log_id)를 사용
+    @Query("SELECT l FROM Log l LEFT JOIN FETCH l.place " +
+           "WHERE l.isPublic = true " +
+           "AND (l.createdAt < :createdAt OR (l.createdAt = :createdAt AND l.logId < :logId)) " +
+           "ORDER BY l.createdAt DESC, l.logId DESC")
+    List<Log> findPublicLogsBefore(@Param("createdAt") LocalDateTime createdAt,
+                                   @Param("logId") Integer logId,
+                                   Pageable pageable);
     
-    // 일정별 기록 조회
-    @Query("SELECT l FROM Log l LEFT JOIN FETCH l.place WHERE l.plan.planId = :planId ORDER BY l.createdAt DESC")
-    List<Log> findByPlanPlanIdOrderByCreatedAtDesc(@Param("planId") Integer planId);
+    @Query("SELECT l FROM Log l LEFT JOIN FETCH l.place " +
+           "WHERE l.user.userId = :userId " +
+           "AND (l.createdAt < :createdAt OR (l.createdAt = :createdAt AND l.logId < :logId)) " +
+           "ORDER BY l.createdAt DESC, l.logId DESC")
+    List<Log> findUserLogsBefore(@Param("userId") Integer userId,
+                                 @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("logId") Integer logId,
+                                 Pageable pageable);
     
-    // 공개된 모든 기록 조회
-    @Query("SELECT l FROM Log l LEFT JOIN FETCH l.place WHERE l.isPublic = true ORDER BY l.createdAt DESC")
-    List<Log> findByIsPublicTrueOrderByCreatedAtDesc();
+    @Query("SELECT l FROM Log l LEFT JOIN FETCH l.place " +
+           "WHERE l.plan.planId = :planId " +
+           "AND (l.createdAt < :createdAt OR (l.createdAt = :createdAt AND l.logId < :logId)) " +
+           "ORDER BY l.createdAt DESC, l.logId DESC")
+    List<Log> findPlanLogsBefore(@Param("planId") Integer planId,
+                                 @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("logId") Integer logId,
+                                 Pageable pageable);
     
-    // 특정 장소별 기록 조회 - 해당 장소에 직접 연결된 기록들만 조회
     @Query("SELECT l FROM Log l LEFT JOIN FETCH l.place " +
            "WHERE l.place.placeId = :placeId " +
-           "ORDER BY l.createdAt DESC")
-    List<Log> findByPlacePlaceIdOrderByCreatedAtDesc(@Param("placeId") Integer placeId);
+           "AND (l.createdAt < :createdAt OR (l.createdAt = :createdAt AND l.logId < :logId)) " +
+           "ORDER BY l.createdAt DESC, l.logId DESC")
+    List<Log> findPlaceLogsBefore(@Param("placeId") Integer placeId,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("logId") Integer logId,
+                                  Pageable pageable);
+    
+    // 콜드스타트 샘플러용 공개 기록 ID 목록 (엔티티를 로딩하지 않고 ID만 조회)
+    @Query("SELECT l.logId FROM Log l WHERE l.isPublic = true ORDER BY l.logId")
+    List<Integer> findPublicLogIds();
+    
+    // 지정한 ID의 기록 일괄 조회 (순서는 호출 측에서 복원)
+    @Query("SELECT l FROM Log l LEFT JOIN FETCH l.place WHERE l.logId IN :logIds")
+    List<Log> findAllByLogIdIn(@Param("logIds") Collection<Integer> logIds);
     
-    // 팔로잉 사용자의 공개 기록 조회
-    @Query("SELECT l FROM Log l LEFT JOIN FETCH l.place WHERE l.user.userId IN :userIds AND l.isPublic = true ORDER BY l.createdAt DESC")
-    List<Log> findByUserUserIdInAndIsPublicTrueOrderByCreatedAtDesc(@Param("userIds") List<Integer> userIds);
+    // 팔로잉 피드용: 사용자별 커서 이후 최신 공개 기록을 최대 perUserLimit개씩 조회 (log_id, user_id, created_at)
+    // 사용자마다 LATERAL 하위 쿼리가 idx_log_user_created를 역순으로 읽다가 LIMIT에서 멈추므로
+    // 비용이 팔로잉 사용자의 전체 기록 수가 아니라 사용자 수 × perUserLimit에 비례한다. (MySQL 8.0.14+)
+    // 결과는 user_id별로 최신순 정렬되어 있으며, 병합은 서비스에서 수행
+    @Query(value = "SELECT t.log_id, t.user_id, t.created_at FROM `user` u " +
+           "JOIN LATERAL (" +
+           "  SELECT l.log_id, l.user_id, l.created_at FROM log l " +
+           "  WHERE l.user_id = u.user_id AND l.is_public = true " +
+           "  AND (l.created_at < :createdAt OR (l.created_at = :createdAt AND l.log_id < :logId)) " +
+           "  ORDER BY l.created_at DESC, l.log_id DESC " +
+           "  LIMIT :perUserLimit" +
+           ") t ON TRUE " +
+           "WHERE u.user_id IN (:userIds) " +
+           "ORDER BY t.user_id, t.created_at DESC, t.log_id DESC",
+           nativeQuery = true)
+    List<Object[]> findRecentPublicLogHeadsByUsers(@Param("userIds") Collection<Integer> userIds,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("logId") Integer logId,
+                                                   @Param("perUserLimit") int perUserLimit);
     
     // ID로 기록 상세 조회 (이미지, 댓글, 좋아요, 장소 포함)
     @Query("SELECT DISTINCT l FROM Log l " +
@@ -41,4 +89,33 @@ public interface LogRepository extends JpaRepository<Log, Integer> {
            "LEFT JOIN FETCH l.place " +
            "WHERE l.logId = :logId")
     Optional<Log> findByIdWithDetails(@Param("logId") Integer logId);
-} 
\ No newline at end of file
+    
+    // 좋아요 수 원자적 증감 (읽기-수정-쓰기 없이 단일 UPDATE, 음수로 내려가지 않음)
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Log l SET l.likeCount = l.likeCount + :delta " +
+           "WHERE l.logId = :logId AND l.likeCount + :delta >= 0")
+    int adjustLikeCount(@Param("logId") Integer logId, @Param("delta") int delta);
+    
+    // 댓글 수 원자적 증감
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Log l SET l.commentCount = l.commentCount + :delta " +
+           "WHERE l.logId = :logId AND l.commentCount + :delta >= 0")
+    int adjustCommentCount(@Param("logId") Integer logId, @Param("delta") int delta);
+    
+    @Query("SELECT COALESCE(MAX(l.logId), 0) FROM Log l")
+    Integer findMaxLogId();
+    
+    // 카운터 보정: log_id 범위 내에서 실제 likes/log_comment 개수와 다른 행만 갱신
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE log l " +
+           "SET l.like_count = (SELECT COUNT(*) FROM likes lk WHERE lk.log_id = l.log_id), " +
+           "    l.comment_count = (SELECT COUNT(*) FROM log_comment lc WHERE lc.log_id = l.log_id) " +
+           "WHERE l.log_id BETWEEN :fromId AND :toId " +
+           "AND (l.like_count <> (SELECT COUNT(*) FROM likes lk WHERE lk.log_id = l.log_id) " +
+           "  OR l.comment_count <> (SELECT COUNT(*) FROM log_comment lc WHERE lc.log_id = l.log_id))",
+           nativeQuery = true)
+    int reconcileCounters(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
+}
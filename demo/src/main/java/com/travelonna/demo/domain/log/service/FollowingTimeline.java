@@ -0,0 +1,115 @@
+package com.travelonna.demo.domain.log.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 팔로잉 피드 타임라인 (팔로우한 사용자들의 기록을 최신순으로 병합한 결과)
+ *
+ * 사용자별 최신 기록 스트림을 k-way 병합하며, 잘려서 조회된 스트림(perUserLimit개를 모두 받은 스트림)이
+ * 먼저 소진되면 그 이후 순서는 보장할 수 없으므로 병합을 멈추고 complete=false로 표시한다.
+ * 이 경우 다음 구간은 마지막 항목을 커서로 다시 병합한다.
+ */
+@Getter
+public class FollowingTimeline {
+
+    // 최신순 (created_at DESC, log_id DESC)
+    static final Comparator<Entry> NEWEST_FIRST = Comparator
+            .comparing(Entry::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(Entry::getLogId, Comparator.reverseOrder());
+
+    private final int[] sortedFolloweeIds;
+    private final List<Entry> entries;
+    // true이면 entries 이후에 더 이상 기록이 없음
+    private final boolean complete;
+
+    private FollowingTimeline(int[] sortedFolloweeIds, List<Entry> entries, boolean complete) {
+        this.sortedFolloweeIds = sortedFolloweeIds;
+        this.entries = entries;
+        this.complete = complete;
+    }
+
+    /**
+     * 사용자별로 최신순 정렬된 스트림을 최대 capacity개까지 병합
+     *
+     * @param streams 사용자별 기록 목록 (각 목록은 최신순)
+     * @param perUserLimit 사용자별 조회 상한 (이 개수만큼 받은 스트림은 뒤에 기록이 더 있을 수 있음)
+     */
+    public static FollowingTimeline merge(int[] sortedFolloweeIds, List<List<Entry>> streams, int perUserLimit, int capacity) {
+        PriorityQueue<StreamHead> heads = new PriorityQueue<>((a, b) -> NEWEST_FIRST.compare(a.current(), b.current()));
+        for (List<Entry> stream : streams) {
+            if (!stream.isEmpty()) {
+                heads.add(new StreamHead(stream, 0));
+            }
+        }
+
+        List<Entry> merged = new ArrayList<>(Math.min(capacity, streams.size() * perUserLimit));
+        while (!heads.isEmpty()) {
+            if (merged.size() >= capacity) {
+                return new FollowingTimeline(sortedFolloweeIds, merged, false);
+            }
+
+            StreamHead head = heads.poll();
+            merged.add(head.current());
+            head.position++;
+
+            if (head.position < head.stream.size()) {
+                heads.add(head);
+            } else if (head.stream.size() >= perUserLimit) {
+                // 잘린 스트림이 소진됨: 이후 순서는 다음 조회에서 이어서 병합
+                return new FollowingTimeline(sortedFolloweeIds, merged, false);
+            }
+        }
+
+        return new FollowingTimeline(sortedFolloweeIds, merged, true);
+    }
+
+    public boolean follows(int userId) {
+        return Arrays.binarySearch(sortedFolloweeIds, userId) >= 0;
+    }
+
+    // 커서(createdAt, logId) 바로 다음 항목의 인덱스
+    public int indexAfter(LocalDateTime createdAt, Integer logId) {
+        Entry probe = new Entry(logId, null, createdAt);
+        int low = 0;
+        int high = entries.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (NEWEST_FIRST.compare(entries.get(mid), probe) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final Integer logId;
+        private final Integer authorId;
+        private final LocalDateTime createdAt;
+    }
+
+    private static class StreamHead {
+        private final List<Entry> stream;
+        private int position;
+
+        private StreamHead(List<Entry> stream, int position) {
+            this.stream = stream;
+            this.position = position;
+        }
+
+        private Entry current() {
+            return stream.get(position);
+        }
+    }
+}
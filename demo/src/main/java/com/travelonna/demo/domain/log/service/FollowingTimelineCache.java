@@ -0,0 +1,106 @@
+package com.travelonna.demo.domain.log.service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 팔로잉 타임라인 캐시 (프로세스 내, 크기 제한 LRU + TTL)
+ *
+ * 기록 생성/삭제 시 작성자를 팔로우하는 타임라인을, 팔로우/언팔로우 시 해당 사용자의 타임라인을 제거한다.
+ * 작성자 → 캐시된 타임라인 사용자 역색인을 함께 유지하므로 작성자 무효화 비용은 캐시 크기가 아니라
+ * 그 작성자를 팔로우하는 캐시된 사용자 수에 비례한다. (추가/제거 비용은 타임라인의 팔로잉 수에 비례)
+ * 다중 인스턴스 환경에서는 TTL 동안 다른 인스턴스의 변경이 늦게 반영될 수 있다.
+ */
+@Component
+public class FollowingTimelineCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<Integer, CachedTimeline> timelines;
+    // 작성자 ID → 그 작성자를 팔로우하는 캐시된 타임라인의 사용자 ID
+    private final Map<Integer, Set<Integer>> viewersByAuthor = new HashMap<>();
+
+    public FollowingTimelineCache(@Value("${log.feed.cache.max-size:10000}") int maxSize,
+                                  @Value("${log.feed.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.timelines = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CachedTimeline> eldest) {
+                if (size() > FollowingTimelineCache.this.maxSize) {
+                    unindex(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized FollowingTimeline get(Integer viewerId) {
+        CachedTimeline cached = timelines.get(viewerId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt < System.currentTimeMillis()) {
+            remove(viewerId);
+            return null;
+        }
+        return cached.timeline;
+    }
+
+    public synchronized void put(Integer viewerId, FollowingTimeline timeline) {
+        remove(viewerId);
+        timelines.put(viewerId, new CachedTimeline(timeline, System.currentTimeMillis() + ttlMillis));
+        for (int authorId : timeline.getSortedFolloweeIds()) {
+            viewersByAuthor.computeIfAbsent(authorId, id -> new HashSet<>()).add(viewerId);
+        }
+    }
+
+    // 팔로우 관계가 바뀐 사용자의 타임라인 제거
+    public synchronized void invalidateViewer(Integer viewerId) {
+        remove(viewerId);
+    }
+
+    // 작성자의 기록이 생성/삭제되었을 때 작성자를 팔로우하는 타임라인 제거 (역색인으로 해당 사용자만 조회)
+    public synchronized void invalidateAuthor(Integer authorId) {
+        Set<Integer> viewers = viewersByAuthor.get(authorId);
+        if (viewers == null) {
+            return;
+        }
+        for (Integer viewerId : viewers.toArray(new Integer[0])) {
+            remove(viewerId);
+        }
+    }
+
+    private void remove(Integer viewerId) {
+        CachedTimeline removed = timelines.remove(viewerId);
+        if (removed != null) {
+            unindex(viewerId, removed);
+        }
+    }
+
+    private void unindex(Integer viewerId, CachedTimeline cached) {
+        for (int authorId : cached.timeline.getSortedFolloweeIds()) {
+            Set<Integer> viewers = viewersByAuthor.get(authorId);
+            if (viewers != null && viewers.remove(viewerId) && viewers.isEmpty()) {
+                viewersByAuthor.remove(authorId);
+            }
+        }
+    }
+
+    private static class CachedTimeline {
+        private final FollowingTimeline timeline;
+        private final long expiresAt;
+
+        private CachedTimeline(FollowingTimeline timeline, long expiresAt) {
+            this.timeline = timeline;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.travelonna.demo.domain.log.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.travelonna.demo.domain.log.repository.LikesRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기록 목록의 좋아요 여부 일괄 확인
+ *
+ * 사용자의 전체 좋아요 목록 대신 현재 페이지의 기록 ID로 범위를 좁혀 조회하고,
+ * 결과를 정렬된 int 배열로 보관해 기록마다 박싱 없이 이진 탐색으로 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LikedStateResolver {
+
+    private final LikesRepository likesRepository;
+
+    public LikedLogIds resolve(Integer userId, Collection<Integer> logIds) {
+        if (userId == null || logIds.isEmpty()) {
+            return LikedLogIds.EMPTY;
+        }
+
+        List<Integer> liked = likesRepository.findLikedLogIds(userId, logIds);
+        int[] sorted = new int[liked.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = liked.get(i);
+        }
+        Arrays.sort(sorted);
+        return new LikedLogIds(sorted);
+    }
+
+    public static final class LikedLogIds {
+
+        private static final LikedLogIds EMPTY = new LikedLogIds(new int[0]);
+
+        private final int[] sortedLogIds;
+
+        private LikedLogIds(int[] sortedLogIds) {
+            this.sortedLogIds = sortedLogIds;
+        }
+
+        public boolean contains(int logId) {
+            return Arrays.binarySearch(sortedLogIds, logId) >= 0;
+        }
+    }
+}
@@ -88,6 +88,7 @@ public class LogCommentService {
         }
         
         LogComment savedComment = logCommentRepository.save(comment);
+        logRepository.adjustCommentCount(logId, 1);
         
         // UserAction 기록 - COMMENT 액션 (공개 기록인 경우만)
         if (logEntity.getIsPublic()) {
@@ -137,6 +138,11 @@ public class LogCommentService {
             throw new IllegalArgumentException("User is not authorized to delete this comment");
         }
         
+        // 답글은 부모 댓글과 함께 삭제되므로 답글 수만큼 함께 차감
+        int removedCount = 1 + (comment.getChildren() != null ? comment.getChildren().size() : 0);
+        Integer logId = comment.getLog().getLogId();
+        
         logCommentRepository.delete(comment);
+        logRepository.adjustCommentCount(logId, -removedCount);
     }
 } 
\ No newline at end of file
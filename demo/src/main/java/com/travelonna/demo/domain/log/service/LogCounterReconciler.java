@@ -0,0 +1,51 @@
+package com.travelonna.demo.domain.log.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.travelonna.demo.domain.log.repository.LogRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기록 좋아요/댓글 카운터 보정 작업
+ *
+ * 카운터는 LogService/LogCommentService에서 원자적 UPDATE로 증감되지만,
+ * 외부에서 직접 삭제되거나 트랜잭션이 부분 실패한 경우 실제 likes/log_comment 개수와 어긋날 수 있다.
+ * log_id 범위 단위로 나누어 어긋난 행만 다시 계산한다. (범위마다 별도 트랜잭션으로 잠금 시간 최소화)
+ */
+@Component
+@RequiredArgsConstructor
+public class LogCounterReconciler {
+
+    private final LogRepository logRepository;
+
+    @Value("${log.counter.reconcile-chunk-size:1000}")
+    private int chunkSize;
+
+    private static final Logger logger = LoggerFactory.getLogger(LogCounterReconciler.class);
+
+    @Scheduled(cron = "${log.counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        Integer maxLogId = logRepository.findMaxLogId();
+        int repaired = 0;
+
+        for (int fromId = 1; fromId <= maxLogId; fromId += chunkSize) {
+            int toId = fromId + chunkSize - 1;
+            try {
+                repaired += logRepository.reconcileCounters(fromId, toId);
+            } catch (Exception e) {
+                logger.warn("기록 카운터 보정 실패: logId {}~{}", fromId, toId, e);
+            }
+        }
+
+        if (repaired > 0) {
+            logger.info("기록 카운터 보정 완료: 보정된 기록 수={}", repaired);
+        } else {
+            logger.debug("기록 카운터 보정 완료: 불일치 없음");
+        }
+    }
+}
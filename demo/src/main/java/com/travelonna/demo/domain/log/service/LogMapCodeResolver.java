@@ -0,0 +1,121 @@
+package com.travelonna.demo.domain.log.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.travelonna.demo.domain.plan.entity.MapCode;
+import com.travelonna.demo.domain.plan.repository.MapCodeRepository;
+import com.travelonna.demo.domain.plan.repository.MyMapRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기록 목록의 지역 코드 일괄 확인
+ *
+ * 기록에 연결된 MyMap의 지역 코드를 IN 쿼리 한 번으로 읽고,
+ * MyMap이 없는 기록은 일정 location("도시 구/군")을 파싱해 해당 도시들의 지역 코드를 한 번에 읽어 메모리에서 매칭한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LogMapCodeResolver {
+
+    private final MyMapRepository myMapRepository;
+    private final MapCodeRepository mapCodeRepository;
+
+    private static final Logger logger = LoggerFactory.getLogger(LogMapCodeResolver.class);
+
+    /**
+     * 기록 ID → 지역 코드 (찾지 못한 기록은 포함하지 않음)
+     *
+     * @param locationByLogId 기록 ID → 일정 location (MyMap이 없는 기록의 대체 경로)
+     */
+    public Map<Integer, MapCode> resolve(Collection<Integer> logIds, Map<Integer, String> locationByLogId) {
+        Map<Integer, MapCode> result = new HashMap<>();
+        if (logIds.isEmpty()) {
+            return result;
+        }
+
+        try {
+            // MyMap이 있으면 지역 코드가 없더라도 location으로 대체하지 않음 (기존 단건 조회와 동일)
+            Set<Integer> withMyMap = new HashSet<>();
+            for (Object[] row : myMapRepository.findMapCodesByLogIds(logIds)) {
+                Integer logId = (Integer) row[0];
+                MapCode mapCode = (MapCode) row[1];
+                if (withMyMap.add(logId) && mapCode != null) {
+                    result.put(logId, mapCode);
+                }
+            }
+
+            Map<Integer, String[]> parsedLocations = new HashMap<>();
+            Set<String> cities = new LinkedHashSet<>();
+            for (Integer logId : logIds) {
+                if (withMyMap.contains(logId)) {
+                    continue;
+                }
+                String[] parts = parseLocationString(locationByLogId.get(logId));
+                if (parts[0] != null) {
+                    parsedLocations.put(logId, parts);
+                    cities.add(parts[0]);
+                }
+            }
+            if (cities.isEmpty()) {
+                return result;
+            }
+
+            List<MapCode> candidates = mapCodeRepository.findByCityIn(cities);
+            parsedLocations.forEach((logId, parts) -> {
+                MapCode mapCode = findMatching(candidates, parts[0], parts[1]);
+                if (mapCode != null) {
+                    result.put(logId, mapCode);
+                }
+            });
+        } catch (Exception e) {
+            logger.warn("MapCode 정보 일괄 설정 실패: 기록 수={}, error={}", logIds.size(), e.getMessage());
+        }
+        return result;
+    }
+
+    // 구/군이 있으면 도시+구/군 일치, 없으면 구/군이 비어 있는 도시 코드
+    private static MapCode findMatching(List<MapCode> candidates, String city, String district) {
+        boolean cityOnly = district == null || district.trim().isEmpty();
+        for (MapCode mapCode : candidates) {
+            if (!mapCode.getCity().equals(city)) {
+                continue;
+            }
+            if (cityOnly ? mapCode.getDistrict() == null : Objects.equals(mapCode.getDistrict(), district)) {
+                return mapCode;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * location 문자열을 파싱해서 도시와 구/군을 추출하는 메소드
+     * 예: "서울특별시 강남구" -> ["서울특별시", "강남구"]
+     */
+    static String[] parseLocationString(String location) {
+        if (location == null || location.trim().isEmpty()) {
+            return new String[]{null, null};
+        }
+
+        String[] parts = location.trim().split("\\s+");
+
+        if (parts.length >= 2) {
+            return new String[]{parts[0], parts[1]};
+        } else if (parts.length == 1) {
+            return new String[]{parts[0], null};
+        } else {
+            return new String[]{null, null};
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.travelonna.demo.domain.log.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.travelonna.demo.domain.log.dto.LogResponseDto;
+import com.travelonna.demo.domain.log.entity.Log;
+import com.travelonna.demo.domain.log.entity.LogImage;
+import com.travelonna.demo.domain.log.repository.LogImageRepository;
+import com.travelonna.demo.domain.log.service.LikedStateResolver.LikedLogIds;
+import com.travelonna.demo.domain.plan.dto.PlaceSummary;
+import com.travelonna.demo.domain.plan.entity.MapCode;
+import com.travelonna.demo.domain.plan.entity.Place;
+import com.travelonna.demo.domain.plan.entity.Plan;
+import com.travelonna.demo.domain.plan.repository.PlanRepository;
+import com.travelonna.demo.domain.plan.service.PlanPlacesCache;
+import com.travelonna.demo.domain.user.entity.User;
+import com.travelonna.demo.domain.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기록 목록 -> LogResponseDto 일괄 변환기
+ *
+ * 페이지에 포함된 기록 ID/일정 ID를 모아 작성자, 일정, 장소, 이미지를
+ * IN 쿼리로 한 번씩만 조회한 뒤 메모리 맵에서 DTO를 조립한다. (좋아요/댓글 수는 Log의 카운터 컬럼 사용)
+ * 일정별/장소별 목록은 지역 코드도 LogMapCodeResolver로 함께 일괄 조회한다.
+ * 페이지 크기와 관계없이 쿼리 수가 일정하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LogResponseAssembler {
+
+    private final LogImageRepository logImageRepository;
+    private final LikedStateResolver likedStateResolver;
+    private final PlanPlacesCache planPlacesCache;
+    private final LogMapCodeResolver logMapCodeResolver;
+    private final PlanRepository planRepository;
+    private final UserRepository userRepository;
+    
+    private static final Logger logger = LoggerFactory.getLogger(LogResponseAssembler.class);
+
+    /**
+     * 기록 목록 변환 (각 기록에 일정의 전체 장소 정보 포함)
+     */
+    public List<LogResponseDto> toDtoList(List<Log> logs, Integer userId) {
+        return assemble(logs, userId, null, false);
+    }
+
+    /**
+     * 기록 목록 변환 + 지역 코드 정보 포함 (일정별 기록 조회)
+     */
+    public List<LogResponseDto> toDtoListWithMapCodes(List<Log> logs, Integer userId) {
+        return assemble(logs, userId, null, true);
+    }
+
+    /**
+     * 장소별 기록 목록 변환 (해당 장소 정보만 포함, 지역 코드 정보 포함)
+     */
+    public List<LogResponseDto> toDtoListForPlace(List<Log> logs, Integer userId, Integer placeId) {
+        return assemble(logs, userId, placeId, true);
+    }
+
+    private List<LogResponseDto> assemble(List<Log> logs, Integer userId, Integer placeId, boolean includeMapCodes) {
+        // 비공개 기록은 작성자만 볼 수 있음 (로그인하지 않은 사용자는 공개 기록만)
+        List<Log> visibleLogs = logs.stream()
+                .filter(log -> log.getIsPublic() || (userId != null && log.getUser().getUserId().equals(userId)))
+                .collect(Collectors.toList());
+
+        if (visibleLogs.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 연관 엔티티는 프록시의 ID만 사용하므로 여기서 추가 쿼리가 발생하지 않음
+        Set<Integer> logIds = new LinkedHashSet<>();
+        Set<Integer> userIds = new LinkedHashSet<>();
+        Set<Integer> planIds = new LinkedHashSet<>();
+        for (Log log : visibleLogs) {
+            logIds.add(log.getLogId());
+            userIds.add(log.getUser().getUserId());
+            planIds.add(log.getPlan().getPlanId());
+        }
+
+        Map<Integer, User> authors = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+        Map<Integer, Plan> plans = planRepository.findAllById(planIds).stream()
+                .collect(Collectors.toMap(Plan::getPlanId, Function.identity()));
+        Map<Integer, List<String>> imageUrls = loadImageUrls(logIds);
+        LikedLogIds likedLogIds = likedStateResolver.resolve(userId, logIds);
+        Map<Integer, List<PlaceSummary>> placesByPlan = placeId == null ? planPlacesCache.getPlaces(planIds) : Map.of();
+        Map<Integer, MapCode> mapCodes = includeMapCodes ? resolveMapCodes(visibleLogs, logIds, plans) : Map.of();
+
+        logger.debug("기록 일괄 변환: 기록 수={}, 작성자 수={}, 일정 수={}", logIds.size(), authors.size(), plans.size());
+
+        List<LogResponseDto> result = new ArrayList<>(visibleLogs.size());
+        for (Log log : visibleLogs) {
+            Integer logId = log.getLogId();
+            User author = authors.getOrDefault(log.getUser().getUserId(), log.getUser());
+            Plan plan = plans.getOrDefault(log.getPlan().getPlanId(), log.getPlan());
+
+            LogResponseDto dto = LogResponseDto.fromEntity(log, author, plan, likedLogIds.contains(logId));
+            dto.setImageUrls(imageUrls.getOrDefault(logId, new ArrayList<>()));
+
+            if (placeId == null) {
+                setPlanPlaceInfo(dto, log, placesByPlan.getOrDefault(plan.getPlanId(), List.of()));
+            } else {
+                setSinglePlaceInfo(dto, log, placeId);
+            }
+
+            MapCode mapCode = mapCodes.get(logId);
+            if (mapCode != null) {
+                dto.setMapCodeId(mapCode.getMapCodeId());
+                dto.setMapCodeCity(mapCode.getCity());
+                dto.setMapCodeDistrict(mapCode.getDistrict());
+            }
+
+            result.add(dto);
+        }
+
+        return result;
+    }
+
+    // 일정의 모든 장소 정보 설정 (호환성을 위해 첫 번째 장소를 단일 장소로 사용)
+    private void setPlanPlaceInfo(LogResponseDto dto, Log log, List<PlaceSummary> places) {
+        if (log.getPlace() != null) {
+            Integer logPlaceId = log.getPlace().getPlaceId();
+            dto.setPlaceId(logPlaceId);
+            dto.setPlaceName(places.stream()
+                    .filter(place -> place.getPlaceId().equals(logPlaceId))
+                    .map(PlaceSummary::getName)
+                    .findFirst()
+                    .orElseGet(() -> log.getPlace().getName()));
+        }
+
+        dto.setPlaceIds(places.stream()
+                .map(PlaceSummary::getPlaceId)
+                .collect(Collectors.toList()));
+        dto.setPlaceNames(places.stream()
+                .map(PlaceSummary::getName)
+                .collect(Collectors.toList()));
+
+        if (!places.isEmpty()) {
+            PlaceSummary firstPlace = places.get(0);
+            dto.setPlaceId(firstPlace.getPlaceId());
+            dto.setPlaceName(firstPlace.getName());
+        }
+    }
+
+    // 특정 장소 정보만 설정 (장소별 조회 쿼리에서 place를 fetch join 하므로 추가 쿼리 없음)
+    private void setSinglePlaceInfo(LogResponseDto dto, Log log, Integer placeId) {
+        Place place = log.getPlace();
+        if (place == null) {
+            return;
+        }
+
+        dto.setPlaceId(place.getPlaceId());
+        dto.setPlaceName(place.getName());
+        if (place.getPlaceId().equals(placeId)) {
+            dto.setPlaceIds(List.of(place.getPlaceId()));
+            dto.setPlaceNames(List.of(place.getName()));
+        }
+    }
+
+    // MyMap이 없는 기록은 이미 조회한 일정의 location으로 지역 코드를 찾음
+    private Map<Integer, MapCode> resolveMapCodes(List<Log> logs, Set<Integer> logIds, Map<Integer, Plan> plans) {
+        Map<Integer, String> locationByLogId = new HashMap<>();
+        for (Log log : logs) {
+            Plan plan = plans.get(log.getPlan().getPlanId());
+            if (plan != null && plan.getLocation() != null) {
+                locationByLogId.put(log.getLogId(), plan.getLocation());
+            }
+        }
+        return logMapCodeResolver.resolve(logIds, locationByLogId);
+    }
+
+    private Map<Integer, List<String>> loadImageUrls(Collection<Integer> logIds) {
+        Map<Integer, List<String>> imageUrls = new HashMap<>();
+        for (LogImage image : logImageRepository.findByLogIdsOrderByOrderNum(logIds)) {
+            imageUrls.computeIfAbsent(image.getLog().getLogId(), id -> new ArrayList<>())
+                    .add(image.getImageUrl());
+        }
+        return imageUrls;
+    }
+}
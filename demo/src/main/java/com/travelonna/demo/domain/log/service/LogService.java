@@ -1,35 +1,48 @@
 package com.travelonna.demo.domain.log.service;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.travelonna.demo.domain.follow.service.FollowGraph;
+import com.travelonna.demo.domain.log.dto.LogCursor;
 import com.travelonna.demo.domain.log.dto.LogRequestDto;
 import com.travelonna.demo.domain.log.dto.LogResponseDto;
 import com.travelonna.demo.domain.log.entity.Likes;
 import com.travelonna.demo.domain.log.entity.Log;
 import com.travelonna.demo.domain.log.entity.LogImage;
 import com.travelonna.demo.domain.log.repository.LikesRepository;
+import com.travelonna.demo.domain.log.repository.LogBulkInsertRepository;
 import com.travelonna.demo.domain.log.repository.LogImageRepository;
 import com.travelonna.demo.domain.log.repository.LogRepository;
-import com.travelonna.demo.domain.plan.entity.MapCode;
+import com.travelonna.demo.domain.plan.dto.PlaceSummary;
 import com.travelonna.demo.domain.plan.entity.Place;
 import com.travelonna.demo.domain.plan.entity.Plan;
-import com.travelonna.demo.domain.plan.repository.MapCodeRepository;
-import com.travelonna.demo.domain.plan.repository.MyMapRepository;
 import com.travelonna.demo.domain.plan.repository.PlaceRepository;
 import com.travelonna.demo.domain.plan.repository.PlanRepository;
 import com.travelonna.demo.domain.plan.service.MyMapService;
+import com.travelonna.demo.domain.plan.service.PlanPlacesCache;
 import com.travelonna.demo.domain.plan.service.PlanService;
+import com.travelonna.demo.domain.search.service.SearchResultCache;
 import com.travelonna.demo.domain.user.entity.User;
 import com.travelonna.demo.domain.user.entity.UserAction.TargetType;
 import com.travelonna.demo.domain.user.repository.UserRepository;
 import com.travelonna.demo.domain.user.service.UserActionService;
+import com.travelonna.demo.global.common.CursorPage;
 import com.travelonna.demo.global.exception.ResourceNotFoundException;
 
 import lombok.RequiredArgsConstructor;
@@ -40,6 +53,7 @@ import lombok.RequiredArgsConstructor;
 public class LogService {
     
     private final LogRepository logRepository;
+    private final LogBulkInsertRepository logBulkInsertRepository;
     private final LogImageRepository logImageRepository;
     private final LikesRepository likesRepository;
     private final UserRepository userRepository;
@@ -47,12 +61,22 @@ public class LogService {
     private final PlaceRepository placeRepository;
     private final UserActionService userActionService;
     private final MyMapService myMapService;
-    private final MyMapRepository myMapRepository;
-    private final MapCodeRepository mapCodeRepository;
     private final PlanService planService;
+    private final LogResponseAssembler logResponseAssembler;
+    private final PublicLogSampler publicLogSampler;
+    private final PlanPlacesCache planPlacesCache;
+    private final FollowGraph followGraph;
+    private final FollowingTimelineCache followingTimelineCache;
+    private final SearchResultCache searchResultCache;
     
     private static final Logger logger = LoggerFactory.getLogger(LogService.class);
     
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    // 팔로잉 피드: 사용자별 조회 상한 / 캐시에 보관하는 병합 결과 상한
+    private static final int FEED_PER_USER_LIMIT = 50;
+    private static final int FEED_TIMELINE_CAPACITY = 300;
+    
     // 기록 생성
     @Transactional
     public LogResponseDto createLog(Integer userId, LogRequestDto requestDto) {
@@ -106,6 +130,8 @@ public class LogService {
             
             Log savedLog = logRepository.save(logEntity);
             logger.debug("여행 기록 저장 성공 (장소 {}): logId={}", place.getPlaceId(), savedLog.getLogId());
+            invalidateFollowingTimelines(user.getUserId());
+            searchResultCache.invalidate(SearchResultCache.Category.LOG);
             
             // 이미지가 제공된 경우에만 처리 (선택 사항)
             if (requestDto.getImageUrls() != null && !requestDto.getImageUrls().isEmpty()) {
@@ -140,7 +166,7 @@ public class LogService {
         
         // placeId가 없거나 유효하지 않은 경우, 해당 planId의 모든 place 조회
         logger.debug("전체 장소에 대한 기록 생성 또는 장소 없는 기록 생성: placeId={}", requestDto.getPlaceId());
-        List<Place> places = placeRepository.findByPlanIdOrderByOrder(plan.getPlanId());
+        List<PlaceSummary> places = planPlacesCache.getPlaces(plan.getPlanId());
         logger.debug("일정에 등록된 장소 수: {}", places.size());
         
         if (places.isEmpty()) {
@@ -149,51 +175,34 @@ public class LogService {
             return createSingleLog(user, plan, requestDto);
         }
         
-        // 각 place마다 Log 생성
+        // 각 place마다 Log 생성 (기록/이미지/사용자 액션을 각각 한 번의 배치로 저장)
         logger.debug("각 장소마다 기록 생성 시작");
-        List<Log> createdLogs = new ArrayList<>();
-        for (Place place : places) {
-            Log logEntity = Log.builder()
-                    .user(user)
-                    .plan(plan)
-                    .place(place)  // place 참조 추가
-                    .comment(requestDto.getComment()) // 장소 이름은 place 참조로 처리하므로 comment에서 제거
-                    .isPublic(requestDto.getIsPublic() != null ? requestDto.getIsPublic() : false)
-                    .build();
-            
-            // images 컬렉션이 null인 경우 초기화
-            if (logEntity.getImages() == null) {
-                logEntity.setImages(new ArrayList<>());
-            }
-            
-            Log savedLog = logRepository.save(logEntity);
-            logger.debug("여행 기록 저장 성공 (장소 {}): logId={}", place.getPlaceId(), savedLog.getLogId());
-            
-            // 이미지가 제공된 경우에만 처리 (선택 사항)
-            if (requestDto.getImageUrls() != null && !requestDto.getImageUrls().isEmpty()) {
-                int maxImages = Math.min(requestDto.getImageUrls().size(), 10);
-                for (int i = 0; i < maxImages; i++) {
-                    LogImage image = LogImage.builder()
-                            .log(savedLog)
-                            .imageUrl(requestDto.getImageUrls().get(i))
-                            .orderNum(i + 1)
-                            .build();
-                    savedLog.addImage(image);
-                }
-            }
-            
-            // UserAction 기록 - POST 액션 (각 장소별 Log마다)
-            try {
-                userActionService.recordLogCreation(user.getUserId(), savedLog.getLogId());
-            } catch (Exception e) {
-                logger.warn("사용자 액션 기록 실패: userId={}, logId={}", user.getUserId(), savedLog.getLogId(), e);
-            }
-            
-            createdLogs.add(savedLog);
+        List<Integer> placeIds = places.stream()
+                .map(PlaceSummary::getPlaceId)
+                .collect(Collectors.toList());
+        List<String> imageUrls = requestDto.getImageUrls() != null
+                ? requestDto.getImageUrls().subList(0, Math.min(requestDto.getImageUrls().size(), 10))
+                : List.of();
+        boolean isPublic = requestDto.getIsPublic() != null ? requestDto.getIsPublic() : false;
+        
+        List<Integer> createdLogIds = logBulkInsertRepository.insertLogs(user.getUserId(), plan.getPlanId(),
+                placeIds, requestDto.getComment(), isPublic, LocalDateTime.now());
+        logBulkInsertRepository.insertImages(createdLogIds, imageUrls);
+        logger.debug("여행 기록 일괄 저장 성공: 장소 수={}, logIds={}", placeIds.size(), createdLogIds);
+        invalidateFollowingTimelines(user.getUserId());
+        searchResultCache.invalidate(SearchResultCache.Category.LOG);
+        
+        // UserAction 기록 - POST 액션 (생성된 Log 전체를 한 번에)
+        try {
+            userActionService.recordLogCreations(user.getUserId(), createdLogIds);
+        } catch (Exception e) {
+            logger.warn("사용자 액션 기록 실패: userId={}, logIds={}", user.getUserId(), createdLogIds, e);
         }
         
         // 마지막에 생성된 Log를 반환 (또는 필요에 따라 첫 번째 Log를 반환)
-        Log lastLog = createdLogs.get(createdLogs.size() - 1);
+        Integer lastLogId = createdLogIds.get(createdLogIds.size() - 1);
+        Log lastLog = logRepository.findById(lastLogId)
+                .orElseThrow(() -> new ResourceNotFoundException("Log not found: ID=" + lastLogId));
         return LogResponseDto.fromEntity(lastLog, false);
     }
     
@@ -215,6 +224,8 @@ public class LogService {
         
         Log savedLog = logRepository.save(logEntity);
         logger.debug("단일 여행 기록 저장 성공: logId={}", savedLog.getLogId());
+        invalidateFollowingTimelines(user.getUserId());
+        searchResultCache.invalidate(SearchResultCache.Category.LOG);
         
         // 이미지가 제공된 경우에만 처리 (선택 사항)
         if (requestDto.getImageUrls() != null && !requestDto.getImageUrls().isEmpty()) {
@@ -274,9 +285,9 @@ public class LogService {
         responseDto.setImageUrls(imageUrls);
         
         // 여행 계획에 연결된 장소 정보 가져오기
-        List<Place> places = placeRepository.findByPlanIdOrderByOrder(log.getPlan().getPlanId());
+        List<PlaceSummary> places = planPlacesCache.getPlaces(log.getPlan().getPlanId());
         List<String> placeNames = places.stream()
-                .map(Place::getPlace)
+                .map(PlaceSummary::getAddress)
                 .collect(Collectors.toList());
         responseDto.setPlaceNames(placeNames);
         
@@ -292,27 +303,123 @@ public class LogService {
         return responseDto;
     }
     
-    // 사용자별 기록 목록 조회
-    public List<LogResponseDto> getLogsByUser(Integer userId, Integer currentUserId) {
-        List<Log> logs = logRepository.findByUserUserIdOrderByCreatedAtDesc(userId);
-        return convertToLogResponseDtoList(logs, currentUserId);
+    // 사용자별 기록 목록 조회 (커서 기반 페이지네이션)
+    public CursorPage<List<LogResponseDto>> getLogsByUser(Integer userId, Integer currentUserId, String cursor, Integer size) {
+        LogCursor logCursor = LogCursor.decode(cursor);
+        int pageSize = normalizePageSize(size);
+        List<Log> logs = logRepository.findUserLogsBefore(userId, logCursor.getCreatedAt(), logCursor.getLogId(),
+                PageRequest.of(0, pageSize + 1));
+        return toDtoPage(logs, pageSize, page -> convertToLogResponseDtoList(page, currentUserId));
+    }
+    
+    // 일정별 기록 조회 (커서 기반 페이지네이션)
+    public CursorPage<List<LogResponseDto>> getLogsByPlan(Integer planId, Integer userId, String cursor, Integer size) {
+        LogCursor logCursor = LogCursor.decode(cursor);
+        int pageSize = normalizePageSize(size);
+        List<Log> logs = logRepository.findPlanLogsBefore(planId, logCursor.getCreatedAt(), logCursor.getLogId(),
+                PageRequest.of(0, pageSize + 1));
+        // 지역 코드 정보는 변환기에서 일괄 조회
+        return toDtoPage(logs, pageSize, page -> logResponseAssembler.toDtoListWithMapCodes(page, userId));
+    }
+    
+    // 공개 기록 목록 조회 (커서 기반 페이지네이션)
+    public CursorPage<List<LogResponseDto>> getPublicLogs(Integer userId, String cursor, Integer size) {
+        LogCursor logCursor = LogCursor.decode(cursor);
+        int pageSize = normalizePageSize(size);
+        List<Log> logs = logRepository.findPublicLogsBefore(logCursor.getCreatedAt(), logCursor.getLogId(),
+                PageRequest.of(0, pageSize + 1));
+        return toDtoPage(logs, pageSize, page -> convertToLogResponseDtoList(page, userId));
+    }
+    
+    // 팔로잉 피드 조회 (팔로우한 사용자들의 공개 기록을 최신순으로 병합, 커서 기반 페이지네이션)
+    public CursorPage<List<LogResponseDto>> getFollowingFeed(Integer userId, String cursor, Integer size) {
+        LogCursor logCursor = LogCursor.decode(cursor);
+        int pageSize = normalizePageSize(size);
+        
+        // 첫 구간은 캐시된 타임라인 사용, 없으면 병합 후 캐시
+        FollowingTimeline timeline = followingTimelineCache.get(userId);
+        if (timeline == null) {
+            timeline = buildFollowingTimeline(findFolloweeIds(userId), LogCursor.decode(null));
+            followingTimelineCache.put(userId, timeline);
+        }
+        
+        int startIndex = timeline.indexAfter(logCursor.getCreatedAt(), logCursor.getLogId());
+        if (!timeline.isComplete() && startIndex + pageSize >= timeline.getEntries().size()) {
+            // 캐시된 구간을 벗어나면 커서 이후부터 다시 병합 (캐시하지 않음)
+            timeline = buildFollowingTimeline(timeline.getSortedFolloweeIds(), logCursor);
+            startIndex = 0;
+        }
+        
+        List<FollowingTimeline.Entry> entries = timeline.getEntries();
+        int endIndex = Math.min(startIndex + pageSize, entries.size());
+        List<FollowingTimeline.Entry> pageEntries = entries.subList(startIndex, endIndex);
+        boolean hasNext = endIndex < entries.size() || (!timeline.isComplete() && !pageEntries.isEmpty());
+        
+        List<Log> logs = findLogsInOrder(pageEntries.stream()
+                .map(FollowingTimeline.Entry::getLogId)
+                .collect(Collectors.toList()));
+        
+        String nextCursor = null;
+        if (hasNext) {
+            FollowingTimeline.Entry last = pageEntries.get(pageEntries.size() - 1);
+            nextCursor = LogCursor.encode(last.getCreatedAt(), last.getLogId());
+        }
+        
+        logger.debug("팔로잉 피드 조회: userId={}, 조회 수={}, hasNext={}", userId, logs.size(), hasNext);
+        return new CursorPage<>(convertToLogResponseDtoList(logs, userId), nextCursor);
+    }
+    
+    private int[] findFolloweeIds(Integer userId) {
+        return followGraph.followeesOf(userId);
     }
     
-    // 일정별 기록 조회
-    public List<LogResponseDto> getLogsByPlan(Integer planId, Integer userId) {
-        List<Log> logs = logRepository.findByPlanPlanIdOrderByCreatedAtDesc(planId);
-        List<LogResponseDto> result = convertToLogResponseDtoList(logs, userId);
+    // 팔로우한 사용자별 최신 기록 스트림을 조회해 k-way 병합
+    private FollowingTimeline buildFollowingTimeline(int[] followeeIds, LogCursor logCursor) {
+        if (followeeIds.length == 0) {
+            return FollowingTimeline.merge(followeeIds, List.of(), FEED_PER_USER_LIMIT, FEED_TIMELINE_CAPACITY);
+        }
         
-        // 각 LogResponseDto에 mapcode 정보 추가
-        result.forEach(dto -> setMapCodeInfoToDto(dto, dto.getLogId()));
+        List<Integer> userIds = Arrays.stream(followeeIds).boxed().collect(Collectors.toList());
+        List<Object[]> rows = logRepository.findRecentPublicLogHeadsByUsers(userIds,
+                logCursor.getCreatedAt(), logCursor.getLogId(), FEED_PER_USER_LIMIT);
+        
+        // 결과는 user_id 순으로 정렬되어 있으므로 연속 구간을 하나의 스트림으로 묶음
+        List<List<FollowingTimeline.Entry>> streams = new ArrayList<>();
+        List<FollowingTimeline.Entry> current = null;
+        Integer currentUserId = null;
+        for (Object[] row : rows) {
+            FollowingTimeline.Entry entry = new FollowingTimeline.Entry(
+                    ((Number) row[0]).intValue(), ((Number) row[1]).intValue(), toLocalDateTime(row[2]));
+            if (!entry.getAuthorId().equals(currentUserId)) {
+                current = new ArrayList<>();
+                streams.add(current);
+                currentUserId = entry.getAuthorId();
+            }
+            current.add(entry);
+        }
         
-        return result;
+        return FollowingTimeline.merge(followeeIds, streams, FEED_PER_USER_LIMIT, FEED_TIMELINE_CAPACITY);
     }
     
-    // 공개 기록 목록 조회
-    public List<LogResponseDto> getPublicLogs(Integer userId) {
-        List<Log> logs = logRepository.findByIsPublicTrueOrderByCreatedAtDesc();
-        return convertToLogResponseDtoList(logs, userId);
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+    
+    // 작성자의 기록 변경을 팔로워 타임라인 캐시에 반영 (커밋 이후 제거하여 이전 데이터가 다시 캐시되지 않도록 함)
+    private void invalidateFollowingTimelines(Integer authorId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    followingTimelineCache.invalidateAuthor(authorId);
+                }
+            });
+        } else {
+            followingTimelineCache.invalidateAuthor(authorId);
+        }
     }
     
     // 콜드스타트용 무작위 공개 기록 조회 (중복 제외)
@@ -320,21 +427,11 @@ public class LogService {
         logger.info("무작위 공개 기록 조회: userId={}, limit={}, 제외할 로그 수={}", 
                    userId, limit, excludeLogIds != null ? excludeLogIds.size() : 0);
         
-        List<Log> allPublicLogs = logRepository.findByIsPublicTrueOrderByCreatedAtDesc();
+        // 공개 기록 ID 스냅샷에서 요청마다 새 시드로 샘플링 후 선택된 행만 조회
+        List<Integer> sampledIds = publicLogSampler.sample(limit != null && limit > 0 ? limit : 10, excludeLogIds);
+        List<Log> randomLogs = findLogsInOrder(sampledIds);
         
-        // 제외할 로그 ID들 필터링
-        List<Log> filteredLogs = allPublicLogs.stream()
-                .filter(log -> excludeLogIds == null || !excludeLogIds.contains(log.getLogId()))
-                .collect(Collectors.toList());
-        
-        // 무작위 셔플 후 제한된 개수만 선택
-        List<Log> randomLogs = filteredLogs.stream()
-                .sorted((a, b) -> Math.random() < 0.5 ? -1 : 1) // 간단한 무작위 정렬
-                .limit(limit != null && limit > 0 ? limit : 10)
-                .collect(Collectors.toList());
-        
-        logger.info("무작위 공개 기록 선택 완료: 전체={}, 필터링후={}, 최종선택={}", 
-                   allPublicLogs.size(), filteredLogs.size(), randomLogs.size());
+        logger.info("무작위 공개 기록 선택 완료: 전체={}, 최종선택={}", publicLogSampler.size(), randomLogs.size());
         
         return convertToLogResponseDtoList(randomLogs, userId);
     }
@@ -344,120 +441,74 @@ public class LogService {
         logger.info("무작위 공개 기록 조회 (페이지네이션): userId={}, limit={}, offset={}", 
                    userId, limit, offset);
         
-        List<Log> allPublicLogs = logRepository.findByIsPublicTrueOrderByCreatedAtDesc();
-        
-        // 일관된 무작위 순서를 위해 사용자 ID를 시드로 사용
-        List<Log> shuffledLogs = allPublicLogs.stream()
-                .sorted((a, b) -> {
-                    // 사용자 ID와 로그 ID를 조합한 해시로 일관된 정렬
-                    int hashA = (userId.toString() + a.getLogId().toString()).hashCode();
-                    int hashB = (userId.toString() + b.getLogId().toString()).hashCode();
-                    return Integer.compare(hashA, hashB);
-                })
-                .collect(Collectors.toList());
-        
-        // 페이지네이션 적용
         int startIndex = offset != null ? offset : 0;
-        int endIndex = Math.min(startIndex + (limit != null ? limit : 10), shuffledLogs.size());
+        int pageSize = limit != null ? limit : 10;
         
-        if (startIndex >= shuffledLogs.size()) {
-            logger.info("요청한 오프셋이 전체 데이터를 초과: offset={}, total={}", startIndex, shuffledLogs.size());
+        // 사용자 ID를 시드로 한 고정 순열에서 해당 구간만 계산
+        List<Integer> pageIds = publicLogSampler.samplePage(userId, startIndex, pageSize);
+        if (pageIds.isEmpty()) {
+            logger.info("요청한 오프셋이 전체 데이터를 초과: offset={}, total={}", startIndex, publicLogSampler.size());
             return List.of(); // 빈 리스트 반환
         }
         
-        List<Log> pageLogList = shuffledLogs.subList(startIndex, endIndex);
+        List<Log> pageLogList = findLogsInOrder(pageIds);
         
         logger.info("무작위 공개 기록 페이지네이션 완료: 전체={}, 선택범위={}~{}, 최종선택={}", 
-                   shuffledLogs.size(), startIndex, endIndex - 1, pageLogList.size());
+                   publicLogSampler.size(), startIndex, startIndex + pageIds.size() - 1, pageLogList.size());
         
         return convertToLogResponseDtoList(pageLogList, userId);
     }
     
-    // 특정 장소별 기록 조회
-    public List<LogResponseDto> getLogsByPlace(Integer placeId, Integer userId) {
-        logger.info("장소별 기록 조회 시작: placeId={}, userId={}", placeId, userId);
-        
-        List<Log> logs = logRepository.findByPlacePlaceIdOrderByCreatedAtDesc(placeId);
-        logger.info("조회된 Log 개수: {}", logs.size());
-        
-        if (logs.isEmpty()) {
-            // 디버깅: 전체 Log 개수 확인
-            long totalLogs = logRepository.count();
-            logger.info("전체 Log 개수: {}", totalLogs);
+    // ID 순서대로 기록 조회 (스냅샷 이후 삭제된 기록은 제외)
+    private List<Log> findLogsInOrder(List<Integer> logIds) {
+        if (logIds.isEmpty()) {
+            return List.of();
         }
         
-        List<LogResponseDto> result = convertToLogResponseDtoListForPlace(logs, userId, placeId);
+        Map<Integer, Log> logsById = logRepository.findAllByLogIdIn(logIds).stream()
+                .collect(Collectors.toMap(Log::getLogId, Function.identity()));
         
-        // 각 LogResponseDto에 mapcode 정보 추가
-        result.forEach(dto -> setMapCodeInfoToDto(dto, dto.getLogId()));
+        return logIds.stream()
+                .map(logsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
+    // 특정 장소별 기록 조회 (커서 기반 페이지네이션)
+    public CursorPage<List<LogResponseDto>> getLogsByPlace(Integer placeId, Integer userId, String cursor, Integer size) {
+        logger.info("장소별 기록 조회 시작: placeId={}, userId={}, cursor={}, size={}", placeId, userId, cursor, size);
+        
+        LogCursor logCursor = LogCursor.decode(cursor);
+        int pageSize = normalizePageSize(size);
+        List<Log> logs = logRepository.findPlaceLogsBefore(placeId, logCursor.getCreatedAt(), logCursor.getLogId(),
+                PageRequest.of(0, pageSize + 1));
+        logger.info("조회된 Log 개수: {}", logs.size());
         
-        return result;
+        // 지역 코드 정보는 변환기에서 일괄 조회
+        return toDtoPage(logs, pageSize, page -> convertToLogResponseDtoListForPlace(page, userId, placeId));
+    }
+    
+    // 페이지 크기 보정 (기본 20, 최대 100)
+    private int normalizePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+    
+    // size + 1개를 조회한 결과로 다음 페이지 존재 여부를 판단
+    // 비공개 기록 필터링으로 DTO 수가 줄어도 커서는 마지막으로 조회한 행 기준으로 생성
+    private CursorPage<List<LogResponseDto>> toDtoPage(List<Log> fetched, int pageSize,
+                                                       Function<List<Log>, List<LogResponseDto>> converter) {
+        boolean hasNext = fetched.size() > pageSize;
+        List<Log> page = hasNext ? fetched.subList(0, pageSize) : fetched;
+        String nextCursor = hasNext ? LogCursor.encode(page.get(page.size() - 1)) : null;
+        return new CursorPage<>(converter.apply(page), nextCursor);
     }
 
     // 장소별 기록 조회를 위한 별도 변환 메소드
     private List<LogResponseDto> convertToLogResponseDtoListForPlace(List<Log> logs, Integer userId, Integer placeId) {
-        List<LogResponseDto> result = new ArrayList<>();
-        
-        if (userId != null) {
-            // 사용자가 좋아요한 기록 ID 리스트 조회
-            List<Integer> likedLogIds = likesRepository.findLogIdsByUserUserId(userId);
-            
-            for (Log log : logs) {
-                // 비공개 기록인 경우 작성자만 볼 수 있음
-                if (!log.getIsPublic() && !log.getUser().getUserId().equals(userId)) {
-                    continue;
-                }
-                
-                LogResponseDto dto = LogResponseDto.fromEntity(log, likedLogIds.contains(log.getLogId()));
-                
-                // 이미지 URL 목록 추가
-                List<String> imageUrls = log.getImages().stream()
-                        .sorted((i1, i2) -> i1.getOrderNum().compareTo(i2.getOrderNum()))
-                        .map(LogImage::getImageUrl)
-                        .collect(Collectors.toList());
-                dto.setImageUrls(imageUrls);
-                
-                // 특정 장소 정보만 설정 (해당 장소에 연결된 기록이므로)
-                if (log.getPlace() != null && log.getPlace().getPlaceId().equals(placeId)) {
-                    dto.setPlaceId(log.getPlace().getPlaceId());
-                    dto.setPlaceName(log.getPlace().getName());
-                    // 단일 장소이므로 배열에도 해당 장소만 포함
-                    dto.setPlaceIds(List.of(log.getPlace().getPlaceId()));
-                    dto.setPlaceNames(List.of(log.getPlace().getName()));
-                }
-                
-                result.add(dto);
-            }
-        } else {
-            // 로그인하지 않은 사용자는 공개 기록만 볼 수 있음
-            for (Log log : logs) {
-                if (!log.getIsPublic()) {
-                    continue;
-                }
-                
-                LogResponseDto dto = LogResponseDto.fromEntity(log, false);
-                
-                // 이미지 URL 목록 추가
-                List<String> imageUrls = log.getImages().stream()
-                        .sorted((i1, i2) -> i1.getOrderNum().compareTo(i2.getOrderNum()))
-                        .map(LogImage::getImageUrl)
-                        .collect(Collectors.toList());
-                dto.setImageUrls(imageUrls);
-                
-                // 특정 장소 정보만 설정 (해당 장소에 연결된 기록이므로)
-                if (log.getPlace() != null && log.getPlace().getPlaceId().equals(placeId)) {
-                    dto.setPlaceId(log.getPlace().getPlaceId());
-                    dto.setPlaceName(log.getPlace().getName());
-                    // 단일 장소이므로 배열에도 해당 장소만 포함
-                    dto.setPlaceIds(List.of(log.getPlace().getPlaceId()));
-                    dto.setPlaceNames(List.of(log.getPlace().getName()));
-                }
-                
-                result.add(dto);
-            }
-        }
-        
-        return result;
+        return logResponseAssembler.toDtoListForPlace(logs, userId, placeId);
     }
     
     // 기록 수정
@@ -478,8 +529,13 @@ public class LogService {
         
         log.updateComment(requestDto.getComment());
         
-        // isPublic이 null이면 기본값 false 설정
-        log.updateIsPublic(requestDto.getIsPublic() != null ? requestDto.getIsPublic() : false);
+        // isPublic이 null이면 기본값 false 설정 (공개 여부가 바뀌면 팔로잉 피드에도 반영)
+        boolean isPublic = requestDto.getIsPublic() != null ? requestDto.getIsPublic() : false;
+        if (!Boolean.valueOf(isPublic).equals(log.getIsPublic())) {
+            invalidateFollowingTimelines(userId);
+        }
+        log.updateIsPublic(isPublic);
+        searchResultCache.invalidate(SearchResultCache.Category.LOG);
         
         // 일정 수정이 필요한 경우
         if (requestDto.getPlanId() != null && !requestDto.getPlanId().equals(log.getPlan().getPlanId())) {
@@ -521,15 +577,15 @@ public class LogService {
         responseDto.setImageUrls(imageUrls);
         
         // 여행 계획에 연결된 장소 정보 가져오기
-        List<Place> places = placeRepository.findByPlanIdOrderByOrder(log.getPlan().getPlanId());
+        List<PlaceSummary> places = planPlacesCache.getPlaces(log.getPlan().getPlanId());
         List<String> placeNames = places.stream()
-                .map(Place::getPlace)
+                .map(PlaceSummary::getAddress)
                 .collect(Collectors.toList());
         responseDto.setPlaceNames(placeNames);
         
         // Log에 직접 연결된 Place가 없는 경우, Plan의 첫 번째 Place 정보 사용
         if (responseDto.getPlaceId() == null && responseDto.getPlaceName() == null && !places.isEmpty()) {
-            Place firstPlace = places.get(0);
+            PlaceSummary firstPlace = places.get(0);
             responseDto.setPlaceId(firstPlace.getPlaceId());
             responseDto.setPlaceName(firstPlace.getName());
         }
@@ -556,6 +612,8 @@ public class LogService {
         }
         
         logRepository.delete(log);
+        invalidateFollowingTimelines(userId);
+        searchResultCache.invalidate(SearchResultCache.Category.LOG);
     }
     
     // 기록 좋아요 토글
@@ -577,6 +635,7 @@ public class LogService {
                 .map(like -> {
                     // 좋아요가 있으면 취소
                     likesRepository.delete(like);
+                    logRepository.adjustLikeCount(logId, -1);
                     return false;
                 })
                 .orElseGet(() -> {
@@ -586,6 +645,7 @@ public class LogService {
                             .user(user)
                             .build();
                     likesRepository.save(likes);
+                    logRepository.adjustLikeCount(logId, 1);
                     
                     // UserAction 기록 - LIKE 액션 (좋아요 추가 시이고 공개 기록인 경우만)
                     if (log.getIsPublic()) {
@@ -600,188 +660,8 @@ public class LogService {
                 });
     }
     
-    // 장소 정보를 LogResponseDto에 설정하는 공통 메소드
-    private void setPlaceInfoToDto(LogResponseDto dto, Integer planId) {
-        // 여행 계획에 연결된 장소 정보 가져오기
-        List<Place> places = placeRepository.findByPlanIdOrderByOrder(planId);
-        
-        // 모든 장소 ID들 설정
-        List<Integer> placeIds = places.stream()
-                .map(Place::getPlaceId)
-                .collect(Collectors.toList());
-        dto.setPlaceIds(placeIds);
-        
-        // 모든 장소 이름들 설정 (p_name 컬럼 사용)
-        List<String> placeNames = places.stream()
-                .map(Place::getName)
-                .collect(Collectors.toList());
-        dto.setPlaceNames(placeNames);
-        
-        // 호환성을 위해 첫 번째 장소 정보도 설정
-        if (!places.isEmpty()) {
-            Place firstPlace = places.get(0);
-            dto.setPlaceId(firstPlace.getPlaceId());
-            dto.setPlaceName(firstPlace.getName());
-        }
-    }
-
-    // 엔티티 리스트를 DTO 리스트로 변환
+    // 엔티티 리스트를 DTO 리스트로 변환 (연관 데이터는 고정 횟수의 일괄 조회로 처리)
     private List<LogResponseDto> convertToLogResponseDtoList(List<Log> logs, Integer userId) {
-        List<LogResponseDto> result = new ArrayList<>();
-        
-        if (userId != null) {
-            // 사용자가 좋아요한 기록 ID 리스트 조회
-            List<Integer> likedLogIds = likesRepository.findLogIdsByUserUserId(userId);
-            
-            for (Log log : logs) {
-                // 비공개 기록인 경우 작성자만 볼 수 있음
-                if (!log.getIsPublic() && !log.getUser().getUserId().equals(userId)) {
-                    continue;
-                }
-                
-                LogResponseDto dto = LogResponseDto.fromEntity(log, likedLogIds.contains(log.getLogId()));
-                
-                // 이미지 URL 목록 추가
-                List<String> imageUrls = log.getImages().stream()
-                        .sorted((i1, i2) -> i1.getOrderNum().compareTo(i2.getOrderNum()))
-                        .map(LogImage::getImageUrl)
-                        .collect(Collectors.toList());
-                dto.setImageUrls(imageUrls);
-                
-                // 장소 정보 설정
-                setPlaceInfoToDto(dto, log.getPlan().getPlanId());
-                
-                result.add(dto);
-            }
-        } else {
-            // 로그인하지 않은 사용자는 공개 기록만 볼 수 있음
-            for (Log log : logs) {
-                if (!log.getIsPublic()) {
-                    continue;
-                }
-                
-                LogResponseDto dto = LogResponseDto.fromEntity(log, false);
-                
-                // 이미지 URL 목록 추가
-                List<String> imageUrls = log.getImages().stream()
-                        .sorted((i1, i2) -> i1.getOrderNum().compareTo(i2.getOrderNum()))
-                        .map(LogImage::getImageUrl)
-                        .collect(Collectors.toList());
-                dto.setImageUrls(imageUrls);
-                
-                // 여행 계획에 연결된 장소 정보 가져오기
-                List<Place> places = placeRepository.findByPlanIdOrderByOrder(log.getPlan().getPlanId());
-                
-                // 모든 장소 ID들 설정
-                List<Integer> placeIds = places.stream()
-                        .map(Place::getPlaceId)
-                        .collect(Collectors.toList());
-                dto.setPlaceIds(placeIds);
-                
-                // 모든 장소 이름들 설정 (p_name 컬럼 사용)
-                List<String> placeNames = places.stream()
-                        .map(Place::getName)
-                        .collect(Collectors.toList());
-                dto.setPlaceNames(placeNames);
-                
-                // 호환성을 위해 첫 번째 장소 정보도 설정
-                if (!places.isEmpty()) {
-                    Place firstPlace = places.get(0);
-                    dto.setPlaceId(firstPlace.getPlaceId());
-                    dto.setPlaceName(firstPlace.getName());
-                }
-                
-                result.add(dto);
-            }
-        }
-        
-        return result;
-    }
-    
-    /**
-     * LogResponseDto에 mapcode 정보를 설정하는 메소드
-     */
-    private void setMapCodeInfoToDto(LogResponseDto dto, Integer logId) {
-        try {
-            // MyMap에서 해당 로그의 mapcode 정보 조회
-            myMapRepository.findByLogLogId(logId)
-                    .ifPresentOrElse(
-                            myMap -> {
-                                MapCode mapCode = myMap.getMapCode();
-                                if (mapCode != null) {
-                                    dto.setMapCodeId(mapCode.getMapCodeId());
-                                    dto.setMapCodeCity(mapCode.getCity());
-                                    dto.setMapCodeDistrict(mapCode.getDistrict());
-                                }
-                            },
-                            () -> {
-                                // MyMap이 없는 경우 Plan의 location 정보로부터 mapcode 추출 시도
-                                setMapCodeFromPlanLocation(dto, logId);
-                            }
-                    );
-        } catch (Exception e) {
-            logger.warn("MapCode 정보 설정 실패: logId={}, error={}", logId, e.getMessage());
-        }
-    }
-    
-    /**
-     * Plan의 location 정보로부터 mapcode를 찾아서 설정하는 메소드
-     */
-    private void setMapCodeFromPlanLocation(LogResponseDto dto, Integer logId) {
-        try {
-            logRepository.findById(logId).ifPresent(log -> {
-                Plan plan = log.getPlan();
-                if (plan != null && plan.getLocation() != null) {
-                    String location = plan.getLocation();
-                    
-                    // location 문자열을 파싱해서 도시와 구/군 추출
-                    String[] locationParts = parseLocationString(location);
-                    String city = locationParts[0];
-                    String district = locationParts[1];
-                    
-                    // mapcode 조회
-                    if (district != null && !district.trim().isEmpty()) {
-                        mapCodeRepository.findByCityAndDistrict(city, district)
-                                .ifPresent(mapCode -> {
-                                    dto.setMapCodeId(mapCode.getMapCodeId());
-                                    dto.setMapCodeCity(mapCode.getCity());
-                                    dto.setMapCodeDistrict(mapCode.getDistrict());
-                                });
-                    } else {
-                        mapCodeRepository.findByCityOnly(city)
-                                .ifPresent(mapCode -> {
-                                    dto.setMapCodeId(mapCode.getMapCodeId());
-                                    dto.setMapCodeCity(mapCode.getCity());
-                                    dto.setMapCodeDistrict(mapCode.getDistrict());
-                                });
-                    }
-                }
-            });
-        } catch (Exception e) {
-            logger.warn("Plan location으로부터 MapCode 정보 설정 실패: logId={}, error={}", logId, e.getMessage());
-        }
-    }
-    
-    /**
-     * location 문자열을 파싱해서 도시와 구/군을 추출하는 메소드
-     * 예: "서울특별시 강남구" -> ["서울특별시", "강남구"]
-     */
-    private String[] parseLocationString(String location) {
-        if (location == null || location.trim().isEmpty()) {
-            return new String[]{null, null};
-        }
-        
-        location = location.trim();
-        
-        // 공백으로 분리
-        String[] parts = location.split("\\s+");
-        
-        if (parts.length >= 2) {
-            return new String[]{parts[0], parts[1]};
-        } else if (parts.length == 1) {
-            return new String[]{parts[0], null};
-        } else {
-            return new String[]{null, null};
-        }
+        return logResponseAssembler.toDtoList(logs, userId);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,127 @@
+package com.travelonna.demo.domain.log.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.travelonna.demo.domain.log.repository.LogRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 콜드스타트용 공개 기록 무작위 샘플러
+ *
+ * 공개 기록 ID를 int 배열 스냅샷으로 보관하고(주기적으로 갱신), 시드별 Feistel 순열로
+ * 인덱스 공간 [0, n)을 섞는다. 전체 정렬 없이 페이지 N을 O(페이지 크기)로 계산하며,
+ * 같은 시드(사용자)는 스냅샷이 바뀌기 전까지 항상 같은 순서를 받는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PublicLogSampler {
+
+    private static final int FEISTEL_ROUNDS = 4;
+
+    private final LogRepository logRepository;
+
+    // 오름차순 공개 기록 ID 스냅샷 (교체만 하고 수정하지 않음)
+    private volatile int[] publicLogIds;
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicLogSampler.class);
+
+    @Scheduled(fixedDelayString = "${log.sampler.refresh-interval-ms:300000}")
+    public void refresh() {
+        List<Integer> ids = logRepository.findPublicLogIds();
+        int[] snapshot = new int[ids.size()];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = ids.get(i);
+        }
+        publicLogIds = snapshot;
+        logger.debug("공개 기록 샘플러 갱신: 기록 수={}", snapshot.length);
+    }
+
+    public int size() {
+        return snapshot().length;
+    }
+
+    /**
+     * 사용자별 고정 순서의 offset ~ offset + limit 구간 ID 조회
+     */
+    public List<Integer> samplePage(Integer userId, int offset, int limit) {
+        int[] ids = snapshot();
+        long seed = mix(userId != null ? userId : 0);
+
+        int end = (int) Math.min((long) offset + limit, ids.length);
+        List<Integer> result = new ArrayList<>(Math.max(end - offset, 0));
+        for (int index = Math.max(offset, 0); index < end; index++) {
+            result.add(ids[permute(index, ids.length, seed)]);
+        }
+        return result;
+    }
+
+    /**
+     * 요청마다 새 시드로 limit개 ID 조회 (제외 ID는 건너뜀)
+     */
+    public List<Integer> sample(int limit, Collection<Integer> excludeLogIds) {
+        int[] ids = snapshot();
+        long seed = ThreadLocalRandom.current().nextLong();
+        Set<Integer> excluded = excludeLogIds != null ? new HashSet<>(excludeLogIds) : Set.of();
+
+        List<Integer> result = new ArrayList<>(Math.min(limit, ids.length));
+        for (int index = 0; index < ids.length && result.size() < limit; index++) {
+            int logId = ids[permute(index, ids.length, seed)];
+            if (!excluded.contains(logId)) {
+                result.add(logId);
+            }
+        }
+        return result;
+    }
+
+    private int[] snapshot() {
+        int[] ids = publicLogIds;
+        if (ids == null) {
+            synchronized (this) {
+                if (publicLogIds == null) {
+                    refresh();
+                }
+                ids = publicLogIds;
+            }
+        }
+        return ids;
+    }
+
+    // [0, n) 위의 순열: 2^(2h) 크기의 Feistel 네트워크를 n 미만이 나올 때까지 반복 적용 (cycle walking)
+    static int permute(int index, int n, long seed) {
+        int bits = 32 - Integer.numberOfLeadingZeros(Math.max(n - 1, 1));
+        int halfBits = (bits + 1) / 2;
+        long mask = (1L << halfBits) - 1;
+
+        long value = index;
+        do {
+            long left = value >>> halfBits;
+            long right = value & mask;
+            for (int round = 0; round < FEISTEL_ROUNDS; round++) {
+                long next = left ^ (mix(seed + round * 0x9E3779B97F4A7C15L + right) & mask);
+                left = right;
+                right = next;
+            }
+            value = (left << halfBits) | right;
+        } while (value >= n);
+
+        return (int) value;
+    }
+
+    // SplitMix64 마무리 함수
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
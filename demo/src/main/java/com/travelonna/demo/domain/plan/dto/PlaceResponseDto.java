@@ -149,4 +149,22 @@ public class PlaceResponseDto {
         
         return dto;
     }
-} 
\ No newline at end of file
+    
+    // 캐시된 장소 요약으로부터 생성 (일차 포함)
+    public static PlaceResponseDto fromSummary(PlaceSummary summary) {
+        return PlaceResponseDto.builder()
+                .id(summary.getPlaceId())
+                .name(summary.getName())
+                .address(summary.getAddress())
+                .order(summary.getOrder())
+                .isPublic(summary.getIsPublic())
+                .visitDate(summary.getVisitDate())
+                .day(summary.getDay())
+                .cost(summary.getCost())
+                .memo(summary.getMemo())
+                .lat(summary.getLat())
+                .lon(summary.getLon())
+                .googleId(summary.getGoogleId())
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.travelonna.demo.domain.plan.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import com.travelonna.demo.domain.plan.entity.Place;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일정 장소 요약 (캐시 보관용 불변 객체)
+ * 영속성 컨텍스트와 분리되어 있으므로 여러 요청/스레드에서 공유해도 안전하다.
+ */
+@Getter
+@AllArgsConstructor
+public class PlaceSummary {
+
+    private final Integer placeId;
+    private final Integer planId;
+    private final String name;
+    private final String address;
+    private final Integer order;
+    private final Boolean isPublic;
+    private final LocalDateTime visitDate;
+    // 일정 시작일 기준 일차 (시작일 = 0일차, 계산할 수 없으면 null)
+    private final Integer day;
+    private final Integer cost;
+    private final String memo;
+    private final String lat;
+    private final String lon;
+    private final String googleId;
+
+    public static PlaceSummary fromEntity(Place place) {
+        LocalDate startDate = place.getPlan() != null ? place.getPlan().getStartDate() : null;
+        Integer day = startDate != null && place.getVisitDate() != null
+                ? (int) ChronoUnit.DAYS.between(startDate, place.getVisitDate().toLocalDate())
+                : null;
+
+        return new PlaceSummary(
+                place.getPlaceId(),
+                place.getPlan() != null ? place.getPlan().getPlanId() : null,
+                place.getName(),
+                place.getPlace(),
+                place.getOrder(),
+                place.getIsPublic(),
+                place.getVisitDate(),
+                day,
+                place.getPlaceCost(),
+                place.getMemo(),
+                place.getLat(),
+                place.getLon(),
+                place.getGoogleId());
+    }
+}
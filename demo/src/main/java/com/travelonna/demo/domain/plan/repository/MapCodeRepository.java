@@ -1,5 +1,7 @@
 package com.travelonna.demo.domain.plan.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -19,6 +21,9 @@ public interface MapCodeRepository extends JpaRepository<MapCode, Long> {
     @Query("SELECT mc FROM MapCode mc WHERE mc.city = :city AND mc.district IS NULL")
     Optional<MapCode> findByCityOnly(@Param("city") String city);
     
+    // 여러 도시의 지역 코드 일괄 조회
+    List<MapCode> findByCityIn(Collection<String> cities);
+    
     // 중복 체크
     boolean existsByCityAndDistrict(String city, String district);
 } 
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.travelonna.demo.domain.plan.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,10 @@ public interface MyMapRepository extends JpaRepository<MyMap, Integer> {
     // 로그 ID로 MyMap 조회
     Optional<MyMap> findByLogLogId(Integer logId);
     
+    // 여러 로그의 지역 코드 일괄 조회 ([logId, MapCode], 지역 코드가 없는 MyMap은 MapCode가 null)
+    @Query("SELECT mm.log.logId, mc FROM MyMap mm LEFT JOIN mm.mapCode mc WHERE mm.log.logId IN :logIds ORDER BY mm.mymapId")
+    List<Object[]> findMapCodesByLogIds(@Param("logIds") Collection<Integer> logIds);
+    
     // 사용자 ID로 MyMap 목록 조회
     List<MyMap> findByUserUserId(Integer userId);
     
@@ -1,5 +1,6 @@
 package com.travelonna.demo.domain.plan.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.time.LocalDate;
@@ -20,6 +21,10 @@ public interface PlaceRepository extends JpaRepository<Place, Integer> {
     @Query("SELECT p FROM Place p WHERE p.plan.planId = :planId ORDER BY p.order")
     List<Place> findByPlanIdOrderByOrder(@Param("planId") Integer planId);
     
+    // 여러 일정의 장소 일괄 조회 (일정별 순서대로, 일차 계산을 위해 일정을 함께 조회)
+    @Query("SELECT p FROM Place p JOIN FETCH p.plan WHERE p.plan.planId IN :planIds ORDER BY p.plan.planId, p.order")
+    List<Place> findByPlanIdsOrderByOrder(@Param("planIds") Collection<Integer> planIds);
+    
     Optional<Place> findByPlaceIdAndPlan_PlanId(Integer placeId, Integer planId);
     
     @Query("SELECT MAX(p.order) FROM Place p WHERE p.plan.planId = :planId")
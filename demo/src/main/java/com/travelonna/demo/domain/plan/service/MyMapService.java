@@ -12,6 +12,7 @@ import com.travelonna.demo.domain.plan.entity.Place;
 import com.travelonna.demo.domain.plan.repository.MapCodeRepository;
 import com.travelonna.demo.domain.plan.repository.MyMapRepository;
 import com.travelonna.demo.domain.plan.repository.PlaceRepository;
+import com.travelonna.demo.domain.search.service.AutocompleteIndex;
 import com.travelonna.demo.domain.user.entity.User;
 
 import lombok.RequiredArgsConstructor;
@@ -26,6 +27,7 @@ public class MyMapService {
     private final MyMapRepository myMapRepository;
     private final MapCodeRepository mapCodeRepository;
     private final PlaceRepository placeRepository;
+    private final AutocompleteIndex autocompleteIndex;
     
     /**
      * 로그 생성 시 MyMap 데이터 자동 생성 (임시 구현)
@@ -90,6 +92,8 @@ public class MyMapService {
         newMapCode.setCity(city);
         newMapCode.setDistrict(district);
         
-        return mapCodeRepository.save(newMapCode);
+        MapCode savedMapCode = mapCodeRepository.save(newMapCode);
+        autocompleteIndex.addRegion(city, district);
+        return savedMapCode;
     }
 } 
\ No newline at end of file
@@ -17,6 +17,8 @@ import com.travelonna.demo.domain.plan.entity.Place;
 import com.travelonna.demo.domain.plan.entity.Plan;
 import com.travelonna.demo.domain.plan.repository.PlaceRepository;
 import com.travelonna.demo.domain.plan.repository.PlanRepository;
+import com.travelonna.demo.domain.search.service.AutocompleteIndex;
+import com.travelonna.demo.domain.search.service.SearchResultCache;
 import com.travelonna.demo.global.exception.BusinessException;
 import com.travelonna.demo.global.exception.ErrorCode;
 
@@ -32,6 +34,9 @@ public class PlaceService {
     private final PlaceRepository placeRepository;
     private final PlanRepository planRepository;
     private final PlanService planService;
+    private final PlanPlacesCache planPlacesCache;
+    private final AutocompleteIndex autocompleteIndex;
+    private final SearchResultCache searchResultCache;
     
     /**
      * 여행 장소 생성
@@ -64,6 +69,11 @@ public class PlaceService {
                 .build();
         
         Place savedPlace = placeRepository.save(place);
+        planPlacesCache.evict(planId);
+        if (Boolean.TRUE.equals(savedPlace.getIsPublic())) {
+            autocompleteIndex.addPlace(savedPlace.getName());
+            searchResultCache.invalidate(SearchResultCache.Category.PLACE);
+        }
         log.info("여행 장소 생성 완료: 장소 ID {}", savedPlace.getPlaceId());
         
         // 일정 총 비용 업데이트
@@ -121,6 +131,7 @@ public class PlaceService {
                 .build();
         
         Place savedPlace = placeRepository.save(place);
+        planPlacesCache.evict(planId);
         log.info("장소 추가 완료: 장소 ID {}, 일차: {}, 순서: {}", 
                 savedPlace.getPlaceId(), requestDto.getDayNumber(), newOrder);
         
@@ -144,6 +155,10 @@ public class PlaceService {
         Place place = placeRepository.findByPlaceIdAndPlan_PlanId(placeId, planId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PLACE_NOT_FOUND));
         
+        // 자동완성 반영 여부 판단용 (공개 전환 또는 공개 장소 이름 변경)
+        boolean wasPublic = Boolean.TRUE.equals(place.getIsPublic());
+        String previousName = place.getName();
+        
         // 장소 정보 업데이트
         if (requestDto.getPlace() != null) place.setPlace(requestDto.getPlace());
         if (requestDto.getIsPublic() != null) place.setIsPublic(requestDto.getIsPublic());
@@ -158,6 +173,14 @@ public class PlaceService {
         if (requestDto.getOrder() != null) place.setOrder(requestDto.getOrder());
         if (requestDto.getGoogleId() != null) place.setGoogleId(requestDto.getGoogleId());
         Place updatedPlace = placeRepository.save(place);
+        planPlacesCache.evict(planId);
+        if (Boolean.TRUE.equals(updatedPlace.getIsPublic())
+                && (!wasPublic || !updatedPlace.getName().equals(previousName))) {
+            autocompleteIndex.addPlace(updatedPlace.getName());
+        }
+        if (wasPublic || Boolean.TRUE.equals(updatedPlace.getIsPublic())) {
+            searchResultCache.invalidate(SearchResultCache.Category.PLACE);
+        }
         log.info("여행 장소 수정 완료: 장소 ID {}", updatedPlace.getPlaceId());
         
         // 일정 총 비용 업데이트
@@ -182,6 +205,10 @@ public class PlaceService {
         
         // 장소 삭제
         placeRepository.delete(place);
+        planPlacesCache.evict(planId);
+        if (Boolean.TRUE.equals(place.getIsPublic())) {
+            searchResultCache.invalidate(SearchResultCache.Category.PLACE);
+        }
         log.info("여행 장소 삭제 완료: 장소 ID {}", placeId);
         
         // 일정 총 비용 업데이트
@@ -197,12 +224,9 @@ public class PlaceService {
         // 일정 존재 여부 확인 및 권한 체크 (그룹 멤버 포함)
         getPlanWithPermissionCheck(userId, planId);
         
-        // 장소 목록 조회
-        List<Place> places = placeRepository.findByPlanIdOrderByOrder(planId);
-        
-        // 장소 응답 DTO 생성 (visitDate로부터 여행 일차 계산)
-        List<PlaceResponseDto> placeDtos = places.stream()
-                .map(PlaceResponseDto::fromEntityWithDay)
+        // 장소 목록 조회 (캐시된 요약 사용, 일차는 요약 생성 시 계산됨)
+        List<PlaceResponseDto> placeDtos = planPlacesCache.getPlaces(planId).stream()
+                .map(PlaceResponseDto::fromSummary)
                 .collect(Collectors.toList());
         
         log.info("여행 장소 목록 조회 완료: 장소 수 {}", placeDtos.size());
@@ -258,6 +282,7 @@ public class PlaceService {
         
         // 변경된 장소 저장
         List<Place> savedPlaces = placeRepository.saveAll(updatedPlaces);
+        planPlacesCache.evict(planId);
         log.info("장소 순서 일괄 업데이트 완료: 업데이트된 장소 수 {}", savedPlaces.size());
         
         // 응답 DTO 생성
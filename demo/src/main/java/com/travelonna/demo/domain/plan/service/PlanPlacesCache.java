@@ -0,0 +1,181 @@
+package com.travelonna.demo.domain.plan.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.travelonna.demo.domain.plan.dto.PlaceSummary;
+import com.travelonna.demo.domain.plan.entity.Place;
+import com.travelonna.demo.domain.plan.repository.PlaceRepository;
+
+/**
+ * 일정별 장소 목록 read-through 캐시
+ *
+ * 1단계: 요청 단위 메모 (같은 요청 안에서 같은 일정을 여러 번 조회해도 한 번만 계산)
+ * 2단계: 프로세스 공유 캐시 (크기 제한 LRU + TTL)
+ * 관리 엔티티 대신 불변 PlaceSummary를 보관하며, 장소/일정 변경 시 evict로 무효화한다.
+ */
+@Component
+public class PlanPlacesCache {
+
+    private static final String REQUEST_MEMO_ATTRIBUTE = PlanPlacesCache.class.getName() + ".memo";
+
+    private final PlaceRepository placeRepository;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<Integer, CachedPlaces> shared;
+
+    public PlanPlacesCache(PlaceRepository placeRepository,
+                           @Value("${plan.places-cache.max-size:5000}") int maxSize,
+                           @Value("${plan.places-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.placeRepository = placeRepository;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.shared = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CachedPlaces> eldest) {
+                return size() > PlanPlacesCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 일정의 장소 목록 (순서대로)
+     */
+    public List<PlaceSummary> getPlaces(Integer planId) {
+        Map<Integer, List<PlaceSummary>> memo = requestMemo();
+        List<PlaceSummary> places = memo.get(planId);
+        if (places != null) {
+            return places;
+        }
+
+        places = getShared(planId);
+        if (places == null) {
+            places = toSummaries(placeRepository.findByPlanIdOrderByOrder(planId));
+            putShared(planId, places);
+        }
+        memo.put(planId, places);
+        return places;
+    }
+
+    /**
+     * 여러 일정의 장소 목록 (캐시에 없는 일정만 한 번의 IN 쿼리로 조회)
+     */
+    public Map<Integer, List<PlaceSummary>> getPlaces(Collection<Integer> planIds) {
+        Map<Integer, List<PlaceSummary>> memo = requestMemo();
+        Map<Integer, List<PlaceSummary>> result = new HashMap<>();
+        List<Integer> missing = new ArrayList<>();
+
+        for (Integer planId : planIds) {
+            List<PlaceSummary> places = memo.get(planId);
+            if (places == null) {
+                places = getShared(planId);
+            }
+            if (places != null) {
+                result.put(planId, places);
+            } else {
+                missing.add(planId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<Integer, List<PlaceSummary>> loaded = new HashMap<>();
+            for (Place place : placeRepository.findByPlanIdsOrderByOrder(missing)) {
+                loaded.computeIfAbsent(place.getPlan().getPlanId(), id -> new ArrayList<>())
+                        .add(PlaceSummary.fromEntity(place));
+            }
+            for (Integer planId : missing) {
+                List<PlaceSummary> places = Collections.unmodifiableList(loaded.getOrDefault(planId, new ArrayList<>()));
+                putShared(planId, places);
+                result.put(planId, places);
+            }
+        }
+
+        memo.putAll(result);
+        return result;
+    }
+
+    /**
+     * 일정의 장소 목록 무효화 (즉시 + 트랜잭션 종료 시 한 번 더 제거하여
+     * 커밋 전 데이터나 롤백된 데이터가 캐시에 남지 않도록 함)
+     */
+    public void evict(Integer planId) {
+        requestMemo().remove(planId);
+        removeShared(planId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    requestMemo().remove(planId);
+                    removeShared(planId);
+                }
+            });
+        }
+    }
+
+    private List<PlaceSummary> toSummaries(List<Place> places) {
+        return Collections.unmodifiableList(places.stream()
+                .map(PlaceSummary::fromEntity)
+                .collect(Collectors.toList()));
+    }
+
+    private synchronized List<PlaceSummary> getShared(Integer planId) {
+        CachedPlaces cached = shared.get(planId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt < System.currentTimeMillis()) {
+            shared.remove(planId);
+            return null;
+        }
+        return cached.places;
+    }
+
+    private synchronized void putShared(Integer planId, List<PlaceSummary> places) {
+        shared.put(planId, new CachedPlaces(places, System.currentTimeMillis() + ttlMillis));
+    }
+
+    private synchronized void removeShared(Integer planId) {
+        shared.remove(planId);
+    }
+
+    // HTTP 요청 밖(스케줄러 등)에서는 메모 없이 공유 캐시만 사용
+    @SuppressWarnings("unchecked")
+    private Map<Integer, List<PlaceSummary>> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new HashMap<>();
+        }
+
+        Map<Integer, List<PlaceSummary>> memo = (Map<Integer, List<PlaceSummary>>)
+                attributes.getAttribute(REQUEST_MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(REQUEST_MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+
+    private static class CachedPlaces {
+        private final List<PlaceSummary> places;
+        private final long expiresAt;
+
+        private CachedPlaces(List<PlaceSummary> places, long expiresAt) {
+            this.places = places;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
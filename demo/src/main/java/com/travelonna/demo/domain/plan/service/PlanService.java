@@ -19,10 +19,9 @@ import com.travelonna.demo.domain.plan.dto.PlanRequestDto.UpdatePeriodDto;
 import com.travelonna.demo.domain.plan.dto.PlanRequestDto.UpdatePlanDto;
 import com.travelonna.demo.domain.plan.dto.PlanRequestDto.UpdateTransportDto;
 import com.travelonna.demo.domain.plan.dto.PlanResponseDto;
-import com.travelonna.demo.domain.plan.entity.Place;
 import com.travelonna.demo.domain.plan.entity.Plan;
-import com.travelonna.demo.domain.plan.repository.PlaceRepository;
 import com.travelonna.demo.domain.plan.repository.PlanRepository;
+import com.travelonna.demo.domain.search.service.SearchResultCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,7 +33,8 @@ import lombok.extern.slf4j.Slf4j;
 public class PlanService {
     
     private final PlanRepository planRepository;
-    private final PlaceRepository placeRepository;
+    private final PlanPlacesCache planPlacesCache;
+    private final SearchResultCache searchResultCache;
     
     /**
      * 개인 일정 생성
@@ -127,6 +127,11 @@ public class PlanService {
         Plan updatedPlan = planRepository.save(plan);
         log.info("일정 정보가 업데이트되었습니다. ID: {}", updatedPlan.getPlanId());
         
+        // 시작일이 바뀌면 장소 일차가 달라지므로 장소 캐시 무효화
+        if (requestDto.getStartDate() != null) {
+            planPlacesCache.evict(planId);
+        }
+        
         return PlanResponseDto.fromEntity(updatedPlan);
     }
     
@@ -143,6 +148,7 @@ public class PlanService {
         
         Plan updatedPlan = planRepository.save(plan);
         log.info("일정 기간이 업데이트되었습니다. ID: {}", updatedPlan.getPlanId());
+        planPlacesCache.evict(planId);
         
         return PlanResponseDto.fromEntity(updatedPlan);
     }
@@ -155,6 +161,8 @@ public class PlanService {
         
         Plan plan = getPlanWithPermissionCheck(userId, planId);
         planRepository.delete(plan);
+        planPlacesCache.evict(planId);
+        searchResultCache.invalidate(SearchResultCache.Category.PLACE);
         
         log.info("일정이 삭제되었습니다. ID: {}", planId);
     }
@@ -276,12 +284,9 @@ public class PlanService {
         // 일정 존재 여부 확인 및 권한 체크
         Plan plan = getPlanWithPermissionCheck(userId, planId);
         
-        // 해당 일정의 장소 목록 조회
-        List<Place> places = placeRepository.findByPlanIdOrderByOrder(planId);
-        
-        // 장소 응답 DTO 생성 (visitDate로부터 여행 일차 계산)
-        List<PlaceResponseDto> placeDtos = places.stream()
-                .map(PlaceResponseDto::fromEntityWithDay)
+        // 해당 일정의 장소 목록 조회 (캐시된 요약 사용, 일차는 요약 생성 시 계산됨)
+        List<PlaceResponseDto> placeDtos = planPlacesCache.getPlaces(planId).stream()
+                .map(PlaceResponseDto::fromSummary)
                 .collect(Collectors.toList());
         
         // 일정 상세 정보 응답 DTO 생성
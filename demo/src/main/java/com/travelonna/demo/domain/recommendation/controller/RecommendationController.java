@@ -1,5 +1,6 @@
 package com.travelonna.demo.domain.recommendation.controller;
 
+import java.io.IOException;
 import java.util.Map;
 
 import org.springframework.http.HttpStatus;
@@ -7,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,6 +18,7 @@ import com.travelonna.demo.domain.recommendation.dto.ColdStartRecommendationResp
 import com.travelonna.demo.domain.recommendation.dto.RecommendationRequestDto;
 import com.travelonna.demo.domain.recommendation.dto.RecommendationResponseDto;
 import com.travelonna.demo.domain.recommendation.service.AIRecommendationClient;
+import com.travelonna.demo.domain.recommendation.service.InteractionExportService;
 import com.travelonna.demo.domain.recommendation.service.RecommendationService;
 import com.travelonna.demo.global.common.ApiResponse;
 
@@ -25,6 +28,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -40,6 +44,7 @@ public class RecommendationController {
     
     private final RecommendationService recommendationService;
     private final AIRecommendationClient aiRecommendationClient;
+    private final InteractionExportService interactionExportService;
     
     @Operation(
         summary = "개인화 추천 목록 조회 (페이지네이션)",
@@ -310,4 +315,33 @@ public class RecommendationController {
             );
         }
     }
-} 
\ No newline at end of file
+    
+    @GetMapping(value = "/interactions/export", produces = "application/x-ndjson")
+    @Operation(
+        summary = "추천 배치용 사용자 액션 내보내기 (NDJSON 스트리밍)",
+        description = "user_actions를 action_id 순으로 한 줄에 하나씩 NDJSON으로 스트리밍합니다.\n\n" +
+                     "**형식**: {\"user_id\", \"target_type\", \"target_id\", \"action\", \"weight\", \"ts\"}\n\n" +
+                     "**증분**: after 이후 ~ 응답 헤더 X-Export-Watermark 까지의 행을 반환하며, 다음 요청의 after로 워터마크를 사용합니다.\n\n" +
+                     "**인증**: X-Export-Key 헤더 (ai.recommendation.export.api-key)"
+    )
+    public void exportInteractions(
+            @Parameter(description = "내보내기 API 키", required = true)
+            @RequestHeader(value = "X-Export-Key", required = false) String exportKey,
+            @Parameter(description = "이전 내보내기의 워터마크 (처음이면 0)", example = "0")
+            @RequestParam(defaultValue = "0") long after,
+            HttpServletResponse response) throws IOException {
+        
+        if (!interactionExportService.isAuthorized(exportKey)) {
+            response.sendError(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        
+        long watermark = interactionExportService.currentWatermark();
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("X-Export-Watermark", Long.toString(watermark));
+        
+        // 응답 스트림에 바로 기록 (결과 전체를 메모리에 올리지 않음)
+        interactionExportService.write(after, watermark, response.getOutputStream());
+    }
+}
@@ -0,0 +1,54 @@
+package com.travelonna.demo.domain.recommendation.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 추천 배치용 사용자 액션 스트리밍 조회
+ *
+ * MySQL Connector/J는 forward-only/read-only 문장에 fetchSize = Integer.MIN_VALUE를 주면
+ * 결과를 한 행씩 스트리밍하므로, 전체 행 수와 관계없이 메모리 사용량이 일정하다.
+ * (스트리밍 중에는 해당 커넥션으로 다른 쿼리를 실행할 수 없으므로 전용 JdbcTemplate을 사용)
+ */
+@Repository
+public class InteractionExportRepository {
+
+    private static final String STREAM_SQL =
+            "SELECT action_id, user_id, target_type, target_id, action_type, action_time " +
+            "FROM user_actions WHERE action_id > ? AND action_id <= ? ORDER BY action_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public InteractionExportRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * action_time이 cutoff 이전인 액션 중 마지막 action_id (없으면 0)
+     *
+     * PK를 action_id 역순으로 읽다가 cutoff 이전 행에서 멈추므로, 읽는 행 수는 최근 구간의 액션 수에 비례한다.
+     */
+    public long findMaxActionIdBefore(LocalDateTime cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT action_id FROM user_actions WHERE action_time < ? ORDER BY action_id DESC LIMIT 1",
+                Long.class, Timestamp.valueOf(cutoff));
+        return ids.isEmpty() ? 0L : ids.get(0);
+    }
+
+    /**
+     * (afterId, upToId] 구간 액션을 action_id 순으로 한 행씩 전달
+     */
+    public void streamActions(long afterId, long upToId, RowCallbackHandler handler) {
+        streamingJdbcTemplate.query(STREAM_SQL, handler, afterId, upToId);
+    }
+}
@@ -0,0 +1,6 @@
+package com.travelonna.demo.domain.recommendation.repository;
+
+public interface RankedItemProjection {
+    Integer getItemId();
+    Float getScore();
+}
@@ -1,5 +1,7 @@
 package com.travelonna.demo.domain.recommendation.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
@@ -72,6 +74,71 @@ public interface RecommendationRepository extends JpaRepository<Recommendation,
         @Param("itemType") ItemType itemType,
         @Param("limit") Integer limit);
     
+    /**
+     * 사용자의 전체 추천 순위 (공개 기록만, 기록 정보 없이 ID와 점수만 조회)
+     */
+    @Query("""
+        SELECT r.itemId as itemId, r.score as score
+        FROM Recommendation r
+        JOIN Log l ON r.itemId = l.logId
+        WHERE r.user.userId = :userId 
+          AND r.itemType = :itemType
+          AND l.isPublic = true
+        ORDER BY r.score DESC, r.itemId
+        """)
+    List<RankedItemProjection> findRankedItems(
+        @Param("userId") Integer userId, 
+        @Param("itemType") ItemType itemType);
+    
+    /**
+     * 사용자의 전체 추천 순위 수 (findRankedItems와 같은 공개 기록 기준)
+     */
+    @Query("""
+        SELECT COUNT(r)
+        FROM Recommendation r
+        JOIN Log l ON r.itemId = l.logId
+        WHERE r.user.userId = :userId 
+          AND r.itemType = :itemType
+          AND l.isPublic = true
+        """)
+    long countRankedItems(
+        @Param("userId") Integer userId, 
+        @Param("itemType") ItemType itemType);
+    
+    /**
+     * 추천 페이지에 표시할 기록 정보 일괄 조회 (엔티티/이미지 로딩 없음)
+     */
+    @Query("""
+        SELECT l.logId as logId, l.user.userId as logUserId, p.planId as planId,
+               l.comment as comment, l.createdAt as createdAt, l.isPublic as isPublic
+        FROM Log l
+        LEFT JOIN l.plan p
+        WHERE l.logId IN :logIds
+        """)
+    List<RecommendedLogProjection> findRecommendedLogs(@Param("logIds") Collection<Integer> logIds);
+    
+    /**
+     * 마지막 확인 이후 새 추천이 저장된 사용자 (배치 저장 감지용)
+     */
+    @Query("SELECT DISTINCT r.user.userId FROM Recommendation r WHERE r.createdAt > :since")
+    List<Integer> findUserIdsWithRecommendationsCreatedAfter(@Param("since") LocalDateTime since);
+    
+    @Query("SELECT MAX(r.createdAt) FROM Recommendation r")
+    LocalDateTime findLatestCreatedAt();
+    
+    /**
+     * 사용자/타입별 추천 수 (추천 존재 여부/개수 인덱스 재구성용)
+     * logType(기록) 추천은 findRankedItems와 같이 공개 기록만 세고, 다른 타입은 기록과 조인하지 않음
+     */
+    @Query("""
+        SELECT r.user.userId as userId, r.itemType as itemType, COUNT(r) as recommendationCount
+        FROM Recommendation r
+        LEFT JOIN Log l ON r.itemType = :logType AND r.itemId = l.logId
+        WHERE r.itemType <> :logType OR l.isPublic = true
+        GROUP BY r.user.userId, r.itemType
+        """)
+    List<UserRecommendationCountProjection> countRecommendationsByUserAndItemType(@Param("logType") ItemType logType);
+    
     /**
      * 사용자별 추천 존재 여부 확인
      */
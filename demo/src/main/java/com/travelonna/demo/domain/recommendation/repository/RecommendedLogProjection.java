@@ -0,0 +1,12 @@
+package com.travelonna.demo.domain.recommendation.repository;
+
+import java.time.LocalDateTime;
+
+public interface RecommendedLogProjection {
+    Integer getLogId();
+    Integer getLogUserId();
+    Integer getPlanId();
+    String getComment();
+    LocalDateTime getCreatedAt();
+    Boolean getIsPublic();
+}
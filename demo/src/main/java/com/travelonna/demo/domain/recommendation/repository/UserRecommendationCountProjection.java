@@ -0,0 +1,9 @@
+package com.travelonna.demo.domain.recommendation.repository;
+
+import com.travelonna.demo.domain.recommendation.entity.Recommendation.ItemType;
+
+public interface UserRecommendationCountProjection {
+    Integer getUserId();
+    ItemType getItemType();
+    Long getRecommendationCount();
+}
@@ -1,7 +1,17 @@
 package com.travelonna.demo.domain.recommendation.service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -11,47 +21,177 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.travelonna.demo.domain.recommendation.service.AIServiceCircuitBreaker.Permit;
+
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * AI 추천 서비스 클라이언트
+ *
+ * 실시간 추천 조회는 전용 연결 풀(aiRecommendationRestTemplate)과 호출 제한 시간(deadline-ms)을 사용하고,
+ * 차단기가 열려 있으면 호출 없이 대체 응답을 반환한다. (배치 트리거/상태 조회는 기존 공용 RestTemplate 사용)
+ * hedge-delay-ms가 0보다 크면 첫 요청이 그 시간 안에 끝나지 않을 때 같은 요청을 한 번 더 보내 먼저 성공한 응답을 사용한다.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class AIRecommendationClient {
     
     private final RestTemplate restTemplate;
+    private final RestTemplate aiRecommendationRestTemplate;
+    private final Executor aiRecommendationExecutor;
+    private final AIServiceCircuitBreaker circuitBreaker;
     
     @Value("${ai.recommendation.service.url:http://travelonna-ai-recommendation-service:8000}")
     private String aiServiceUrl;
     
+    @Value("${ai.recommendation.client.deadline-ms:2000}")
+    private long deadlineMillis;
+    
+    @Value("${ai.recommendation.client.hedge-delay-ms:0}")
+    private long hedgeDelayMillis;
+    
+    public AIRecommendationClient(RestTemplate restTemplate,
+                                  @Qualifier("aiRecommendationRestTemplate") RestTemplate aiRecommendationRestTemplate,
+                                  @Qualifier("aiRecommendationExecutor") Executor aiRecommendationExecutor,
+                                  AIServiceCircuitBreaker circuitBreaker) {
+        this.restTemplate = restTemplate;
+        this.aiRecommendationRestTemplate = aiRecommendationRestTemplate;
+        this.aiRecommendationExecutor = aiRecommendationExecutor;
+        this.circuitBreaker = circuitBreaker;
+    }
+    
     /**
      * AI 추천 서비스에서 실시간 추천 조회
+     * 실패/시간 초과/차단 시 isFallback()이 true인 빈 응답 반환 (호출 측은 콜드스타트 경로 사용)
      */
     public AIRecommendationResponse getRecommendations(Integer userId, String type, Integer limit) {
+        Permit permit = circuitBreaker.tryAcquire();
+        if (permit == Permit.DENIED) {
+            log.debug("AI 추천 서비스 차단 중, 호출 생략: userId={}", userId);
+            return AIRecommendationResponse.fallback(userId, type);
+        }
+        
+        String url = String.format("%s/api/v1/recommendations?userId=%d&type=%s&limit=%d", 
+                                 aiServiceUrl, userId, type, limit);
+        log.info("AI 추천 서비스 호출: {}", url);
+        
+        long start = System.nanoTime();
+        AIRecommendationResponse response;
         try {
-            String url = String.format("%s/api/v1/recommendations?userId=%d&type=%s&limit=%d", 
-                                     aiServiceUrl, userId, type, limit);
-            
-            log.info("AI 추천 서비스 호출: {}", url);
-            
-            AIRecommendationResponse response = restTemplate.getForObject(url, AIRecommendationResponse.class);
-            
-            if (response != null && response.getRecommendations() != null) {
-                log.info("AI 추천 서비스 응답 성공: userId={}, 추천 수={}", 
-                        userId, response.getRecommendations().size());
-                return response;
-            } else {
-                log.warn("AI 추천 서비스에서 빈 응답: userId={}", userId);
-                return new AIRecommendationResponse(userId, type, List.of());
-            }
-            
+            response = fetchWithDeadline(url, start, permit);
+        } catch (RejectedExecutionException e) {
+            // 로컬 스레드 풀 포화 (AI 서비스 상태와 무관하므로 차단기에 반영하지 않음)
+            circuitBreaker.release(permit);
+            log.warn("AI 추천 호출 스레드 풀 포화: userId={}", userId);
+            return AIRecommendationResponse.fallback(userId, type);
+        } catch (TimeoutException e) {
+            circuitBreaker.onFailure(permit);
+            log.warn("AI 추천 서비스 응답 시간 초과: userId={}, deadline={}ms", userId, deadlineMillis);
+            return AIRecommendationResponse.fallback(userId, type);
         } catch (Exception e) {
-            log.error("AI 추천 서비스 호출 실패: userId={}, error={}", userId, e.getMessage());
-            // fallback: 빈 추천 목록 반환
+            circuitBreaker.onFailure(permit);
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            log.error("AI 추천 서비스 호출 실패: userId={}, error={}", userId, cause.getMessage());
+            return AIRecommendationResponse.fallback(userId, type);
+        }
+        circuitBreaker.onSuccess(permit, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        
+        if (response != null && response.getRecommendations() != null) {
+            log.info("AI 추천 서비스 응답 성공: userId={}, 추천 수={}", 
+                    userId, response.getRecommendations().size());
+            return response;
+        } else {
+            log.warn("AI 추천 서비스에서 빈 응답: userId={}", userId);
             return new AIRecommendationResponse(userId, type, List.of());
         }
     }
     
+    // 응답을 받았거나 제한 시간이 지나면 남은 요청(헤징에서 진 요청, 시간 초과 요청)을 취소해 스레드와 연결을 반환
+    private AIRecommendationResponse fetchWithDeadline(String url, long startNanos, Permit permit) throws Exception {
+        CompletableFuture<AIRecommendationResponse> primary = fetchAsync(url);
+        CompletableFuture<AIRecommendationResponse> hedge = null;
+        try {
+            if (hedgeDelayMillis <= 0 || hedgeDelayMillis >= deadlineMillis) {
+                return primary.get(deadlineMillis, TimeUnit.MILLISECONDS);
+            }
+            
+            try {
+                return primary.get(hedgeDelayMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // 시험 호출이거나 차단기가 열린 상태에서는 헤징하지 않음
+                if (permit != Permit.CALL || !circuitBreaker.isClosed()) {
+                    return primary.get(remainingMillis(startNanos), TimeUnit.MILLISECONDS);
+                }
+                log.debug("AI 추천 서비스 헤징 요청: {}ms 이내 응답 없음", hedgeDelayMillis);
+                try {
+                    hedge = fetchAsync(url);
+                } catch (RejectedExecutionException rejected) {
+                    return primary.get(remainingMillis(startNanos), TimeUnit.MILLISECONDS);
+                }
+                return firstSuccessful(primary, hedge).get(remainingMillis(startNanos), TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+    
+    /**
+     * 전용 스레드 풀에서 조회 (cancel(true) 시 실행 중인 스레드를 인터럽트)
+     * CompletableFuture.supplyAsync는 취소해도 실행 중인 작업을 멈추지 않으므로 FutureTask로 실행하고 결과를 연결한다.
+     * JDK HttpClient의 send()는 인터럽트되면 요청을 중단하고 InterruptedException을 던진다.
+     */
+    private CompletableFuture<AIRecommendationResponse> fetchAsync(String url) {
+        CompletableFuture<AIRecommendationResponse> result = new CompletableFuture<>();
+        FutureTask<AIRecommendationResponse> task = new FutureTask<>(
+                () -> aiRecommendationRestTemplate.getForObject(url, AIRecommendationResponse.class)) {
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+                try {
+                    result.complete(get());
+                } catch (ExecutionException e) {
+                    result.completeExceptionally(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    result.completeExceptionally(e);
+                }
+            }
+        };
+        aiRecommendationExecutor.execute(task);
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+    
+    private long remainingMillis(long startNanos) {
+        return Math.max(0, deadlineMillis - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+    
+    // 먼저 성공한 응답 (둘 다 실패하면 마지막 오류)
+    private static <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> first, CompletableFuture<T> second) {
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        BiConsumer<T, Throwable> handler = (result, error) -> {
+            if (error == null) {
+                winner.complete(result);
+            } else if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(error);
+            }
+        };
+        first.whenComplete(handler);
+        second.whenComplete(handler);
+        return winner;
+    }
+    
     /**
      * AI 추천 서비스에서 배치 처리 트리거
      */
@@ -162,9 +302,20 @@ public class AIRecommendationClient {
         private Integer userId;
         private String itemType;
         private List<AIRecommendationItem> recommendations;
+        @JsonIgnore
+        private boolean fallback;
         
         public AIRecommendationResponse() {}
         
+        /**
+         * AI 서비스를 사용할 수 없을 때의 대체 응답 (빈 추천, 캐시하지 않음)
+         */
+        public static AIRecommendationResponse fallback(Integer userId, String itemType) {
+            AIRecommendationResponse response = new AIRecommendationResponse(userId, itemType, List.of());
+            response.fallback = true;
+            return response;
+        }
+        
         public AIRecommendationResponse(Integer userId, String itemType, List<AIRecommendationItem> recommendations) {
             this.userId = userId;
             this.itemType = itemType;
@@ -180,6 +331,9 @@ public class AIRecommendationClient {
         
         public List<AIRecommendationItem> getRecommendations() { return recommendations; }
         public void setRecommendations(List<AIRecommendationItem> recommendations) { this.recommendations = recommendations; }
+        
+        @JsonIgnore
+        public boolean isFallback() { return fallback; }
     }
     
     /**
@@ -0,0 +1,124 @@
+package com.travelonna.demo.domain.recommendation.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 추천 서비스 호출 차단기
+ *
+ * - CLOSED: 정상 호출. 실패(오류/시간 초과/느린 응답)가 연속 failure-threshold회 발생하면 OPEN
+ * - OPEN: open-duration-ms 동안 호출하지 않고 바로 대체 경로(빈 결과 → 콜드스타트)로 응답
+ * - HALF_OPEN: 대기 시간이 지나면 한 요청만 시험 호출하고, 성공하면 CLOSED, 실패하면 다시 OPEN
+ */
+@Slf4j
+@Component
+public class AIServiceCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    // tryAcquire 결과 (PROBE: HALF_OPEN 상태의 시험 호출)
+    public enum Permit {
+        DENIED, CALL, PROBE
+    }
+
+    private final int failureThreshold;
+    private final long slowCallMillis;
+    private final long openDurationMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public AIServiceCircuitBreaker(@Value("${ai.recommendation.client.circuit.failure-threshold:5}") int failureThreshold,
+                                   @Value("${ai.recommendation.client.circuit.slow-call-ms:1000}") long slowCallMillis,
+                                   @Value("${ai.recommendation.client.circuit.open-duration-ms:30000}") long openDurationMillis) {
+        this.failureThreshold = failureThreshold;
+        this.slowCallMillis = slowCallMillis;
+        this.openDurationMillis = openDurationMillis;
+    }
+
+    /**
+     * 호출 허용 여부 (허용된 호출은 반드시 받은 허가와 함께 onSuccess/onFailure/release 중 하나로 결과를 알려야 함)
+     */
+    public synchronized Permit tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return Permit.CALL;
+            case OPEN:
+                if (System.currentTimeMillis() - openedAt < openDurationMillis) {
+                    return Permit.DENIED;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                log.info("AI 추천 서비스 차단기 HALF_OPEN: 시험 호출 시작");
+                return Permit.PROBE;
+            default:
+                if (probeInFlight) {
+                    return Permit.DENIED;
+                }
+                probeInFlight = true;
+                return Permit.PROBE;
+        }
+    }
+
+    /**
+     * 응답을 받은 호출 (느린 응답은 실패로 집계)
+     * HALF_OPEN에서는 시험 호출의 성공만 CLOSED로 전환하고, OPEN 전에 시작돼 늦게 도착한 결과는 무시
+     */
+    public void onSuccess(Permit permit, long elapsedMillis) {
+        if (elapsedMillis > slowCallMillis) {
+            onFailure(permit);
+            return;
+        }
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                consecutiveFailures = 0;
+            } else if (state == State.HALF_OPEN && permit == Permit.PROBE) {
+                log.info("AI 추천 서비스 차단기 CLOSED: 시험 호출 성공 ({}ms)", elapsedMillis);
+                state = State.CLOSED;
+                consecutiveFailures = 0;
+                probeInFlight = false;
+            }
+        }
+    }
+
+    public synchronized void onFailure(Permit permit) {
+        if (state == State.CLOSED) {
+            consecutiveFailures++;
+            if (consecutiveFailures < failureThreshold) {
+                return;
+            }
+        } else if (state != State.HALF_OPEN || permit != Permit.PROBE) {
+            return;
+        }
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        probeInFlight = false;
+        log.warn("AI 추천 서비스 차단기 OPEN: 연속 실패 {}회, {}ms 동안 호출 중단", consecutiveFailures, openDurationMillis);
+    }
+
+    /**
+     * 허용됐지만 AI 서비스에 도달하지 못한 호출 (로컬 사유로 취소, 상태 변경 없음)
+     */
+    public synchronized void release(Permit permit) {
+        if (permit == Permit.PROBE && state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    /**
+     * 헤징(추가 요청)은 정상 상태에서만 허용 (시험 호출 중에는 부하를 늘리지 않음)
+     */
+    public synchronized boolean isClosed() {
+        return state == State.CLOSED;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,166 @@
+package com.travelonna.demo.domain.recommendation.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.travelonna.demo.domain.recommendation.repository.InteractionExportRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 추천 배치용 사용자 액션 내보내기 (NDJSON 스트리밍)
+ *
+ * 한 줄에 액션 하나: {"user_id":1,"target_type":"LOG","target_id":2,"action":"LIKE","weight":3.0,"ts":"2026-01-01T12:00:00"}
+ * 엔티티나 목록을 만들지 않고 JDBC 커서에서 읽은 행을 바로 출력 스트림에 쓴다.
+ * 증분 내보내기는 action_id 워터마크 기준이며, 응답/파일마다 다음 요청에 쓸 워터마크를 함께 제공한다.
+ *
+ * 액션은 비동기 파이프라인이 배치로 저장하므로 action_id가 커밋 순서와 일치하지 않는다.
+ * (작은 ID를 받은 배치가 큰 ID의 배치보다 늦게 커밋될 수 있음)
+ * 따라서 워터마크는 MAX(action_id)가 아니라 action_time이 commit-lag-seconds 이전인 액션의 마지막 ID로 정한다.
+ * 보장: 기록 시각(action_time)으로부터 commit-lag-seconds 안에 커밋된 액션은 어느 증분에서도 누락되지 않는다.
+ * 그보다 늦게 커밋된 액션은 이미 지나간 워터마크 아래에 놓여 누락될 수 있으므로,
+ * commit-lag-seconds는 파이프라인의 최대 적재 지연(큐 대기 + 배치 주기 + 재시도)보다 충분히 크게 설정한다.
+ * 최근 commit-lag-seconds 동안의 액션은 다음 내보내기로 넘어간다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InteractionExportService {
+
+    private static final String WATERMARK_FILE = "watermark";
+
+    private final InteractionExportRepository interactionExportRepository;
+
+    @Value("${ai.recommendation.export.api-key:}")
+    private String apiKey;
+
+    @Value("${ai.recommendation.export.directory:}")
+    private String exportDirectory;
+
+    @Value("${ai.recommendation.export.commit-lag-seconds:300}")
+    private long commitLagSeconds;
+
+    /**
+     * 내보내기 API 키 확인 (키가 설정되지 않은 경우 API 비활성화)
+     */
+    public boolean isAuthorized(String providedKey) {
+        if (apiKey.isBlank() || providedKey == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(apiKey.getBytes(StandardCharsets.UTF_8),
+                providedKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 이번 내보내기의 상한 (= 다음 증분 내보내기의 시작 워터마크)
+     * action_time은 애플리케이션 시각으로 기록되므로 cutoff도 애플리케이션 시각 기준으로 계산한다.
+     */
+    public long currentWatermark() {
+        return interactionExportRepository.findMaxActionIdBefore(LocalDateTime.now().minusSeconds(commitLagSeconds));
+    }
+
+    /**
+     * (afterId, upToId] 구간 액션을 NDJSON으로 기록하고 행 수 반환
+     */
+    public long write(long afterId, long upToId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        long[] rows = {0};
+        StringBuilder line = new StringBuilder(128);
+
+        try {
+            interactionExportRepository.streamActions(afterId, upToId, rs -> {
+                String actionType = rs.getString("action_type");
+                Timestamp actionTime = rs.getTimestamp("action_time");
+                line.setLength(0);
+                line.append("{\"user_id\":").append(rs.getInt("user_id"))
+                    .append(",\"target_type\":\"").append(rs.getString("target_type"))
+                    .append("\",\"target_id\":").append(rs.getInt("target_id"))
+                    .append(",\"action\":\"").append(actionType)
+                    .append("\",\"weight\":").append(weightOf(actionType))
+                    .append(",\"ts\":\"").append(actionTime.toLocalDateTime())
+                    .append("\"}\n");
+                try {
+                    writer.write(line.toString());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 출력 실패
+            throw e.getCause();
+        }
+
+        writer.flush();
+        log.info("사용자 액션 내보내기 완료: action_id ({}, {}], 행 수={}", afterId, upToId, rows[0]);
+        return rows[0];
+    }
+
+    /**
+     * 지정 디렉터리에 증분 파일 생성 (마지막 워터마크 이후 ~ 현재)
+     * 임시 파일에 쓴 뒤 이동하므로 배치는 완성된 파일만 보게 된다.
+     */
+    @Scheduled(cron = "${ai.recommendation.export.cron:0 40 1 * * *}")
+    public void exportToDirectory() {
+        if (exportDirectory.isBlank()) {
+            return;
+        }
+
+        try {
+            Path directory = Files.createDirectories(Paths.get(exportDirectory));
+            Path watermarkFile = directory.resolve(WATERMARK_FILE);
+            long afterId = Files.exists(watermarkFile)
+                    ? Long.parseLong(Files.readString(watermarkFile).trim())
+                    : 0L;
+            long upToId = currentWatermark();
+            if (upToId <= afterId) {
+                log.debug("내보낼 새 사용자 액션 없음: watermark={}", afterId);
+                return;
+            }
+
+            Path temp = directory.resolve("user-actions.ndjson.tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                write(afterId, upToId, out);
+            }
+            Files.move(temp, directory.resolve("user-actions-" + afterId + "-" + upToId + ".ndjson"),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            Path tempWatermark = directory.resolve(WATERMARK_FILE + ".tmp");
+            Files.writeString(tempWatermark, Long.toString(upToId));
+            Files.move(tempWatermark, watermarkFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (Exception e) {
+            log.error("사용자 액션 파일 내보내기 실패: directory={}", exportDirectory, e);
+        }
+    }
+
+    // 행동별 가중치 (암묵적 피드백 강도)
+    private static double weightOf(String actionType) {
+        switch (actionType) {
+            case "POST":
+                return 5.0;
+            case "COMMENT":
+                return 4.0;
+            case "LIKE":
+                return 3.0;
+            default:
+                return 1.0;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.travelonna.demo.domain.recommendation.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.travelonna.demo.domain.recommendation.repository.RecommendationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 추천 배치 저장 감지
+ *
+ * recommendations 테이블은 AI 서비스 배치가 직접 기록하므로, 주기적으로 최신 created_at을 확인하고
+ * 마지막 확인 이후 추천이 새로 저장된 사용자만 캐시에서 제거하고 추천 존재 여부/개수 인덱스를 다시 만든다.
+ * (같은 시각에 저장된 행을 놓치지 않도록 경계 시각을 포함해 조회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationBatchWatcher {
+
+    private final RecommendationRepository recommendationRepository;
+    private final RecommendationCache recommendationCache;
+    private final RecommendationIndex recommendationIndex;
+
+    private volatile LocalDateTime lastSeen;
+
+    @Scheduled(fixedDelayString = "${ai.recommendation.batch-poll-interval-ms:60000}")
+    public void poll() {
+        LocalDateTime latest = recommendationRepository.findLatestCreatedAt();
+        if (latest == null) {
+            // 배치가 한 번도 저장되지 않은 경우 빈 인덱스로 시작
+            if (!recommendationIndex.isReady()) {
+                recommendationIndex.rebuild();
+            }
+            return;
+        }
+        if (latest.equals(lastSeen)) {
+            return;
+        }
+
+        if (lastSeen == null) {
+            // 기동 직후: 이전 배치 기준으로 로딩된 항목이 있을 수 있으므로 전체 제거
+            recommendationCache.invalidateAll();
+        } else {
+            List<Integer> userIds = recommendationRepository.findUserIdsWithRecommendationsCreatedAfter(lastSeen.minusNanos(1));
+            recommendationCache.invalidateUsers(userIds);
+            log.info("새 추천 배치 감지: 갱신된 사용자 수={}, 최신 저장 시각={}", userIds.size(), latest);
+        }
+        recommendationIndex.rebuild();
+        lastSeen = latest;
+    }
+}
@@ -0,0 +1,169 @@
+package com.travelonna.demo.domain.recommendation.service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 추천 순위 캐시 (프로세스 내, 크기 제한 LRU + TTL)
+ *
+ * 사용자의 전체 추천 목록(기록 ID, 점수)을 primitive 배열로 보관하고 모든 페이지를 메모리에서 잘라 제공한다.
+ * 같은 사용자의 첫 요청이 동시에 몰리면 한 요청만 로딩하고 나머지는 그 결과를 기다린다.
+ * 새 배치가 저장되면 RecommendationBatchWatcher가 해당 사용자 항목을 무효화한다.
+ */
+@Component
+public class RecommendationCache {
+
+    public enum Source {
+        BATCH, REALTIME,
+        // AI 서비스 장애/차단으로 받지 못한 결과 (저장하지 않음)
+        UNAVAILABLE
+    }
+
+    private static final int[] NO_ITEMS = new int[0];
+    private static final float[] NO_SCORES = new float[0];
+
+    private final int maxSize;
+    private final long batchTtlMillis;
+    private final long realtimeTtlMillis;
+    private final LinkedHashMap<Integer, RankedRecommendations> entries;
+    private final ConcurrentHashMap<Integer, CompletableFuture<RankedRecommendations>> loading = new ConcurrentHashMap<>();
+    // 무효화 횟수 (로딩 도중 무효화된 결과를 저장하지 않기 위해 사용)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public RecommendationCache(@Value("${ai.recommendation.cache.max-size:10000}") int maxSize,
+                               @Value("${ai.recommendation.cache.batch-ttl-seconds:3600}") long batchTtlSeconds,
+                               @Value("${ai.recommendation.cache.realtime-ttl-seconds:300}") long realtimeTtlSeconds) {
+        this.maxSize = maxSize;
+        this.batchTtlMillis = batchTtlSeconds * 1000;
+        this.realtimeTtlMillis = realtimeTtlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, RankedRecommendations> eldest) {
+                return size() > RecommendationCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 추천 목록 (없으면 loader로 한 번만 로딩)
+     */
+    public RankedRecommendations get(Integer userId, Supplier<RankedRecommendations> loader) {
+        RankedRecommendations cached = getCached(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<RankedRecommendations> mine = new CompletableFuture<>();
+        CompletableFuture<RankedRecommendations> inFlight = loading.putIfAbsent(userId, mine);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+
+        try {
+            long invalidationsBefore = invalidations.get();
+            RankedRecommendations loaded = loader.get();
+            if (loaded.source != Source.UNAVAILABLE && invalidations.get() == invalidationsBefore) {
+                put(userId, loaded);
+            }
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(userId, mine);
+        }
+    }
+
+    /**
+     * 이미 캐시된 추천 목록 (없거나 만료됐으면 null, 로딩하지 않음)
+     */
+    public RankedRecommendations peek(Integer userId) {
+        return getCached(userId);
+    }
+
+    public RankedRecommendations batch(int[] itemIds, float[] scores) {
+        return new RankedRecommendations(itemIds, scores, Source.BATCH);
+    }
+
+    public RankedRecommendations realtime(int[] itemIds, float[] scores) {
+        return new RankedRecommendations(itemIds, scores, Source.REALTIME);
+    }
+
+    public RankedRecommendations unavailable() {
+        return new RankedRecommendations(NO_ITEMS, NO_SCORES, Source.UNAVAILABLE);
+    }
+
+    public synchronized void invalidateUsers(Collection<Integer> userIds) {
+        invalidations.incrementAndGet();
+        userIds.forEach(entries::remove);
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations.incrementAndGet();
+        entries.clear();
+    }
+
+    private synchronized RankedRecommendations getCached(Integer userId) {
+        RankedRecommendations cached = entries.get(userId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt < System.currentTimeMillis()) {
+            entries.remove(userId);
+            return null;
+        }
+        return cached;
+    }
+
+    private synchronized void put(Integer userId, RankedRecommendations recommendations) {
+        long ttl = recommendations.source == Source.BATCH ? batchTtlMillis : realtimeTtlMillis;
+        recommendations.expiresAt = System.currentTimeMillis() + ttl;
+        entries.put(userId, recommendations);
+    }
+
+    /**
+     * 점수 내림차순 추천 목록 (배열은 생성 후 수정하지 않음)
+     */
+    public static final class RankedRecommendations {
+        private final int[] itemIds;
+        private final float[] scores;
+        private final Source source;
+        private volatile long expiresAt;
+
+        private RankedRecommendations(int[] itemIds, float[] scores, Source source) {
+            this.itemIds = itemIds;
+            this.scores = scores;
+            this.source = source;
+        }
+
+        public int size() {
+            return itemIds.length;
+        }
+
+        public int itemIdAt(int index) {
+            return itemIds[index];
+        }
+
+        public float scoreAt(int index) {
+            return scores[index];
+        }
+
+        public Source getSource() {
+            return source;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.travelonna.demo.domain.recommendation.service;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.travelonna.demo.domain.recommendation.entity.Recommendation.ItemType;
+import com.travelonna.demo.domain.recommendation.repository.RecommendationRepository;
+import com.travelonna.demo.domain.recommendation.repository.UserRecommendationCountProjection;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 배치 추천 존재 여부/개수 인덱스 (메모리)
+ *
+ * 타입별로 배치 추천이 있는 사용자 ID 비트맵과 사용자별 추천 수(int → int 맵)를 보관한다.
+ * 기록 추천 수는 추천 목록 조회와 같이 공개 기록만 센다.
+ * 새 배치가 감지될 때마다 RecommendationBatchWatcher가 전체를 다시 만들고 참조를 한 번에 교체하므로,
+ * 조회 중에는 항상 한 배치 기준의 일관된 스냅샷을 본다. 첫 재구성 전에는 isReady()가 false.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationIndex {
+
+    private final RecommendationRepository recommendationRepository;
+
+    private volatile Map<ItemType, Snapshot> snapshots;
+
+    public boolean isReady() {
+        return snapshots != null;
+    }
+
+    public boolean contains(Integer userId, ItemType itemType) {
+        Snapshot snapshot = snapshotOf(itemType);
+        return snapshot != null && userId != null && userId >= 0 && snapshot.users.get(userId);
+    }
+
+    public int count(Integer userId, ItemType itemType) {
+        Snapshot snapshot = snapshotOf(itemType);
+        return snapshot != null && userId != null ? snapshot.counts.get(userId) : 0;
+    }
+
+    /**
+     * 인덱스 전체 재구성 (새 스냅샷을 만든 뒤 교체)
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<UserRecommendationCountProjection> rows = recommendationRepository.countRecommendationsByUserAndItemType(ItemType.LOG);
+
+        Map<ItemType, Snapshot> rebuilt = new EnumMap<>(ItemType.class);
+        for (UserRecommendationCountProjection row : rows) {
+            int userId = row.getUserId();
+            int count = (int) Math.min(row.getRecommendationCount(), Integer.MAX_VALUE);
+            Snapshot snapshot = rebuilt.computeIfAbsent(row.getItemType(), type -> new Snapshot());
+            snapshot.users.set(userId);
+            snapshot.counts.put(userId, count);
+        }
+
+        snapshots = rebuilt;
+        log.info("추천 존재 여부 인덱스 재구성: 사용자/타입 수={}, 소요 시간={}ms", rows.size(), System.currentTimeMillis() - start);
+    }
+
+    private Snapshot snapshotOf(ItemType itemType) {
+        Map<ItemType, Snapshot> current = snapshots;
+        return current != null ? current.get(itemType) : null;
+    }
+
+    private static final class Snapshot {
+        private final BitSet users = new BitSet();
+        private final IntIntMap counts = new IntIntMap();
+    }
+
+    /**
+     * 개방 주소법 int → int 맵 (박싱 없음, 키는 양수 사용자 ID, 0은 빈 슬롯)
+     */
+    private static final class IntIntMap {
+        private int[] keys = new int[64];
+        private int[] values = new int[64];
+        private int size;
+
+        int get(int key) {
+            if (key <= 0) {
+                return 0;
+            }
+            int mask = keys.length - 1;
+            for (int slot = mix(key) & mask; keys[slot] != 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+            }
+            return 0;
+        }
+
+        void put(int key, int value) {
+            if (key <= 0) {
+                return;
+            }
+            // 적재율 1/2 유지
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int slot = mix(key) & mask;
+            while (keys[slot] != 0) {
+                if (keys[slot] == key) {
+                    values[slot] = value;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            size++;
+        }
+
+        private void resize(int capacity) {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new int[capacity];
+            values = new int[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    int slot = mix(oldKeys[i]) & mask;
+                    while (keys[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        private static int mix(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
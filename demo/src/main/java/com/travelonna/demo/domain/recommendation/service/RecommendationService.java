@@ -1,27 +1,30 @@
 package com.travelonna.demo.domain.recommendation.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.travelonna.demo.domain.log.entity.Log;
-import com.travelonna.demo.domain.log.repository.LogRepository;
 import com.travelonna.demo.domain.log.service.LogService;
+import com.travelonna.demo.domain.log.service.PublicLogSampler;
 import com.travelonna.demo.domain.recommendation.dto.ColdStartRecommendationResponseDto;
 import com.travelonna.demo.domain.recommendation.dto.RecommendationResponseDto;
 import com.travelonna.demo.domain.recommendation.dto.RecommendationResponseDto.PageInfo;
 import com.travelonna.demo.domain.recommendation.dto.RecommendationResponseDto.RecommendationItemDto;
 import com.travelonna.demo.domain.recommendation.entity.Recommendation.ItemType;
-import com.travelonna.demo.domain.recommendation.repository.RecommendationProjection;
+import com.travelonna.demo.domain.recommendation.repository.RankedItemProjection;
 import com.travelonna.demo.domain.recommendation.repository.RecommendationRepository;
+import com.travelonna.demo.domain.recommendation.repository.RecommendedLogProjection;
 import com.travelonna.demo.domain.recommendation.service.AIRecommendationClient.AIRecommendationItem;
 import com.travelonna.demo.domain.recommendation.service.AIRecommendationClient.AIRecommendationResponse;
+import com.travelonna.demo.domain.recommendation.service.RecommendationCache.RankedRecommendations;
 import com.travelonna.demo.domain.user.entity.User;
 import com.travelonna.demo.domain.user.repository.UserRepository;
 import com.travelonna.demo.global.exception.ResourceNotFoundException;
@@ -37,15 +40,29 @@ public class RecommendationService {
     
     private final RecommendationRepository recommendationRepository;
     private final UserRepository userRepository;
-    private final LogRepository logRepository;
     private final LogService logService;
+    private final PublicLogSampler publicLogSampler;
     private final AIRecommendationClient aiRecommendationClient;
+    private final RecommendationCache recommendationCache;
+    private final RecommendationIndex recommendationIndex;
+    
+    // 배치 데이터가 없을 때 AI 서비스에서 한 번에 받아 캐시해 둘 추천 수
+    private static final int REALTIME_FETCH_LIMIT = 50;
+    
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
     
     /**
      * 페이지네이션을 지원하는 추천 목록 조회 (신규 메소드)
+     * page는 1 미만이면 1, size는 1~50 범위로 보정한다. (컨트롤러의 @Min/@Max는 검증되지 않음)
+     *
+     * 전체 수(PageInfo)는 순위를 로딩한 시점의 공개 기록 기준이다.
+     * 캐시 유지 중 비공개 전환/삭제된 기록은 페이지 구성 시 제외되므로 해당 페이지의 결과 수가 size보다 적을 수 있다.
      */
     public RecommendationResponseDto getRecommendationsPaginated(Integer userId, String type, Integer page, Integer size) {
         log.debug("페이지네이션 추천 목록 조회 시작: userId={}, type={}, page={}, size={}", userId, type, page, size);
+        page = page != null && page > 0 ? page : 1;
+        size = size != null && size > 0 ? Math.min(size, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
         
         // 사용자 존재 확인
         User user = userRepository.findById(userId)
@@ -64,205 +81,186 @@ public class RecommendationService {
             throw new IllegalArgumentException("Currently only 'log' type is supported");
         }
         
-        // Pageable 객체 생성 (0 기반이므로 page-1)
-        Pageable pageable = PageRequest.of(page - 1, size);
-        
-        // 1. 먼저 배치 데이터 확인 (recommendations 테이블) - 페이지네이션
-        Page<RecommendationProjection> pagedProjections = 
-            recommendationRepository.findRecommendationsWithLogInfoPaginated(userId, itemType, pageable);
-        
-        // 배치 데이터가 있으면 사용 (페이지네이션 적용)
-        if (pagedProjections.hasContent()) {
-            log.info("✅ 개인화 추천 사용 (페이지네이션): userId={}, 페이지={}/{}, 결과 수={}", 
-                    userId, page, pagedProjections.getTotalPages(), pagedProjections.getContent().size());
-            
-            List<RecommendationItemDto> recommendationItems = pagedProjections.getContent().stream()
-                    .map(this::convertToRecommendationItemDto)
-                    .collect(Collectors.toList());
-            
-            // 페이지 정보 생성
-            PageInfo pageInfo = PageInfo.of(page, size, (int) pagedProjections.getTotalElements());
-            
-            return RecommendationResponseDto.builder()
-                    .userId(userId)
-                    .itemType(type.toLowerCase())
-                    .recommendations(recommendationItems)
-                    .pageInfo(pageInfo)
-                    .build();
-        }
-        
-        // 2. 배치 데이터가 없으면 AI 서비스 실시간 호출 (AI 서비스가 하이브리드 로직 처리)
-        log.info("배치 데이터 없음, AI 서비스 실시간 호출: userId={}", userId);
+        // 전체 추천 순위는 사용자별로 캐시하고 페이지는 메모리에서 잘라서 제공 (현재 LOG 타입만 지원하므로 사용자 ID로 캐시)
+        // 이 요청이 AI 실시간 순위를 로딩한 경우 로딩 시 조회한 기록 정보로 페이지를 구성 (IN 쿼리 한 번)
+        Map<Integer, RecommendedLogProjection> loadedLogs = new HashMap<>();
+        RankedRecommendations ranked = recommendationCache.get(userId,
+                () -> loadRankedRecommendations(userId, itemType, type, loadedLogs));
         
-        // AI 서비스에 정확한 요청 개수 전달 (AI 서비스가 부족한 부분을 자동으로 채움)
-        int requestedSize = size; // 페이지 크기만큼 정확히 요청
-        AIRecommendationResponse aiResponse = aiRecommendationClient.getRecommendations(userId, type, requestedSize);
+        int from = (int) Math.min((long) (page - 1) * size, ranked.size());
+        int to = Math.min(from + size, ranked.size());
+        List<RecommendationItemDto> recommendationItems = toRecommendationItems(ranked, from, to, loadedLogs);
         
-        if (aiResponse.getRecommendations() != null && !aiResponse.getRecommendations().isEmpty()) {
-            log.info("✅ AI 실시간 추천 사용: userId={}, 요청={}, 응답={}", 
-                    userId, requestedSize, aiResponse.getRecommendations().size());
-            
-            List<RecommendationItemDto> allItems = aiResponse.getRecommendations().stream()
-                    .map(aiItem -> convertAIItemToDto(aiItem, type))
-                    .collect(Collectors.toList());
-            
-            // AI 서비스가 이미 정확한 개수를 보장하므로 페이지네이션 시뮬레이션 불필요
-            // 단순히 현재 페이지 정보만 생성
-            PageInfo pageInfo = PageInfo.of(page, size, allItems.size());
-            
-            return RecommendationResponseDto.builder()
-                    .userId(userId)
-                    .itemType(type.toLowerCase())
-                    .recommendations(allItems)
-                    .pageInfo(pageInfo)
-                    .build();
+        if (ranked.getSource() == RecommendationCache.Source.UNAVAILABLE) {
+            // AI 서비스 장애/차단 시 빈 결과 반환 (클라이언트는 콜드스타트 추천으로 대체)
+            log.warn("⚠️ AI 추천 서비스 사용 불가, 콜드스타트 대체: userId={}, page={}, size={}", userId, page, size);
+        } else if (ranked.size() == 0) {
+            // AI 서비스 호출 실패 시 빈 결과 반환 (AI 서비스가 모든 fallback 처리)
+            log.warn("⚠️ AI 추천 서비스 호출 실패: userId={}, page={}, size={}", userId, page, size);
+        } else {
+            log.info("✅ {} 추천 사용 (페이지네이션): userId={}, 페이지={}, 결과 수={}, 전체={}", 
+                    ranked.getSource() == RecommendationCache.Source.BATCH ? "개인화" : "AI 실시간",
+                    userId, page, recommendationItems.size(), ranked.size());
         }
         
-        // 3. AI 서비스 호출 실패 시 빈 결과 반환 (AI 서비스가 모든 fallback 처리)
-        log.warn("⚠️ AI 추천 서비스 호출 실패: userId={}, page={}, size={}", userId, page, size);
-        
-        // 빈 페이지 정보 생성
-        PageInfo pageInfo = PageInfo.of(page, size, 0);
+        PageInfo pageInfo = PageInfo.of(page, size, ranked.size());
         
         return RecommendationResponseDto.builder()
                 .userId(userId)
                 .itemType(type.toLowerCase())
-                .recommendations(List.of())
+                .recommendations(recommendationItems)
                 .pageInfo(pageInfo)
                 .build();
     }
     
     /**
-     * 기존 메소드 (하위 호환성을 위해 유지) - 내부적으로 새로운 페이지네이션 메소드 호출
+     * 사용자의 전체 추천 순위 로딩 (배치 데이터 우선, 없으면 AI 서비스 실시간 호출)
+     * AI 실시간 순위는 공개 여부 확인을 위해 조회한 기록 정보를 loadedLogs에 담아 첫 페이지 구성에 재사용
      */
-    public RecommendationResponseDto getRecommendations(Integer userId, String type, Integer limit) {
-        log.debug("기존 추천 목록 조회 (호환성): userId={}, type={}, limit={}", userId, type, limit);
+    private RankedRecommendations loadRankedRecommendations(Integer userId, ItemType itemType, String type,
+                                                            Map<Integer, RecommendedLogProjection> loadedLogs) {
+        // 1. 먼저 배치 데이터 확인 (recommendations 테이블, 공개 기록만)
+        List<RankedItemProjection> rankedItems = recommendationRepository.findRankedItems(userId, itemType);
+        if (!rankedItems.isEmpty()) {
+            int[] itemIds = new int[rankedItems.size()];
+            float[] scores = new float[rankedItems.size()];
+            for (int i = 0; i < itemIds.length; i++) {
+                itemIds[i] = rankedItems.get(i).getItemId();
+                scores[i] = rankedItems.get(i).getScore();
+            }
+            return recommendationCache.batch(itemIds, scores);
+        }
         
-        // 기존 limit 방식을 첫 번째 페이지로 변환
-        int size = limit != null && limit > 0 ? limit : 20;
-        return getRecommendationsPaginated(userId, type, 1, size);
+        // 2. 배치 데이터가 없으면 AI 서비스 실시간 호출 (AI 서비스가 하이브리드 로직 처리)
+        log.info("배치 데이터 없음, AI 서비스 실시간 호출: userId={}", userId);
+        AIRecommendationResponse aiResponse = aiRecommendationClient.getRecommendations(userId, type, REALTIME_FETCH_LIMIT);
+        if (aiResponse.isFallback()) {
+            return recommendationCache.unavailable();
+        }
+        List<AIRecommendationItem> aiItems = aiResponse.getRecommendations() != null
+                ? aiResponse.getRecommendations() : List.of();
+        
+        // 배치 데이터와 같이 공개 기록만 순위에 남김 (전체 수가 실제 표시 가능한 기록 수와 일치하도록)
+        loadedLogs.putAll(findPublicLogs(aiItems));
+        Set<Integer> publicLogIds = new HashSet<>(loadedLogs.keySet());
+        int[] itemIds = new int[publicLogIds.size()];
+        float[] scores = new float[publicLogIds.size()];
+        int count = 0;
+        for (AIRecommendationItem item : aiItems) {
+            if (publicLogIds.remove(item.getItemId())) {
+                itemIds[count] = item.getItemId();
+                scores[count] = item.getScore() != null ? item.getScore().floatValue() : 0.0f;
+                count++;
+            }
+        }
+        return recommendationCache.realtime(itemIds, scores);
     }
     
-    private RecommendationItemDto convertToRecommendationItemDto(RecommendationProjection projection) {
-        return RecommendationItemDto.builder()
-                .itemId(projection.getItemId())
-                .score(projection.getScore())
-                .logId(projection.getLogId())
-                .userId(projection.getLogUserId())
-                .planId(projection.getPlanId())
-                .comment(projection.getComment())
-                .createdAt(projection.getCreatedAt())
-                .isPublic(projection.getIsPublic())
-                .build();
+    // AI 추천 기록 중 존재하는 공개 기록 (기록 ID → 기록 정보)
+    private Map<Integer, RecommendedLogProjection> findPublicLogs(List<AIRecommendationItem> aiItems) {
+        if (aiItems.isEmpty()) {
+            return Map.of();
+        }
+        List<Integer> logIds = aiItems.stream().map(AIRecommendationItem::getItemId).collect(Collectors.toList());
+        return recommendationRepository.findRecommendedLogs(logIds).stream()
+                .filter(logInfo -> Boolean.TRUE.equals(logInfo.getIsPublic()))
+                .collect(Collectors.toMap(RecommendedLogProjection::getLogId, Function.identity(), (a, b) -> a));
     }
     
     /**
-     * AI 서비스 응답을 RecommendationItemDto로 변환 (실제 로그 정보 보강)
+     * 추천 페이지 구성 (배치/AI 실시간 공통)
+     * 페이지의 기록 정보를 IN 쿼리 한 번으로 조회하고, 추천 순서를 유지하면서 순위 로딩 이후 비공개/삭제된 기록은 제외
+     * 같은 요청에서 순위를 로딩하며 조회한 기록 정보(loadedLogs)가 있으면 다시 조회하지 않음
      */
-    private RecommendationItemDto convertAIItemToDto(AIRecommendationItem aiItem, String type) {
-        if (!type.equals("log")) {
-            // log 타입이 아닌 경우 기본 정보만 반환
-            return RecommendationItemDto.builder()
-                    .itemId(aiItem.getItemId())
-                    .score(aiItem.getScore() != null ? aiItem.getScore().floatValue() : 0.0f)
-                    .build();
+    private List<RecommendationItemDto> toRecommendationItems(RankedRecommendations ranked, int from, int to,
+                                                              Map<Integer, RecommendedLogProjection> loadedLogs) {
+        List<Integer> logIds = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            logIds.add(ranked.itemIdAt(i));
+        }
+        if (logIds.isEmpty()) {
+            return List.of();
         }
         
-        // log 타입인 경우 실제 로그 정보 조회
-        Integer logId = aiItem.getItemId();
-        try {
-            Log logEntity = logRepository.findByIdWithDetails(logId).orElse(null);
-            
-            if (logEntity != null && logEntity.getIsPublic()) {
-                // 공개 로그인 경우 상세 정보 포함
-                return RecommendationItemDto.builder()
-                        .itemId(logId)
-                        .score(aiItem.getScore() != null ? aiItem.getScore().floatValue() : 0.0f)
-                        .logId(logId)
-                        .userId(logEntity.getUser().getUserId())
-                        .planId(logEntity.getPlan() != null ? logEntity.getPlan().getPlanId() : null)
-                        .comment(logEntity.getComment())
-                        .createdAt(logEntity.getCreatedAt())
-                        .isPublic(logEntity.getIsPublic())
-                        .build();
-            } else {
-                // 비공개 로그이거나 로그가 없는 경우 기본 정보만 반환
-                log.warn("추천된 로그가 비공개이거나 존재하지 않음: logId={}", logId);
-                return RecommendationItemDto.builder()
-                        .itemId(logId)
-                        .score(aiItem.getScore() != null ? aiItem.getScore().floatValue() : 0.0f)
-                        .logId(logId)
-                        .userId(null)
-                        .planId(null)
-                        .comment(null)
-                        .createdAt(null)
-                        .isPublic(null)
-                        .build();
+        Map<Integer, RecommendedLogProjection> logsById = loadedLogs.keySet().containsAll(logIds)
+                ? loadedLogs
+                : recommendationRepository.findRecommendedLogs(logIds).stream()
+                        .collect(Collectors.toMap(RecommendedLogProjection::getLogId, Function.identity()));
+        
+        List<RecommendationItemDto> items = new ArrayList<>(logIds.size());
+        for (int i = from; i < to; i++) {
+            RecommendedLogProjection logInfo = logsById.get(ranked.itemIdAt(i));
+            if (logInfo == null || !Boolean.TRUE.equals(logInfo.getIsPublic())) {
+                continue;
             }
-        } catch (Exception e) {
-            log.error("로그 정보 조회 실패: logId={}, error={}", logId, e.getMessage());
-            // 에러 발생 시 기본 정보만 반환
-            return RecommendationItemDto.builder()
-                    .itemId(logId)
-                    .score(aiItem.getScore() != null ? aiItem.getScore().floatValue() : 0.0f)
-                    .logId(logId)
-                    .userId(null)
-                    .planId(null)
-                    .comment(null)
-                    .createdAt(null)
-                    .isPublic(null)
-                    .build();
+            items.add(RecommendationItemDto.builder()
+                    .itemId(logInfo.getLogId())
+                    .score(ranked.scoreAt(i))
+                    .logId(logInfo.getLogId())
+                    .userId(logInfo.getLogUserId())
+                    .planId(logInfo.getPlanId())
+                    .comment(logInfo.getComment())
+                    .createdAt(logInfo.getCreatedAt())
+                    .isPublic(logInfo.getIsPublic())
+                    .build());
         }
+        return items;
+    }
+    
+    /**
+     * 기존 메소드 (하위 호환성을 위해 유지) - 내부적으로 새로운 페이지네이션 메소드 호출
+     */
+    public RecommendationResponseDto getRecommendations(Integer userId, String type, Integer limit) {
+        log.debug("기존 추천 목록 조회 (호환성): userId={}, type={}, limit={}", userId, type, limit);
+        
+        // 기존 limit 방식을 첫 번째 페이지로 변환
+        int size = limit != null && limit > 0 ? limit : 20;
+        return getRecommendationsPaginated(userId, type, 1, size);
     }
     
+    /**
+     * 추천 존재 여부 (추천 개수와 같은 기준, AI 서비스를 호출하지 않음)
+     */
     public boolean hasRecommendations(Integer userId, String type) {
-        try {
-            ItemType itemType = ItemType.valueOf(type.toUpperCase());
-            
-            // 1. 배치 데이터 확인
-            boolean hasBatchData = recommendationRepository.existsByUserUserIdAndItemType(userId, itemType);
-            if (hasBatchData) {
-                return true;
-            }
-            
-            // 2. AI 서비스에서 실시간 확인
-            try {
-                AIRecommendationResponse aiResponse = aiRecommendationClient.getRecommendations(userId, type, 1);
-                return aiResponse.getRecommendations() != null && !aiResponse.getRecommendations().isEmpty();
-            } catch (Exception e) {
-                log.warn("AI 서비스 호출 실패로 false 반환: userId={}, error={}", userId, e.getMessage());
-                return false;
-            }
-            
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
+        return getRecommendationCount(userId, type) > 0;
     }
     
+    /**
+     * 추천 개수 (추천 목록 조회와 같이 공개 기록 기준)
+     * 배치 추천이 없으면 이미 캐시된 AI 실시간 순위의 수를 반환하고, 캐시에 없으면 0 (개수 확인을 위해 AI 서비스를 호출하지 않음)
+     */
     public long getRecommendationCount(Integer userId, String type) {
         try {
             ItemType itemType = ItemType.valueOf(type.toUpperCase());
             
             // 1. 배치 데이터 카운트
-            long batchCount = recommendationRepository.countByUserUserIdAndItemType(userId, itemType);
+            long batchCount = countBatchRecommendations(userId, itemType);
             if (batchCount > 0) {
                 return batchCount;
             }
             
-            // 2. AI 서비스에서 실시간 확인 (최대 50개로 제한해서 카운트)
-            try {
-                AIRecommendationResponse aiResponse = aiRecommendationClient.getRecommendations(userId, type, 50);
-                return aiResponse.getRecommendations() != null ? aiResponse.getRecommendations().size() : 0;
-            } catch (Exception e) {
-                log.warn("AI 서비스 호출 실패로 0 반환: userId={}, error={}", userId, e.getMessage());
+            // 2. 이미 로딩된 AI 실시간 추천 수 (현재는 LOG 타입만 지원)
+            if (itemType != ItemType.LOG) {
                 return 0;
             }
+            RankedRecommendations cached = recommendationCache.peek(userId);
+            return cached != null ? cached.size() : 0;
             
         } catch (IllegalArgumentException e) {
             return 0;
         }
     }
     
+    // 배치 추천 수 (인덱스 준비 전에만 DB 조회)
+    private long countBatchRecommendations(Integer userId, ItemType itemType) {
+        if (recommendationIndex.isReady()) {
+            return recommendationIndex.count(userId, itemType);
+        }
+        return itemType == ItemType.LOG
+                ? recommendationRepository.countRankedItems(userId, itemType)
+                : recommendationRepository.countByUserUserIdAndItemType(userId, itemType);
+    }
+    
     /**
      * 콜드스타트용 무작위 공개 기록 추천 (페이지네이션 방식)
      */
@@ -274,17 +272,22 @@ public class RecommendationService {
         userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found: ID=" + userId));
         
-        // LogService를 통해 무작위 공개 로그 조회 (페이지네이션)
+        // LogService를 통해 무작위 공개 로그 조회 (사용자별 고정 순열 기반 페이지네이션)
         List<com.travelonna.demo.domain.log.dto.LogResponseDto> randomLogs = 
             logService.getRandomPublicLogsWithPagination(userId, limit, offset);
         
         log.info("콜드스타트 추천 완료: userId={}, 추천 수={}", userId, randomLogs.size());
         
+        // 더 많은 데이터가 있는지 여부 (샘플러 스냅샷 크기 기준)
+        int start = offset != null ? offset : 0;
+        int pageSize = limit != null ? limit : 10;
+        boolean hasMore = (long) start + pageSize < publicLogSampler.size();
+        
         return ColdStartRecommendationResponseDto.builder()
                 .userId(userId)
                 .recommendationType("coldstart")
                 .logs(randomLogs)
-                .hasMore(randomLogs.size() == limit) // 더 많은 데이터가 있는지 여부
+                .hasMore(hasMore)
                 .build();
     }
 } 
\ No newline at end of file
@@ -1,12 +1,16 @@
 package com.travelonna.demo.domain.search.controller;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.travelonna.demo.domain.search.dto.AutocompleteSuggestionDto;
 import com.travelonna.demo.domain.search.dto.SearchResponseDto;
+import com.travelonna.demo.domain.search.service.AutocompleteIndex;
 import com.travelonna.demo.domain.search.service.SearchService;
 import com.travelonna.demo.global.common.ApiResponse;
 
@@ -24,14 +28,21 @@ import lombok.extern.slf4j.Slf4j;
 public class SearchController {
 
     private final SearchService searchService;
+    private final AutocompleteIndex autocompleteIndex;
+
+    private static final int MAX_PAGE_SIZE = 50;
 
-    @Operation(summary = "장소 이름 또는 닉네임으로 검색", description = "장소 이름 또는 사용자 닉네임으로 검색합니다.")
+    @Operation(summary = "장소 이름 또는 닉네임으로 검색", description = "장소 이름, 사용자 닉네임, 여행 기록 내용으로 검색합니다. 공백과 하이픈은 무시하며, 분류별로 관련도 순 정렬 후 페이지 단위로 반환합니다.")
     @GetMapping
     public ResponseEntity<ApiResponse<SearchResponseDto>> search(
             @Parameter(description = "검색어 (장소 이름 또는 닉네임)", required = true)
-            @RequestParam(required = false) String keyword) {
+            @RequestParam(required = false) String keyword,
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "분류별 페이지 크기 (최대 50)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
         
-        log.info("검색 요청: keyword={}", keyword);
+        log.info("검색 요청: keyword={}, page={}, size={}", keyword, page, size);
         
         // 검색어 유효성 검사
         if (keyword == null || keyword.trim().isEmpty()) {
@@ -54,7 +65,35 @@ public class SearchController {
         
         log.info("검색어 정규화: '{}' -> '{}'", trimmedKeyword, normalizedKeyword);
         
-        SearchResponseDto result = searchService.search(normalizedKeyword);
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("page는 0 이상, size는 1~" + MAX_PAGE_SIZE + " 사이로 입력해주세요."));
+        }
+        
+        SearchResponseDto result = searchService.search(normalizedKeyword, page, size);
         return ResponseEntity.ok(ApiResponse.success("검색 결과입니다.", result));
     }
-} 
\ No newline at end of file
+    
+    @Operation(summary = "검색어 자동완성", description = "입력 중인 검색어로 시작하는 장소 이름, 닉네임, 지역을 인기순으로 반환합니다. 한글은 자모 단위로 매칭하며, 자음만 입력하면 초성으로 검색합니다. (예: 'ㅅㅇ' -> 서울)")
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<AutocompleteSuggestionDto>>> autocomplete(
+            @Parameter(description = "입력 중인 검색어", required = true)
+            @RequestParam(required = false) String keyword,
+            @Parameter(description = "최대 제안 수 (최대 " + AutocompleteIndex.MAX_SUGGESTIONS + ")", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return ResponseEntity.ok(ApiResponse.success("검색어가 입력되지 않았습니다.", List.of()));
+        }
+        if (keyword.length() > 50) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("검색어는 50자 이하로 입력해주세요."));
+        }
+        if (limit < 1 || limit > AutocompleteIndex.MAX_SUGGESTIONS) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("limit은 1~" + AutocompleteIndex.MAX_SUGGESTIONS + " 사이로 입력해주세요."));
+        }
+        
+        return ResponseEntity.ok(ApiResponse.success("자동완성 결과입니다.", autocompleteIndex.suggest(keyword, limit)));
+    }
+}
@@ -0,0 +1,25 @@
+package com.travelonna.demo.domain.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "자동완성 제안 DTO")
+public class AutocompleteSuggestionDto {
+
+    @Schema(description = "제안 문자열", example = "서울특별시 강남구")
+    private String text;
+
+    @Schema(description = "제안 분류 (PLACE: 장소 이름, USER: 닉네임, REGION: 지역)", example = "REGION")
+    private SuggestionType type;
+
+    public enum SuggestionType {
+        PLACE, USER, REGION
+    }
+}
@@ -35,6 +35,10 @@ public class SearchResponseDto {
     @Builder.Default
     private List<LogDto> logs = new ArrayList<>();
     
+    @Schema(description = "일부 분류가 시간 초과 또는 오류로 비어 있는 경우 true")
+    @Builder.Default
+    private boolean partial = false;
+    
     @Getter
     @Setter
     @Builder
@@ -62,42 +66,14 @@ public class SearchResponseDto {
         private String googleId;
         
         public static PlaceDto fromEntity(Place place) {
-            PlaceDto dto = new PlaceDto();
-            try {
-                // 리플렉션을 사용하여 필드에 직접 접근
-                java.lang.reflect.Field placeIdField = place.getClass().getDeclaredField("placeId");
-                placeIdField.setAccessible(true);
-                dto.placeId = (Integer) placeIdField.get(place);
-                
-                java.lang.reflect.Field nameField = place.getClass().getDeclaredField("name");
-                nameField.setAccessible(true);
-                dto.name = (String) nameField.get(place);
-                
-                java.lang.reflect.Field placeField = place.getClass().getDeclaredField("place");
-                placeField.setAccessible(true);
-                dto.address = (String) placeField.get(place);
-                
-                java.lang.reflect.Field latField = place.getClass().getDeclaredField("lat");
-                latField.setAccessible(true);
-                dto.lat = (String) latField.get(place);
-                
-                java.lang.reflect.Field lonField = place.getClass().getDeclaredField("lon");
-                lonField.setAccessible(true);
-                dto.lon = (String) lonField.get(place);
-                
-                java.lang.reflect.Field googleIdField = place.getClass().getDeclaredField("googleId");
-                googleIdField.setAccessible(true);
-                dto.googleId = (String) googleIdField.get(place);
-                
-                System.out.println("Place 변환 완료: " + dto.name + " (ID: " + dto.placeId + ")");
-            } catch (Exception e) {
-                System.out.println("Place 변환 오류: " + e.getMessage());
-                // 기본값 설정
-                dto.placeId = 0;
-                dto.name = "오류";
-                dto.address = "오류";
-            }
-            return dto;
+            return PlaceDto.builder()
+                    .placeId(place.getPlaceId())
+                    .name(place.getName())
+                    .address(place.getPlace())
+                    .lat(place.getLat())
+                    .lon(place.getLon())
+                    .googleId(place.getGoogleId())
+                    .build();
         }
     }
     
@@ -122,28 +98,12 @@ public class SearchResponseDto {
         private String introduction;
         
         public static UserDto fromEntity(Profile profile) {
-            UserDto dto = new UserDto();
-            try {
-                java.lang.reflect.Field userIdField = profile.getClass().getDeclaredField("userId");
-                userIdField.setAccessible(true);
-                dto.userId = (Integer) userIdField.get(profile);
-                
-                java.lang.reflect.Field nicknameField = profile.getClass().getDeclaredField("nickname");
-                nicknameField.setAccessible(true);
-                dto.nickname = (String) nicknameField.get(profile);
-                
-                java.lang.reflect.Field profileImageField = profile.getClass().getDeclaredField("profileImage");
-                profileImageField.setAccessible(true);
-                dto.profileImage = (String) profileImageField.get(profile);
-                
-                java.lang.reflect.Field introductionField = profile.getClass().getDeclaredField("introduction");
-                introductionField.setAccessible(true);
-                dto.introduction = (String) introductionField.get(profile);
-            } catch (Exception e) {
-                dto.userId = 0;
-                dto.nickname = "";
-            }
-            return dto;
+            return UserDto.builder()
+                    .userId(profile.getUserId())
+                    .nickname(profile.getNickname())
+                    .profileImage(profile.getProfileImage())
+                    .introduction(profile.getIntroduction())
+                    .build();
         }
     }
     
@@ -178,44 +138,14 @@ public class SearchResponseDto {
         private Integer likeCount;
         
         public static LogDto fromEntity(Log log) {
-            LogDto dto = new LogDto();
-            try {
-                java.lang.reflect.Field logIdField = log.getClass().getDeclaredField("logId");
-                logIdField.setAccessible(true);
-                dto.logId = (Integer) logIdField.get(log);
-                
-                java.lang.reflect.Field userField = log.getClass().getDeclaredField("user");
-                userField.setAccessible(true);
-                Object user = userField.get(log);
-                
-                if (user != null) {
-                    java.lang.reflect.Field userIdField = user.getClass().getDeclaredField("userId");
-                    userIdField.setAccessible(true);
-                    dto.userId = (Integer) userIdField.get(user);
-                    
-                    java.lang.reflect.Field nameField = user.getClass().getDeclaredField("name");
-                    nameField.setAccessible(true);
-                    dto.userName = (String) nameField.get(user);
-                }
-                
-                java.lang.reflect.Field commentField = log.getClass().getDeclaredField("comment");
-                commentField.setAccessible(true);
-                dto.comment = (String) commentField.get(log);
-                
-                java.lang.reflect.Field createdAtField = log.getClass().getDeclaredField("createdAt");
-                createdAtField.setAccessible(true);
-                dto.createdAt = (java.time.LocalDateTime) createdAtField.get(log);
-                
-                dto.imageUrls = new ArrayList<>();
-                dto.likeCount = 0;
-            } catch (Exception e) {
-                dto.logId = 0;
-                dto.comment = "";
-                dto.imageUrls = new ArrayList<>();
-                dto.likeCount = 0;
-            }
-            
-            return dto;
+            return LogDto.builder()
+                    .logId(log.getLogId())
+                    .userId(log.getUser() != null ? log.getUser().getUserId() : null)
+                    .userName(log.getUser() != null ? log.getUser().getName() : null)
+                    .comment(log.getComment())
+                    .createdAt(log.getCreatedAt())
+                    .likeCount(log.getLikeCount() != null ? log.getLikeCount() : 0)
+                    .build();
         }
     }
 } 
\ No newline at end of file
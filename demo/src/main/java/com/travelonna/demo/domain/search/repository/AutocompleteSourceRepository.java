@@ -0,0 +1,49 @@
+package com.travelonna.demo.domain.search.repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * 자동완성 인덱스 원본 조회 (문자열과 등장 횟수만 조회, 엔티티 로딩 없음)
+ */
+@Repository
+public class AutocompleteSourceRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    // 공개 장소 이름별 등장 횟수 (여러 일정에 등장한 장소일수록 가중치가 높음)
+    public Map<String, Long> findPublicPlaceNameCounts() {
+        return toMap(em.createQuery(
+                "SELECT p.name, COUNT(p) FROM Place p WHERE p.isPublic = true GROUP BY p.name", Object[].class)
+                .getResultList());
+    }
+
+    public Map<String, Long> findNicknameCounts() {
+        return toMap(em.createQuery(
+                "SELECT p.nickname, COUNT(p) FROM Profile p GROUP BY p.nickname", Object[].class)
+                .getResultList());
+    }
+
+    // 지역 코드 목록 [city, district] (district는 null일 수 있음)
+    public List<Object[]> findRegions() {
+        return em.createQuery("SELECT mc.city, mc.district FROM MapCode mc", Object[].class)
+                .getResultList();
+    }
+
+    private Map<String, Long> toMap(List<Object[]> rows) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            if (row[0] != null) {
+                counts.put((String) row[0], ((Number) row[1]).longValue());
+            }
+        }
+        return counts;
+    }
+}
@@ -6,6 +6,9 @@ import com.travelonna.demo.domain.log.entity.Log;
 import com.travelonna.demo.domain.plan.entity.Place;
 import com.travelonna.demo.domain.user.entity.Profile;
 
+/**
+ * 장소/프로필/여행 기록 검색 (공백, 하이픈을 무시한 부분 일치, 관련도 순 정렬)
+ */
 public interface SearchRepository {
     
     /**
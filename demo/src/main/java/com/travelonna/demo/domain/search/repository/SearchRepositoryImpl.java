@@ -2,6 +2,8 @@ package com.travelonna.demo.domain.search.repository;
 
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import com.travelonna.demo.domain.log.entity.Log;
@@ -10,146 +12,113 @@ import com.travelonna.demo.domain.user.entity.Profile;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.TypedQuery;
+import jakarta.persistence.Query;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * FULLTEXT(ngram) 인덱스 기반 검색
+ *
+ * 검색 대상 컬럼은 공백/하이픈을 제거한 STORED 생성 컬럼(V5 마이그레이션)이며,
+ * 키워드도 같은 방식으로 정규화해 BOOLEAN MODE 구문 검색("...")으로 매칭한다.
+ * 결과는 MATCH 점수 내림차순(동점은 ID 순)으로 정렬된다.
+ * 통합 검색의 분류별 제한 시간(search.timeout-ms)을 JDBC 쿼리 타임아웃으로도 걸어,
+ * 시간 초과로 버려진 조회가 DB 커넥션을 계속 붙잡지 않도록 한다. (JDBC는 초 단위이므로 올림)
+ */
 @Slf4j
 @Repository
 public class SearchRepositoryImpl implements SearchRepository {
 
+    // MySQL ngram_token_size 기본값 (이보다 짧은 키워드는 FULLTEXT로 찾을 수 없음)
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
     @PersistenceContext
     private EntityManager em;
 
+    @Value("${search.timeout-ms:1500}")
+    private long timeoutMillis;
+
     @Override
     public List<Place> searchPlacesByKeyword(String keyword) {
-        // 1. 기본 검색 (기존 방식)
-        // 2. 공백 제거 검색 추가
-        // 3. 부분 단어 검색 추가
-        
-        String jpql = "SELECT DISTINCT p FROM Place p WHERE p.isPublic = true AND (" +
-                      "p.name LIKE :keyword OR " +                                    // 기본 검색
-                      "REPLACE(p.name, ' ', '') LIKE :keywordNoSpace OR " +          // 공백 제거 검색
-                      "REPLACE(REPLACE(p.name, ' ', ''), '-', '') LIKE :keywordNormalized)"; // 공백, 하이픈 제거 검색
-        
-        log.info("장소 검색 쿼리 (개선): {}, 키워드: {}", jpql, keyword);
-        
-        TypedQuery<Place> query = em.createQuery(jpql, Place.class);
-        query.setParameter("keyword", "%" + keyword + "%");
-        query.setParameter("keywordNoSpace", "%" + keyword.replace(" ", "") + "%");
-        query.setParameter("keywordNormalized", "%" + keyword.replace(" ", "").replace("-", "") + "%");
-        
-        List<Place> results = query.getResultList();
-        log.info("검색된 공개 장소 수 (개선): {}", results.size());
-        
-        return results;
+        return searchPlacesByKeyword(keyword, null, null);
     }
 
     @Override
     public List<Profile> searchProfilesByKeyword(String keyword) {
-        // 닉네임도 동일하게 개선
-        String jpql = "SELECT DISTINCT p FROM Profile p WHERE (" +
-                      "p.nickname LIKE :keyword OR " +
-                      "REPLACE(p.nickname, ' ', '') LIKE :keywordNoSpace OR " +
-                      "REPLACE(REPLACE(p.nickname, ' ', ''), '-', '') LIKE :keywordNormalized)";
-        
-        log.info("닉네임 검색 쿼리 (개선): {}, 키워드: {}", jpql, keyword);
-        
-        TypedQuery<Profile> query = em.createQuery(jpql, Profile.class);
-        query.setParameter("keyword", "%" + keyword + "%");
-        query.setParameter("keywordNoSpace", "%" + keyword.replace(" ", "") + "%");
-        query.setParameter("keywordNormalized", "%" + keyword.replace(" ", "").replace("-", "") + "%");
-        
-        List<Profile> results = query.getResultList();
-        log.info("검색된 닉네임 수 (개선): {}", results.size());
-        
-        return results;
+        return searchProfilesByKeyword(keyword, null, null);
     }
 
     @Override
     public List<Log> searchLogsByKeyword(String keyword) {
-        String jpql = "SELECT DISTINCT l FROM Log l " +
-                      "WHERE l.isPublic = true " +
-                      "AND (l.comment LIKE :keyword OR " +
-                      "REPLACE(l.comment, ' ', '') LIKE :keywordNoSpace OR " +
-                      "REPLACE(REPLACE(l.comment, ' ', ''), '-', '') LIKE :keywordNormalized)";
-        
-        log.info("로그 검색 쿼리 (개선): {}, 키워드: {}", jpql, keyword);
-        
-        TypedQuery<Log> query = em.createQuery(jpql, Log.class);
-        query.setParameter("keyword", "%" + keyword + "%");
-        query.setParameter("keywordNoSpace", "%" + keyword.replace(" ", "") + "%");
-        query.setParameter("keywordNormalized", "%" + keyword.replace(" ", "").replace("-", "") + "%");
-        
-        return query.getResultList();
+        return searchLogsByKeyword(keyword, null, null);
     }
 
     @Override
     public List<Place> searchPlacesByKeyword(String keyword, Integer offset, Integer limit) {
-        String jpql = "SELECT DISTINCT p FROM Place p WHERE p.isPublic = true AND (" +
-                      "p.name LIKE :keyword OR " +
-                      "REPLACE(p.name, ' ', '') LIKE :keywordNoSpace OR " +
-                      "REPLACE(REPLACE(p.name, ' ', ''), '-', '') LIKE :keywordNormalized) " +
-                      "ORDER BY p.placeId";
-        
-        log.info("장소 검색 쿼리 (페이지네이션, 개선): {}, 키워드: {}, offset: {}, limit: {}", jpql, keyword, offset, limit);
-        
-        TypedQuery<Place> query = em.createQuery(jpql, Place.class);
-        query.setParameter("keyword", "%" + keyword + "%");
-        query.setParameter("keywordNoSpace", "%" + keyword.replace(" ", "") + "%");
-        query.setParameter("keywordNormalized", "%" + keyword.replace(" ", "").replace("-", "") + "%");
-        query.setFirstResult(offset);
-        query.setMaxResults(limit);
-        
-        List<Place> results = query.getResultList();
-        log.info("검색된 공개 장소 수 (페이지네이션, 개선): {}", results.size());
-        
+        List<Place> results = search(Place.class, "place", "p_name_search", "is_public = true",
+                "place_id", keyword, offset, limit);
+        log.info("검색된 공개 장소 수: {}, 키워드: {}", results.size(), keyword);
         return results;
     }
 
     @Override
     public List<Profile> searchProfilesByKeyword(String keyword, Integer offset, Integer limit) {
-        String jpql = "SELECT DISTINCT p FROM Profile p WHERE (" +
-                      "p.nickname LIKE :keyword OR " +
-                      "REPLACE(p.nickname, ' ', '') LIKE :keywordNoSpace OR " +
-                      "REPLACE(REPLACE(p.nickname, ' ', ''), '-', '') LIKE :keywordNormalized) " +
-                      "ORDER BY p.userId";
-        
-        log.info("닉네임 검색 쿼리 (페이지네이션, 개선): {}, 키워드: {}, offset: {}, limit: {}", jpql, keyword, offset, limit);
-        
-        TypedQuery<Profile> query = em.createQuery(jpql, Profile.class);
-        query.setParameter("keyword", "%" + keyword + "%");
-        query.setParameter("keywordNoSpace", "%" + keyword.replace(" ", "") + "%");
-        query.setParameter("keywordNormalized", "%" + keyword.replace(" ", "").replace("-", "") + "%");
-        query.setFirstResult(offset);
-        query.setMaxResults(limit);
-        
-        List<Profile> results = query.getResultList();
-        log.info("검색된 닉네임 수 (페이지네이션, 개선): {}", results.size());
-        
+        List<Profile> results = search(Profile.class, "profile", "nickname_search", null,
+                "user_id", keyword, offset, limit);
+        log.info("검색된 닉네임 수: {}, 키워드: {}", results.size(), keyword);
         return results;
     }
 
     @Override
     public List<Log> searchLogsByKeyword(String keyword, Integer offset, Integer limit) {
-        String jpql = "SELECT DISTINCT l FROM Log l " +
-                      "WHERE l.isPublic = true " +
-                      "AND (l.comment LIKE :keyword OR " +
-                      "REPLACE(l.comment, ' ', '') LIKE :keywordNoSpace OR " +
-                      "REPLACE(REPLACE(l.comment, ' ', ''), '-', '') LIKE :keywordNormalized) " +
-                      "ORDER BY l.logId DESC";
-        
-        log.info("로그 검색 쿼리 (페이지네이션, 개선): {}, 키워드: {}, offset: {}, limit: {}", jpql, keyword, offset, limit);
-        
-        TypedQuery<Log> query = em.createQuery(jpql, Log.class);
-        query.setParameter("keyword", "%" + keyword + "%");
-        query.setParameter("keywordNoSpace", "%" + keyword.replace(" ", "") + "%");
-        query.setParameter("keywordNormalized", "%" + keyword.replace(" ", "").replace("-", "") + "%");
-        query.setFirstResult(offset);
-        query.setMaxResults(limit);
-        
-        List<Log> results = query.getResultList();
-        log.info("검색된 로그 수 (페이지네이션, 개선): {}", results.size());
-        
+        List<Log> results = search(Log.class, "log", "comment_search", "is_public = true",
+                "log_id DESC", keyword, offset, limit);
+        log.info("검색된 로그 수: {}, 키워드: {}", results.size(), keyword);
         return results;
     }
-} 
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> search(Class<T> entityType, String table, String searchColumn, String filter,
+                               String tieBreaker, String keyword, Integer offset, Integer limit) {
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        // ngram 토큰보다 짧은 키워드는 생성 컬럼 LIKE로 대체 (드문 경우)
+        boolean fullText = normalized.length() >= NGRAM_TOKEN_SIZE;
+        String condition = fullText
+                ? "MATCH(t." + searchColumn + ") AGAINST(:query IN BOOLEAN MODE)"
+                : "t." + searchColumn + " LIKE :query";
+
+        StringBuilder sql = new StringBuilder("SELECT t.* FROM ").append(table).append(" t WHERE ").append(condition);
+        if (filter != null) {
+            sql.append(" AND t.").append(filter);
+        }
+        sql.append(" ORDER BY ");
+        if (fullText) {
+            sql.append(condition).append(" DESC, ");
+        }
+        sql.append("t.").append(tieBreaker);
+
+        Query query = em.createNativeQuery(sql.toString(), entityType);
+        query.setHint(HibernateHints.HINT_TIMEOUT, queryTimeoutSeconds());
+        query.setParameter("query", fullText ? "\"" + normalized + "\"" : "%" + normalized + "%");
+        if (offset != null) {
+            query.setFirstResult(offset);
+        }
+        if (limit != null) {
+            query.setMaxResults(limit);
+        }
+
+        return query.getResultList();
+    }
+
+    private int queryTimeoutSeconds() {
+        return (int) Math.max(1, (timeoutMillis + 999) / 1000);
+    }
+
+    // 생성 컬럼과 같은 규칙으로 정규화 (공백/하이픈 제거) + BOOLEAN MODE 구문에서 의미가 있는 따옴표 제거
+    private String normalize(String keyword) {
+        return keyword.replace(" ", "").replace("-", "").replace("\"", "");
+    }
+}
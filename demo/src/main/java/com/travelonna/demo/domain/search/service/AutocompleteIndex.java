@@ -0,0 +1,328 @@
+package com.travelonna.demo.domain.search.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.travelonna.demo.domain.search.dto.AutocompleteSuggestionDto;
+import com.travelonna.demo.domain.search.dto.AutocompleteSuggestionDto.SuggestionType;
+import com.travelonna.demo.domain.search.repository.AutocompleteSourceRepository;
+import com.travelonna.demo.global.util.HangulUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색어 자동완성 인덱스 (프로세스 내 trie)
+ *
+ * 공개 장소 이름, 닉네임, 지역(시/구)을 자모 분해 trie와 초성 trie에 등록하고,
+ * 각 노드에 가중치 상위 MAX_SUGGESTIONS개의 제안 ID를 미리 계산해 둔다.
+ * 조회는 입력 길이만큼 노드를 따라가 상위 목록을 읽기만 하므로 DB를 거치지 않는다.
+ *
+ * 생성/닉네임 변경은 커밋 후 증분 반영하고, 삭제/비공개 전환/이름 변경 전 값은
+ * 주기적 전체 재구성 시 정리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutocompleteIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private final AutocompleteSourceRepository sourceRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // lock으로 보호
+    private Index index = new Index();
+    // 재구성 중 들어온 증분 변경 (새 인덱스 교체 직전에 재적용), 재구성 중이 아니면 null
+    private List<Consumer<Index>> pendingDuringRebuild;
+
+    /**
+     * 전체 재구성 (기동 직후 1회 + 주기적으로 실행)
+     */
+    @Scheduled(fixedDelayString = "${search.autocomplete.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index rebuilt = new Index();
+        boolean completed = false;
+        try {
+            sourceRepository.findPublicPlaceNameCounts()
+                    .forEach((name, count) -> rebuilt.add(SuggestionType.PLACE, name, count, name));
+            sourceRepository.findNicknameCounts()
+                    .forEach((nickname, count) -> rebuilt.add(SuggestionType.USER, nickname, count, nickname));
+            for (Object[] region : sourceRepository.findRegions()) {
+                addRegion(rebuilt, (String) region[0], (String) region[1]);
+            }
+            completed = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (completed) {
+                    pendingDuringRebuild.forEach(change -> change.accept(rebuilt));
+                    index = rebuilt;
+                }
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        log.info("자동완성 인덱스 재구성 완료: 제안 수={}, 소요 시간={}ms",
+                rebuilt.suggestions.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 접두어로 상위 제안 조회 (자음만 입력한 경우 초성 검색)
+     */
+    public List<AutocompleteSuggestionDto> suggest(String keyword, int limit) {
+        String normalized = HangulUtil.normalize(keyword);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        boolean chosungOnly = HangulUtil.isChosungOnly(normalized);
+        String key = chosungOnly ? normalized : HangulUtil.toJamo(normalized);
+
+        lock.readLock().lock();
+        try {
+            Node node = index.find(chosungOnly ? index.chosungRoot : index.jamoRoot, key);
+            if (node == null) {
+                return List.of();
+            }
+
+            int count = Math.min(limit, node.top.length);
+            List<AutocompleteSuggestionDto> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Suggestion suggestion = index.suggestions.get(node.top[i]);
+                result.add(AutocompleteSuggestionDto.builder()
+                        .text(suggestion.text)
+                        .type(suggestion.type)
+                        .build());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void addPlace(String name) {
+        if (name != null) {
+            applyAfterCommit(index -> index.add(SuggestionType.PLACE, name, 1, name));
+        }
+    }
+
+    public void addUser(String nickname) {
+        if (nickname != null) {
+            applyAfterCommit(index -> index.add(SuggestionType.USER, nickname, 1, nickname));
+        }
+    }
+
+    public void addRegion(String city, String district) {
+        if (city != null) {
+            applyAfterCommit(index -> addRegion(index, city, district));
+        }
+    }
+
+    // 시 단독 제안 + "시 구" 제안 (구 이름만 입력해도 찾을 수 있도록 구 이름도 키로 등록)
+    private static void addRegion(Index index, String city, String district) {
+        if (city == null) {
+            return;
+        }
+        index.add(SuggestionType.REGION, city, 1, city);
+        if (district != null && !district.isBlank()) {
+            index.add(SuggestionType.REGION, city + " " + district, 1, city + district, district);
+        }
+    }
+
+    // 롤백된 변경이 제안에 남지 않도록 커밋 후 반영
+    private void applyAfterCommit(Consumer<Index> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<Index> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제안 목록 + 자모/초성 trie (외부 lock으로 보호)
+     */
+    private static final class Index {
+        private final List<Suggestion> suggestions = new ArrayList<>();
+        private final Map<String, Integer> suggestionIds = new HashMap<>();
+        private final Node jamoRoot = new Node();
+        private final Node chosungRoot = new Node();
+
+        /**
+         * 제안 등록 (같은 분류/문자열이 이미 있으면 가중치만 증가)
+         */
+        void add(SuggestionType type, String text, long weight, String... keys) {
+            String display = text.trim();
+            String normalizedText = HangulUtil.normalize(display);
+            if (normalizedText.isEmpty()) {
+                return;
+            }
+
+            String identity = type.name() + ':' + normalizedText;
+            Integer id = suggestionIds.get(identity);
+            if (id == null) {
+                id = suggestions.size();
+                suggestions.add(new Suggestion(type, display, weight));
+                suggestionIds.put(identity, id);
+            } else {
+                suggestions.get(id).weight += weight;
+            }
+
+            for (String key : keys) {
+                String normalizedKey = HangulUtil.normalize(key);
+                if (!normalizedKey.isEmpty()) {
+                    insert(jamoRoot, HangulUtil.toJamo(normalizedKey), id);
+                    insert(chosungRoot, HangulUtil.toChosung(normalizedKey), id);
+                }
+            }
+        }
+
+        Node find(Node root, String key) {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            return node;
+        }
+
+        private void insert(Node root, String key, int id) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.getOrCreateChild(key.charAt(i));
+                offer(node, id);
+            }
+        }
+
+        // 노드의 상위 목록에 제안 반영 (가중치는 증가만 하므로 앞쪽으로만 이동)
+        private void offer(Node node, int id) {
+            int[] top = node.top;
+            int position = indexOf(top, id);
+            if (position < 0) {
+                if (top.length < MAX_SUGGESTIONS) {
+                    top = Arrays.copyOf(top, top.length + 1);
+                    position = top.length - 1;
+                } else if (ranksBefore(id, top[top.length - 1])) {
+                    position = top.length - 1;
+                } else {
+                    return;
+                }
+                top[position] = id;
+            }
+
+            while (position > 0 && ranksBefore(top[position], top[position - 1])) {
+                int previous = top[position - 1];
+                top[position - 1] = top[position];
+                top[position] = previous;
+                position--;
+            }
+            node.top = top;
+        }
+
+        // 가중치 내림차순 -> 짧은 문자열 -> 사전순
+        private boolean ranksBefore(int left, int right) {
+            Suggestion a = suggestions.get(left);
+            Suggestion b = suggestions.get(right);
+            if (a.weight != b.weight) {
+                return a.weight > b.weight;
+            }
+            if (a.text.length() != b.text.length()) {
+                return a.text.length() < b.text.length();
+            }
+            return a.text.compareTo(b.text) < 0;
+        }
+
+        private static int indexOf(int[] values, int value) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == value) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * trie 노드 (자식 수가 적으므로 맵 대신 배열 선형 탐색)
+     */
+    private static final class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final int[] NO_SUGGESTIONS = new int[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private int[] top = NO_SUGGESTIONS;
+
+        Node child(char label) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == label) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node getOrCreateChild(char label) {
+            Node child = child(label);
+            if (child == null) {
+                child = new Node();
+                labels = Arrays.copyOf(labels, labels.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                labels[labels.length - 1] = label;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+
+    private static final class Suggestion {
+        private final SuggestionType type;
+        private final String text;
+        private long weight;
+
+        private Suggestion(SuggestionType type, String text, long weight) {
+            this.type = type;
+            this.text = text;
+            this.weight = weight;
+        }
+    }
+}
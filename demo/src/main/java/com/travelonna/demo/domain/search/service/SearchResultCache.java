@@ -0,0 +1,176 @@
+package com.travelonna.demo.domain.search.service;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 검색 결과 캐시 (정규화된 키워드 + 페이지 단위, 크기 제한 LRU + TTL)
+ *
+ * 분류별 세대(generation) 번호를 두고, 장소/프로필/기록이 변경되면 커밋 후 세대를 올린다.
+ * 항목은 조회 시작 시점의 세대와 함께 저장되므로, 세대가 바뀐 뒤에는 (조회 도중 변경된 경우 포함) 사용되지 않는다.
+ * 적중/미적중 횟수는 search.cache.requests 지표(category, result 태그)로 기록한다.
+ */
+@Component
+public class SearchResultCache {
+
+    public enum Category {
+        PLACE("장소"), PROFILE("사용자"), LOG("여행 기록");
+
+        private final String label;
+
+        Category(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final AtomicLongArray generations = new AtomicLongArray(Category.values().length);
+    private final LinkedHashMap<CacheKey, CachedResult> results;
+    private final Map<Category, Counter> hitCounters = new EnumMap<>(Category.class);
+    private final Map<Category, Counter> missCounters = new EnumMap<>(Category.class);
+
+    public SearchResultCache(MeterRegistry meterRegistry,
+                             @Value("${search.cache.max-size:2000}") int maxSize,
+                             @Value("${search.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedResult> eldest) {
+                return size() > SearchResultCache.this.maxSize;
+            }
+        };
+
+        for (Category category : Category.values()) {
+            hitCounters.put(category, Counter.builder("search.cache.requests")
+                    .tag("category", category.name().toLowerCase())
+                    .tag("result", "hit")
+                    .register(meterRegistry));
+            missCounters.put(category, Counter.builder("search.cache.requests")
+                    .tag("category", category.name().toLowerCase())
+                    .tag("result", "miss")
+                    .register(meterRegistry));
+        }
+        meterRegistry.gauge("search.cache.size", this, SearchResultCache::size);
+    }
+
+    /**
+     * 현재 세대 번호 (조회 시작 전에 읽어 put에 전달)
+     */
+    public long generation(Category category) {
+        return generations.get(category.ordinal());
+    }
+
+    /**
+     * 캐시된 결과 (없거나 만료/무효화된 경우 null)
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> List<T> get(Category category, String normalizedKeyword, int offset, int limit) {
+        CacheKey key = new CacheKey(category, normalizedKeyword, offset, limit);
+        CachedResult cached = results.get(key);
+        if (cached != null && (cached.generation != generation(category)
+                || cached.expiresAt < System.currentTimeMillis())) {
+            results.remove(key);
+            cached = null;
+        }
+
+        if (cached == null) {
+            missCounters.get(category).increment();
+            return null;
+        }
+        hitCounters.get(category).increment();
+        return (List<T>) cached.results;
+    }
+
+    public synchronized void put(Category category, String normalizedKeyword, int offset, int limit,
+                                 long generation, List<?> items) {
+        // 조회 도중 세대가 바뀌었다면 이미 낡은 결과이므로 저장하지 않음
+        if (generation != generation(category)) {
+            return;
+        }
+        results.put(new CacheKey(category, normalizedKeyword, offset, limit),
+                new CachedResult(Collections.unmodifiableList(items), generation, System.currentTimeMillis() + ttlMillis));
+    }
+
+    /**
+     * 분류 무효화 (커밋 이후 세대를 올려 변경 전 데이터가 다시 캐시되지 않도록 함)
+     */
+    public void invalidate(Category category) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generations.incrementAndGet(category.ordinal());
+                }
+            });
+        } else {
+            generations.incrementAndGet(category.ordinal());
+        }
+    }
+
+    private synchronized int size() {
+        return results.size();
+    }
+
+    private static final class CacheKey {
+        private final Category category;
+        private final String keyword;
+        private final int offset;
+        private final int limit;
+
+        private CacheKey(Category category, String keyword, int offset, int limit) {
+            this.category = category;
+            this.keyword = keyword;
+            this.offset = offset;
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return category == other.category && offset == other.offset && limit == other.limit
+                    && keyword.equals(other.keyword);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(category, keyword, offset, limit);
+        }
+    }
+
+    private static final class CachedResult {
+        private final List<?> results;
+        private final long generation;
+        private final long expiresAt;
+
+        private CachedResult(List<?> results, long generation, long expiresAt) {
+            this.results = results;
+            this.generation = generation;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
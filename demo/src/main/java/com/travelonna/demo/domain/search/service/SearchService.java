@@ -11,4 +11,14 @@ public interface SearchService {
      * @return 검색 결과 DTO
      */
     SearchResponseDto search(String keyword);
+    
+    /**
+     * 키워드로 장소, 사용자, 여행 기록을 검색합니다. (분류별 관련도 순 페이지네이션)
+     * 
+     * @param keyword 검색 키워드
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 분류별 페이지 크기
+     * @return 검색 결과 DTO
+     */
+    SearchResponseDto search(String keyword, int page, int size);
 } 
\ No newline at end of file
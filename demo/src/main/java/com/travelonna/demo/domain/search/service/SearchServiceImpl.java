@@ -1,70 +1,132 @@
 package com.travelonna.demo.domain.search.service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.travelonna.demo.domain.log.entity.Log;
-import com.travelonna.demo.domain.plan.entity.Place;
 import com.travelonna.demo.domain.search.dto.SearchResponseDto;
 import com.travelonna.demo.domain.search.repository.SearchRepository;
-import com.travelonna.demo.domain.user.entity.Profile;
+import com.travelonna.demo.domain.search.service.SearchResultCache.Category;
+import com.travelonna.demo.global.util.HangulUtil;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 통합 검색
+ *
+ * 장소/사용자/기록 검색을 searchExecutor에서 동시에 실행하고 분류별 제한 시간을 적용한다.
+ * 시간 초과나 오류가 난 분류는 빈 목록으로 두고 partial=true로 응답한다. (전체 지연 = 가장 느린 분류)
+ * 이미 실행 중인 조회는 같은 제한 시간의 JDBC 쿼리 타임아웃으로 끊기고, 아직 시작하지 않은 조회는 실행하지 않는다.
+ * 각 분류는 작업 스레드의 별도 읽기 전용 트랜잭션에서 조회 및 DTO 변환까지 마친다.
+ * 키워드는 한 번만 정규화(공백/하이픈 제거, 소문자)하며, 같은 정규화 키워드/페이지의 결과는
+ * SearchResultCache에서 바로 반환한다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class SearchServiceImpl implements SearchService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
     private final SearchRepository searchRepository;
+    private final SearchResultCache searchResultCache;
+    private final Executor searchExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long timeoutMillis;
+
+    public SearchServiceImpl(SearchRepository searchRepository,
+                             SearchResultCache searchResultCache,
+                             @Qualifier("searchExecutor") Executor searchExecutor,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${search.timeout-ms:1500}") long timeoutMillis) {
+        this.searchRepository = searchRepository;
+        this.searchResultCache = searchResultCache;
+        this.searchExecutor = searchExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.timeoutMillis = timeoutMillis;
+    }
 
     @Override
     public SearchResponseDto search(String keyword) {
-        log.info("검색 시작: keyword={}", keyword);
-        
-        // 키워드로 장소 검색
-        List<Place> places = searchRepository.searchPlacesByKeyword(keyword);
-        log.info("장소 검색 결과: {} 건", places.size());
-        
-        // 키워드로 사용자 검색 (닉네임)
-        List<Profile> profiles = searchRepository.searchProfilesByKeyword(keyword);
-        log.info("사용자 검색 결과: {} 건", profiles.size());
-        
-        // 키워드로 여행 기록 검색
-        List<Log> logs = searchRepository.searchLogsByKeyword(keyword);
-        log.info("여행 기록 검색 결과: {} 건", logs.size());
-        
-        // 결과 DTO 구성
-        SearchResponseDto response = new SearchResponseDto();
-        
-        // 직접 필드에 값 설정
+        return search(keyword, 0, DEFAULT_PAGE_SIZE);
+    }
+
+    @Override
+    public SearchResponseDto search(String keyword, int page, int size) {
+        log.info("검색 시작: keyword={}, page={}, size={}", keyword, page, size);
+        String normalized = HangulUtil.normalize(keyword);
+        int offset = page * size;
+        AtomicBoolean partial = new AtomicBoolean(false);
+
+        CompletableFuture<List<SearchResponseDto.PlaceDto>> places = searchAsync(Category.PLACE, normalized, offset, size, partial,
+                () -> searchRepository.searchPlacesByKeyword(normalized, offset, size),
+                SearchResponseDto.PlaceDto::fromEntity);
+        CompletableFuture<List<SearchResponseDto.UserDto>> users = searchAsync(Category.PROFILE, normalized, offset, size, partial,
+                () -> searchRepository.searchProfilesByKeyword(normalized, offset, size),
+                SearchResponseDto.UserDto::fromEntity);
+        CompletableFuture<List<SearchResponseDto.LogDto>> logs = searchAsync(Category.LOG, normalized, offset, size, partial,
+                () -> searchRepository.searchLogsByKeyword(normalized, offset, size),
+                SearchResponseDto.LogDto::fromEntity);
+
+        // 각 future는 시간 초과/오류 시 빈 목록으로 완료되므로 join이 예외를 던지지 않음
+        SearchResponseDto response = SearchResponseDto.builder()
+                .places(places.join())
+                .users(users.join())
+                .logs(logs.join())
+                .partial(partial.get())
+                .build();
+
+        log.info("검색 완료: 장소 {} 건, 사용자 {} 건, 여행 기록 {} 건, 부분 결과={}",
+                response.getPlaces().size(), response.getUsers().size(), response.getLogs().size(), response.isPartial());
+        return response;
+    }
+
+    private <E, D> CompletableFuture<List<D>> searchAsync(Category category, String keyword, int offset, int size,
+                                                          AtomicBoolean partial,
+                                                          Supplier<List<E>> query, Function<E, D> mapper) {
+        List<D> cached = searchResultCache.get(category, keyword, offset, size);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        // 조회 시작 전 세대를 기록해 두어 조회 도중 변경된 결과가 캐시되지 않도록 함
+        long generation = searchResultCache.generation(category);
+        AtomicBoolean abandoned = new AtomicBoolean(false);
+        CompletableFuture<List<D>> future;
         try {
-            java.lang.reflect.Field placesField = response.getClass().getDeclaredField("places");
-            placesField.setAccessible(true);
-            placesField.set(response, places.stream()
-                    .map(SearchResponseDto.PlaceDto::fromEntity)
-                    .collect(Collectors.toList()));
-                    
-            java.lang.reflect.Field usersField = response.getClass().getDeclaredField("users");
-            usersField.setAccessible(true);
-            usersField.set(response, profiles.stream()
-                    .map(SearchResponseDto.UserDto::fromEntity)
-                    .collect(Collectors.toList()));
-                    
-            java.lang.reflect.Field logsField = response.getClass().getDeclaredField("logs");
-            logsField.setAccessible(true);
-            logsField.set(response, logs.stream()
-                    .map(SearchResponseDto.LogDto::fromEntity)
-                    .collect(Collectors.toList()));
-        } catch (Exception e) {
-            log.error("DTO 설정 중 오류: {}", e.getMessage());
+            future = CompletableFuture.supplyAsync(() -> {
+                // 큐에서 기다리는 동안 시간 초과된 분류는 DB 커넥션을 잡지 않고 종료
+                if (abandoned.get()) {
+                    return List.<D>of();
+                }
+                List<D> results = readOnlyTransaction.execute(status ->
+                        query.get().stream().map(mapper).collect(Collectors.toList()));
+                searchResultCache.put(category, keyword, offset, size, generation, results);
+                return results;
+            }, searchExecutor);
+        } catch (RuntimeException e) {
+            // 스레드 풀 포화로 작업이 거부된 경우
+            future = CompletableFuture.failedFuture(e);
         }
-        
-        return response;
+
+        return future
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    abandoned.set(true);
+                    log.warn("{} 검색 실패 또는 시간 초과: {}", category.getLabel(), e.toString());
+                    partial.set(true);
+                    return List.of();
+                });
     }
-} 
\ No newline at end of file
+}
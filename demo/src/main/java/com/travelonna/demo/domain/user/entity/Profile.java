@@ -38,10 +38,23 @@ public class Profile {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    // 팔로워/팔로잉 수 (follow 테이블을 매번 COUNT 하지 않도록 FollowService에서 원자적 UPDATE로 증감)
+    @Column(name = "follower_count", nullable = false)
+    private Integer followerCount = 0;
+    
+    @Column(name = "following_count", nullable = false)
+    private Integer followingCount = 0;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        if (followerCount == null) {
+            followerCount = 0;
+        }
+        if (followingCount == null) {
+            followingCount = 0;
+        }
     }
     
     @PreUpdate
@@ -2,8 +2,14 @@ package com.travelonna.demo.domain.user.repository;
 
 import com.travelonna.demo.domain.user.entity.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +17,34 @@ public interface ProfileRepository extends JpaRepository<Profile, Integer> {
     boolean existsByNickname(String nickname);
     Optional<Profile> findByNickname(String nickname);
     Optional<Profile> findByUserId(Integer userId);
+    List<Profile> findAllByUserIdIn(Collection<Integer> userIds);
+    
+    // 팔로워 수 원자적 증감 (사용자 ID 기준)
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Profile p SET p.followerCount = p.followerCount + :delta " +
+           "WHERE p.userId = :userId AND p.followerCount + :delta >= 0")
+    int adjustFollowerCount(@Param("userId") Integer userId, @Param("delta") int delta);
+    
+    // 팔로잉 수 원자적 증감 (사용자 ID 기준)
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Profile p SET p.followingCount = p.followingCount + :delta " +
+           "WHERE p.userId = :userId AND p.followingCount + :delta >= 0")
+    int adjustFollowingCount(@Param("userId") Integer userId, @Param("delta") int delta);
+    
+    @Query("SELECT COALESCE(MAX(p.profileId), 0) FROM Profile p")
+    Integer findMaxProfileId();
+    
+    // 카운터 보정: profile_id 범위 내에서 실제 follow 개수와 다른 행만 갱신
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE profile p " +
+           "SET p.follower_count = (SELECT COUNT(*) FROM follow f WHERE f.to_user = p.user_id), " +
+           "    p.following_count = (SELECT COUNT(*) FROM follow f WHERE f.from_user = p.user_id) " +
+           "WHERE p.profile_id BETWEEN :fromId AND :toId " +
+           "AND (p.follower_count <> (SELECT COUNT(*) FROM follow f WHERE f.to_user = p.user_id) " +
+           "  OR p.following_count <> (SELECT COUNT(*) FROM follow f WHERE f.from_user = p.user_id))",
+           nativeQuery = true)
+    int reconcileFollowCounters(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.travelonna.demo.domain.user.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.travelonna.demo.domain.user.entity.UserAction;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 액션 일괄 INSERT (JDBC 배치, IDENTITY 전략으로 인한 건별 INSERT 회피)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserActionBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO user_actions (user_id, target_id, action_type, target_type, action_time) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 배치 전체를 한 트랜잭션으로 저장 (실패 시 일부만 저장되지 않으므로 호출 측에서 그대로 재시도 가능)
+    @Transactional
+    public void insertAll(List<UserAction> actions) {
+        if (actions.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                UserAction action = actions.get(i);
+                ps.setInt(1, action.getUserId());
+                ps.setInt(2, action.getTargetId());
+                ps.setString(3, action.getActionType().name());
+                ps.setString(4, action.getTargetType().name());
+                ps.setObject(5, action.getActionTime() != null ? action.getActionTime() : now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return actions.size();
+            }
+        });
+    }
+}
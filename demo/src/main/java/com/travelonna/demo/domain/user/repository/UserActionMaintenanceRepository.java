@@ -0,0 +1,82 @@
+package com.travelonna.demo.domain.user.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * user_actions 파티션 관리 및 일별 집계 (MySQL 전용 DDL/DML, JDBC)
+ *
+ * 파티션은 RANGE (TO_DAYS(action_time)) 기준이며 마지막 파티션은 pmax (MAXVALUE) 이다. (V6 마이그레이션)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserActionMaintenanceRepository {
+
+    private static final String ROLLUP_SQL =
+            "INSERT INTO user_action_daily (action_date, user_id, target_type, target_id, action_type, action_count) " +
+            "SELECT DATE(action_time), user_id, target_type, target_id, action_type, COUNT(*) " +
+            "FROM user_actions WHERE action_time >= ? AND action_time < ? " +
+            "GROUP BY DATE(action_time), user_id, target_type, target_id, action_type " +
+            "ON DUPLICATE KEY UPDATE action_count = VALUES(action_count)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 하루치 원본 액션을 집계 테이블에 반영 (다시 실행해도 같은 결과)
+     */
+    public int rollupDay(LocalDate day) {
+        return jdbcTemplate.update(ROLLUP_SQL, Date.valueOf(day), Date.valueOf(day.plusDays(1)));
+    }
+
+    /**
+     * 기준일 이전 집계 삭제 (한 번에 limit 행까지)
+     */
+    public int deleteRollupsBefore(LocalDate cutoff, int limit) {
+        return jdbcTemplate.update("DELETE FROM user_action_daily WHERE action_date < ? LIMIT ?",
+                Date.valueOf(cutoff), limit);
+    }
+
+    /**
+     * 모든 행이 기준일 이전인 파티션 이름 (상한값 <= 기준일)
+     */
+    public List<String> findPartitionsBefore(LocalDate cutoff) {
+        return jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'user_actions' " +
+                "AND PARTITION_DESCRIPTION <> 'MAXVALUE' " +
+                "AND CAST(PARTITION_DESCRIPTION AS UNSIGNED) <= TO_DAYS(?) " +
+                "ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class, Date.valueOf(cutoff));
+    }
+
+    /**
+     * pmax를 제외한 마지막 파티션의 상한 날짜 (파티션 테이블이 아니면 null)
+     */
+    public LocalDate findLastPartitionBound() {
+        Date bound = jdbcTemplate.queryForObject(
+                "SELECT FROM_DAYS(MAX(CAST(PARTITION_DESCRIPTION AS UNSIGNED))) FROM information_schema.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'user_actions' " +
+                "AND PARTITION_NAME IS NOT NULL AND PARTITION_DESCRIPTION <> 'MAXVALUE'",
+                Date.class);
+        return bound != null ? bound.toLocalDate() : null;
+    }
+
+    public void dropPartition(String partitionName) {
+        jdbcTemplate.execute("ALTER TABLE user_actions DROP PARTITION " + partitionName);
+    }
+
+    /**
+     * pmax 앞에 [from, to) 구간 파티션 추가 (pmax가 비어 있으면 데이터 이동 없음)
+     */
+    public void addPartition(String partitionName, LocalDate to) {
+        jdbcTemplate.execute("ALTER TABLE user_actions REORGANIZE PARTITION pmax INTO (" +
+                "PARTITION " + partitionName + " VALUES LESS THAN (TO_DAYS('" + to + "')), " +
+                "PARTITION pmax VALUES LESS THAN MAXVALUE)");
+    }
+}
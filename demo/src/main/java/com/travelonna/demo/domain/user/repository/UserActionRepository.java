@@ -1,5 +1,6 @@
 package com.travelonna.demo.domain.user.repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -34,11 +35,14 @@ public interface UserActionRepository extends JpaRepository<UserAction, Integer>
     boolean existsByUserIdAndTargetIdAndTargetTypeAndActionType(
         Integer userId, Integer targetId, TargetType targetType, ActionType actionType);
     
-    // 추천 시스템용 데이터 조회 (최근 6개월)
-    @Query("SELECT ua FROM UserAction ua " +
-           "WHERE ua.actionTime >= :sixMonthsAgo " +
-           "ORDER BY ua.actionTime DESC")
-    List<UserAction> findRecentActionsForRecommendations(@Param("sixMonthsAgo") LocalDateTime sixMonthsAgo);
+    // 추천 시스템용 데이터 조회 (일별 집계 테이블 기준, 원본 행을 읽지 않음)
+    @Query(value = "SELECT d.user_id AS userId, d.target_type AS targetType, d.target_id AS targetId, " +
+                   "d.action_type AS actionType, SUM(d.action_count) AS actionCount, MAX(d.action_date) AS lastActionDate " +
+                   "FROM user_action_daily d " +
+                   "WHERE d.action_date >= :since " +
+                   "GROUP BY d.user_id, d.target_type, d.target_id, d.action_type " +
+                   "ORDER BY d.user_id", nativeQuery = true)
+    List<UserActionRollupProjection> findActionRollupsSince(@Param("since") LocalDate since);
     
     // 특정 사용자의 최근 활동 조회 (추천용)
     @Query("SELECT ua FROM UserAction ua " +
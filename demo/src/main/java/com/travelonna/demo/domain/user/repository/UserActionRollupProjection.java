@@ -0,0 +1,15 @@
+package com.travelonna.demo.domain.user.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 기간 내 (사용자, 대상, 액션)별 집계 (user_action_daily 합계)
+ */
+public interface UserActionRollupProjection {
+    Integer getUserId();
+    String getTargetType();
+    Integer getTargetId();
+    String getActionType();
+    Long getActionCount();
+    LocalDate getLastActionDate();
+}
@@ -4,6 +4,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.travelonna.demo.domain.search.service.AutocompleteIndex;
+import com.travelonna.demo.domain.search.service.SearchResultCache;
 import com.travelonna.demo.domain.user.entity.Profile;
 import com.travelonna.demo.domain.user.repository.ProfileRepository;
 import com.travelonna.demo.global.service.S3Service;
@@ -11,7 +13,10 @@ import com.travelonna.demo.global.service.S3Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -21,6 +26,8 @@ import java.util.stream.Collectors;
 public class ProfileService {
     private final ProfileRepository profileRepository;
     private final S3Service s3Service;
+    private final AutocompleteIndex autocompleteIndex;
+    private final SearchResultCache searchResultCache;
     
     public Profile createProfile(Integer userId, String nickname, String profileImage, String introduction) {
         // 닉네임 중복 검사
@@ -40,7 +47,10 @@ public class ProfileService {
                 .introduction(introduction)
                 .build();
                 
-        return profileRepository.save(profile);
+        Profile savedProfile = profileRepository.save(profile);
+        autocompleteIndex.addUser(nickname);
+        searchResultCache.invalidate(SearchResultCache.Category.PROFILE);
+        return savedProfile;
     }
     
     /**
@@ -71,7 +81,10 @@ public class ProfileService {
                 .introduction(introduction)
                 .build();
                 
-        return profileRepository.save(profile);
+        Profile savedProfile = profileRepository.save(profile);
+        autocompleteIndex.addUser(nickname);
+        searchResultCache.invalidate(SearchResultCache.Category.PROFILE);
+        return savedProfile;
     }
     
     @Transactional(readOnly = true)
@@ -86,6 +99,19 @@ public class ProfileService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 사용자의 프로필을 찾을 수 없습니다: " + userId));
     }
     
+    /**
+     * 여러 사용자의 프로필을 IN 쿼리 한 번으로 조회합니다. (사용자 ID → 프로필)
+     * 한 사용자에게 프로필이 여러 개인 경우 먼저 조회된 프로필을 사용합니다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, Profile> getProfilesByUserIds(Collection<Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return profileRepository.findAllByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(Profile::getUserId, Function.identity(), (first, duplicate) -> first));
+    }
+    
     /**
      * 사용자 ID에 해당하는 프로필을 Optional로 반환합니다. 
      * 존재하지 않는 경우 빈 Optional을 반환합니다.
@@ -124,8 +150,9 @@ public class ProfileService {
         }
         
         // 각 필드가 null이 아닌 경우에만 업데이트
-        if (nickname != null) {
+        if (nickname != null && !nickname.equals(profile.getNickname())) {
             profile.updateNickname(nickname);
+            autocompleteIndex.addUser(nickname);
         }
         
         if (profileImage != null) {
@@ -136,6 +163,7 @@ public class ProfileService {
             profile.updateIntroduction(introduction);
         }
         
+        searchResultCache.invalidate(SearchResultCache.Category.PROFILE);
         return profileRepository.save(profile);
     }
     
@@ -151,8 +179,9 @@ public class ProfileService {
         }
         
         // 각 필드가 null이 아닌 경우에만 업데이트
-        if (nickname != null) {
+        if (nickname != null && !nickname.equals(profile.getNickname())) {
             profile.updateNickname(nickname);
+            autocompleteIndex.addUser(nickname);
         }
         
         // 이미지 파일이 제공된 경우 업로드하고 URL 업데이트
@@ -175,6 +204,7 @@ public class ProfileService {
             profile.updateIntroduction(introduction);
         }
         
+        searchResultCache.invalidate(SearchResultCache.Category.PROFILE);
         return profileRepository.save(profile);
     }
     
@@ -0,0 +1,105 @@
+package com.travelonna.demo.domain.user.service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.travelonna.demo.domain.user.repository.UserActionMaintenanceRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * user_actions 일별 집계 및 보존 기간 관리
+ *
+ * - 집계: 최근 rollup-lookback-days일치를 매번 다시 계산한다. (비동기 파이프라인으로 늦게 저장된 액션 반영)
+ * - 보존: 원본은 월 파티션 단위로 DROP PARTITION 하고, 집계는 기준일 이전 행을 나누어 삭제한다.
+ * - 파티션: 앞으로 future-months개월치 파티션을 미리 만들어 pmax에 데이터가 쌓이지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserActionMaintenanceJob {
+
+    private static final int DELETE_CHUNK_SIZE = 10000;
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final UserActionMaintenanceRepository maintenanceRepository;
+
+    @Value("${user-action.rollup.lookback-days:2}")
+    private int lookbackDays;
+
+    @Value("${user-action.retention.raw-months:6}")
+    private int rawRetentionMonths;
+
+    @Value("${user-action.retention.rollup-months:24}")
+    private int rollupRetentionMonths;
+
+    @Value("${user-action.retention.future-months:3}")
+    private int futureMonths;
+
+    @Scheduled(cron = "${user-action.rollup.cron:0 5 * * * *}")
+    public void rollup() {
+        LocalDate today = LocalDate.now();
+        for (int i = lookbackDays - 1; i >= 0; i--) {
+            LocalDate day = today.minusDays(i);
+            try {
+                int rows = maintenanceRepository.rollupDay(day);
+                log.debug("사용자 액션 일별 집계: date={}, 반영 행 수={}", day, rows);
+            } catch (Exception e) {
+                log.warn("사용자 액션 일별 집계 실패: date={}", day, e);
+            }
+        }
+    }
+
+    @Scheduled(cron = "${user-action.retention.cron:0 20 3 * * *}")
+    public void applyRetention() {
+        try {
+            createFuturePartitions();
+            dropExpiredPartitions();
+        } catch (Exception e) {
+            // 파티션 테이블이 아닌 환경(V6 미적용 등)에서는 건너뜀
+            log.warn("사용자 액션 파티션 관리 실패", e);
+        }
+
+        LocalDate rollupCutoff = LocalDate.now().withDayOfMonth(1).minusMonths(rollupRetentionMonths);
+        int deleted = 0;
+        int chunk;
+        do {
+            chunk = maintenanceRepository.deleteRollupsBefore(rollupCutoff, DELETE_CHUNK_SIZE);
+            deleted += chunk;
+        } while (chunk == DELETE_CHUNK_SIZE);
+
+        if (deleted > 0) {
+            log.info("사용자 액션 집계 보존 기간 정리: 기준일={}, 삭제 행 수={}", rollupCutoff, deleted);
+        }
+    }
+
+    private void createFuturePartitions() {
+        LocalDate bound = maintenanceRepository.findLastPartitionBound();
+        if (bound == null) {
+            log.debug("user_actions가 파티션 테이블이 아니므로 파티션 추가를 건너뜀");
+            return;
+        }
+
+        LocalDate target = LocalDate.now().withDayOfMonth(1).plusMonths(futureMonths + 1);
+        while (bound.isBefore(target)) {
+            LocalDate next = bound.plusMonths(1);
+            String name = PARTITION_NAME.format(bound);
+            maintenanceRepository.addPartition(name, next);
+            log.info("user_actions 파티션 추가: {} [{}, {})", name, bound, next);
+            bound = next;
+        }
+    }
+
+    private void dropExpiredPartitions() {
+        LocalDate rawCutoff = LocalDate.now().withDayOfMonth(1).minusMonths(rawRetentionMonths);
+        for (String partition : maintenanceRepository.findPartitionsBefore(rawCutoff)) {
+            maintenanceRepository.dropPartition(partition);
+            log.info("user_actions 보존 기간이 지난 파티션 삭제: {} (기준일 {})", partition, rawCutoff);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.travelonna.demo.domain.user.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.travelonna.demo.domain.user.entity.UserAction;
+import com.travelonna.demo.domain.user.repository.UserActionBatchRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 액션 비동기 배치 기록
+ *
+ * 요청 스레드는 크기 제한 lock-free 큐에 액션을 넣기만 하고, 전용 writer 스레드가
+ * flush-interval-ms마다 또는 batch-size개가 쌓이면 JDBC 배치로 저장한다.
+ * 큐가 가득 차면 overflow-policy에 따라 버리거나(DROP) 호출 스레드에서 바로 저장한다(CALLER_RUNS).
+ * 종료 시에는 웹 서버가 멈춘 뒤 큐에 남은 액션을 모두 저장하고 정지한다.
+ * writer가 끝난 뒤 큐에 들어간 액션은 등록한 스레드가 직접 저장하므로 종료 경합으로 유실되지 않는다.
+ * 배치 저장이 실패하면 잠시 후 한 번 더 시도하고, 그래도 실패하면 한 건씩 저장해 문제가 있는 액션만 실패로 집계한다.
+ */
+@Slf4j
+@Component
+public class UserActionPipeline implements SmartLifecycle {
+
+    public enum OverflowPolicy {
+        DROP, CALLER_RUNS
+    }
+
+    private static final long RETRY_BACKOFF_MILLIS = 200;
+
+    private final UserActionBatchRepository userActionBatchRepository;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+
+    private final ConcurrentLinkedQueue<UserAction> queue = new ConcurrentLinkedQueue<>();
+    // 큐 크기 (ConcurrentLinkedQueue.size()는 O(n)이므로 별도 관리, 용량 제한에 사용)
+    private final AtomicInteger depth = new AtomicInteger();
+
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private volatile Thread writer;
+    // writer 스레드가 마지막 저장까지 마쳤는지 (이후 큐에 들어간 액션은 등록한 스레드가 저장)
+    private volatile boolean writerExited;
+
+    public UserActionPipeline(UserActionBatchRepository userActionBatchRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${user-action.pipeline.queue-capacity:10000}") int capacity,
+                              @Value("${user-action.pipeline.batch-size:200}") int batchSize,
+                              @Value("${user-action.pipeline.flush-interval-ms:500}") long flushIntervalMillis,
+                              @Value("${user-action.pipeline.overflow-policy:DROP}") OverflowPolicy overflowPolicy) {
+        this.userActionBatchRepository = userActionBatchRepository;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.overflowPolicy = overflowPolicy;
+
+        meterRegistry.gauge("user_actions.pipeline.queue.depth", depth);
+        this.flushTimer = Timer.builder("user_actions.pipeline.flush").register(meterRegistry);
+        this.writtenCounter = eventCounter(meterRegistry, "written");
+        this.failedCounter = eventCounter(meterRegistry, "failed");
+        this.droppedCounter = eventCounter(meterRegistry, "dropped");
+    }
+
+    /**
+     * 액션 등록 (DB 접근 없이 반환, 큐가 가득 찬 경우에만 정책에 따라 처리)
+     */
+    public void enqueue(UserAction action) {
+        if (!running) {
+            // 기동 전/종료 후에는 writer가 없으므로 바로 저장
+            writeNow(action);
+            return;
+        }
+
+        int current;
+        do {
+            current = depth.get();
+            if (current >= capacity) {
+                handleOverflow(action);
+                return;
+            }
+        } while (!depth.compareAndSet(current, current + 1));
+
+        queue.offer(action);
+        if (current + 1 == batchSize) {
+            LockSupport.unpark(writer);
+        }
+
+        // 정지 확인 후 큐에 넣는 사이에 writer가 마지막 저장을 마쳤다면 직접 저장
+        // (writer는 writerExited를 설정한 뒤 한 번 더 비우므로, 여기서 false를 읽었다면 writer가 이 액션을 저장한다)
+        if (!running && writerExited) {
+            drain();
+        }
+    }
+
+    @Override
+    public void start() {
+        writerExited = false;
+        running = true;
+        Thread thread = new Thread(this::runWriter, "user-action-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writer;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (depth.get() > 0) {
+            log.warn("종료 시 저장하지 못한 사용자 액션: {} 건", depth.get());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버 종료(요청 처리 완료) 이후에 정지하도록 더 낮은 단계 사용
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void runWriter() {
+        while (running) {
+            if (depth.get() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            // 한꺼번에 몰린 경우 배치 단위로 연달아 저장
+            while (flush() == batchSize) {
+                // 계속 저장
+            }
+        }
+
+        // 정지 요청 이후 남은 액션 모두 저장
+        drain();
+        writerExited = true;
+        // 종료 표시 직전에 큐에 들어간 액션 저장
+        drain();
+    }
+
+    private void drain() {
+        while (flush() > 0) {
+            // 계속 저장
+        }
+    }
+
+    private int flush() {
+        List<UserAction> batch = new ArrayList<>(Math.min(batchSize, Math.max(depth.get(), 1)));
+        UserAction action;
+        while (batch.size() < batchSize && (action = queue.poll()) != null) {
+            batch.add(action);
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        depth.addAndGet(-batch.size());
+
+        long startedAt = System.nanoTime();
+        try {
+            write(batch);
+        } finally {
+            flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        return batch.size();
+    }
+
+    // 배치 저장은 트랜잭션 단위이므로 실패한 배치를 다시 저장해도 중복되지 않는다
+    private void write(List<UserAction> batch) {
+        try {
+            userActionBatchRepository.insertAll(batch);
+            writtenCounter.increment(batch.size());
+            return;
+        } catch (Exception e) {
+            log.warn("사용자 액션 배치 저장 실패, 재시도: {} 건, error={}", batch.size(), e.getMessage());
+        }
+
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(RETRY_BACKOFF_MILLIS));
+        try {
+            userActionBatchRepository.insertAll(batch);
+            writtenCounter.increment(batch.size());
+            return;
+        } catch (Exception e) {
+            log.error("사용자 액션 배치 재시도 실패, 한 건씩 저장: {} 건", batch.size(), e);
+        }
+
+        for (UserAction action : batch) {
+            writeNow(action);
+        }
+    }
+
+    private void handleOverflow(UserAction action) {
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            writeNow(action);
+        } else {
+            droppedCounter.increment();
+            log.debug("사용자 액션 큐 포화로 버림: userId={}, targetId={}, actionType={}",
+                    action.getUserId(), action.getTargetId(), action.getActionType());
+        }
+    }
+
+    private void writeNow(UserAction action) {
+        try {
+            userActionBatchRepository.insertAll(List.of(action));
+            writtenCounter.increment();
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.error("사용자 액션 기록 실패: userId={}, targetId={}, actionType={}, targetType={}",
+                    action.getUserId(), action.getTargetId(), action.getActionType(), action.getTargetType(), e);
+        }
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("user_actions.pipeline.events")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
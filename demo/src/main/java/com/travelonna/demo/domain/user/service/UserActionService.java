@@ -1,16 +1,17 @@
 package com.travelonna.demo.domain.user.service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.travelonna.demo.domain.user.entity.UserAction;
 import com.travelonna.demo.domain.user.entity.UserAction.ActionType;
 import com.travelonna.demo.domain.user.entity.UserAction.TargetType;
 import com.travelonna.demo.domain.user.repository.UserActionRepository;
+import com.travelonna.demo.domain.user.repository.UserActionRollupProjection;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,43 +22,44 @@ import lombok.extern.slf4j.Slf4j;
 public class UserActionService {
 
     private final UserActionRepository userActionRepository;
+    private final UserActionPipeline userActionPipeline;
+    private final ViewDeduplicator viewDeduplicator;
 
     /**
-     * 사용자 액션 기록
+     * 사용자 액션 기록 (UserActionPipeline에 등록만 하고, 저장은 writer 스레드가 배치로 수행)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void recordAction(Integer userId, Integer targetId, ActionType actionType, TargetType targetType) {
-        try {
-            UserAction userAction = UserAction.builder()
-                    .userId(userId)
-                    .targetId(targetId)
-                    .actionType(actionType)
-                    .targetType(targetType)
-                    .build();
-
-            userActionRepository.save(userAction);
-            
-            log.debug("사용자 액션 기록: userId={}, targetId={}, actionType={}, targetType={}", 
-                     userId, targetId, actionType, targetType);
-                     
-        } catch (Exception e) {
-            log.error("사용자 액션 기록 실패: userId={}, targetId={}, actionType={}, targetType={}", 
-                     userId, targetId, actionType, targetType, e);
-        }
+        userActionPipeline.enqueue(UserAction.builder()
+                .userId(userId)
+                .targetId(targetId)
+                .actionType(actionType)
+                .targetType(targetType)
+                .actionTime(LocalDateTime.now())
+                .build());
+
+        log.debug("사용자 액션 등록: userId={}, targetId={}, actionType={}, targetType={}", 
+                 userId, targetId, actionType, targetType);
     }
 
     /**
      * 여행 기록 작성 액션
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void recordLogCreation(Integer userId, Integer logId) {
         recordAction(userId, logId, ActionType.POST, TargetType.LOG);
     }
 
+    /**
+     * 여행 기록 일괄 작성 액션 (여러 장소에 대한 기록을 한 번에 생성한 경우)
+     */
+    public void recordLogCreations(Integer userId, List<Integer> logIds) {
+        for (Integer logId : logIds) {
+            recordAction(userId, logId, ActionType.POST, TargetType.LOG);
+        }
+    }
+
     /**
      * 좋아요 액션
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void recordLike(Integer userId, Integer logId) {
         recordAction(userId, logId, ActionType.LIKE, TargetType.LOG);
     }
@@ -65,7 +67,6 @@ public class UserActionService {
     /**
      * 댓글 작성 액션
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void recordComment(Integer userId, Integer logId) {
         recordAction(userId, logId, ActionType.COMMENT, TargetType.LOG);
     }
@@ -73,20 +74,9 @@ public class UserActionService {
     /**
      * 조회 액션
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void recordView(Integer userId, Integer targetId, TargetType targetType) {
-        // 중복 조회 방지: 같은 사용자가 같은 대상을 최근 1시간 내에 조회한 경우 기록하지 않음
-        LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
-        List<UserAction> recentViews = userActionRepository.findByUserIdAndActionTimeAfterOrderByActionTimeDesc(
-            userId, oneHourAgo);
-        
-        boolean hasRecentView = recentViews.stream()
-            .anyMatch(action -> 
-                action.getTargetId().equals(targetId) && 
-                action.getTargetType() == targetType &&
-                action.getActionType() == ActionType.VIEW);
-        
-        if (!hasRecentView) {
+        // 중복 조회 방지: 같은 사용자가 같은 대상을 최근 1시간 내에 조회한 경우 기록하지 않음 (메모리 판정, DB 조회 없음)
+        if (viewDeduplicator.markViewed(userId, targetType, targetId)) {
             recordAction(userId, targetId, ActionType.VIEW, targetType);
         }
     }
@@ -94,7 +84,6 @@ public class UserActionService {
     /**
      * 여행 계획 작성 액션
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void recordPlanCreation(Integer userId, Integer planId) {
         recordAction(userId, planId, ActionType.POST, TargetType.PLAN);
     }
@@ -102,7 +91,6 @@ public class UserActionService {
     /**
      * 장소 조회 액션
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void recordPlaceView(Integer userId, Integer placeId) {
         recordView(userId, placeId, TargetType.PLACE);
     }
@@ -125,11 +113,11 @@ public class UserActionService {
     }
 
     /**
-     * 추천 시스템용 전체 사용자 액션 데이터 조회
+     * 추천 시스템용 전체 사용자 액션 데이터 조회 (최근 6개월, 일별 집계 합계)
      */
     @Transactional(readOnly = true)
-    public List<UserAction> getRecentActionsForRecommendations() {
-        LocalDateTime sixMonthsAgo = LocalDateTime.now().minusMonths(6);
-        return userActionRepository.findRecentActionsForRecommendations(sixMonthsAgo);
+    public List<UserActionRollupProjection> getRecentActionsForRecommendations() {
+        LocalDate sixMonthsAgo = LocalDate.now().minusMonths(6);
+        return userActionRepository.findActionRollupsSince(sixMonthsAgo);
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
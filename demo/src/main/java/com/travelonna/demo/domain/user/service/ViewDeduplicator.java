@@ -0,0 +1,153 @@
+package com.travelonna.demo.domain.user.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.travelonna.demo.domain.user.entity.UserAction.TargetType;
+
+/**
+ * 조회 액션 중복 제거 (DB 조회 없는 시간 버킷 방식)
+ *
+ * (userId, targetType, targetId)를 long 하나로 묶어 시간 버킷별 primitive long 해시 집합에 저장한다.
+ * 윈도우(기본 1시간)를 BUCKET_COUNT개 버킷으로 나누어 가장 오래된 버킷부터 통째로 비우므로,
+ * 실제 중복 판정 구간은 윈도우에서 버킷 하나 길이를 뺀 시간 ~ 윈도우 사이이다.
+ * 버킷마다 항목 수 상한이 있어 상한을 넘으면 더 이상 기억하지 않는다 (중복 기록 허용 쪽으로 동작).
+ * 인스턴스별 메모리 상태이므로 재기동 직후나 다른 인스턴스에서는 중복 조회가 기록될 수 있다.
+ */
+@Component
+public class ViewDeduplicator {
+
+    private static final int BUCKET_COUNT = 6;
+
+    private final long bucketMillis;
+    private final int maxEntriesPerBucket;
+    private final LongHashSet[] buckets = new LongHashSet[BUCKET_COUNT];
+    // 각 버킷이 담고 있는 시간 구간 번호 (currentTimeMillis / bucketMillis)
+    private final long[] bucketEpochs = new long[BUCKET_COUNT];
+
+    public ViewDeduplicator(@Value("${user-action.view-dedup.window-minutes:60}") long windowMinutes,
+                            @Value("${user-action.view-dedup.max-entries-per-bucket:100000}") int maxEntriesPerBucket) {
+        this.bucketMillis = Math.max(TimeUnit.MINUTES.toMillis(windowMinutes) / BUCKET_COUNT, 1);
+        this.maxEntriesPerBucket = maxEntriesPerBucket;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongHashSet();
+            bucketEpochs[i] = -1;
+        }
+    }
+
+    /**
+     * 윈도우 안에서 처음 조회한 경우 true (조회 사실을 함께 기록)
+     */
+    public boolean markViewed(Integer userId, TargetType targetType, Integer targetId) {
+        return markViewed(userId, targetType, targetId, System.currentTimeMillis());
+    }
+
+    // 기준 시각을 지정하는 버전 (버킷 교체 검증용)
+    synchronized boolean markViewed(Integer userId, TargetType targetType, Integer targetId, long nowMillis) {
+        long key = pack(userId, targetType, targetId);
+        long epoch = nowMillis / bucketMillis;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (epoch - bucketEpochs[i] < BUCKET_COUNT && buckets[i].contains(key)) {
+                return false;
+            }
+        }
+
+        int current = (int) (epoch % BUCKET_COUNT);
+        if (bucketEpochs[current] != epoch) {
+            // 윈도우를 벗어난 버킷 재사용
+            buckets[current].clear();
+            bucketEpochs[current] = epoch;
+        }
+        if (buckets[current].size() < maxEntriesPerBucket) {
+            buckets[current].add(key);
+        }
+        return true;
+    }
+
+    // userId(31비트) | targetType(2비트) | targetId(31비트), 음이 아닌 ID에 대해 충돌 없음
+    static long pack(int userId, TargetType targetType, int targetId) {
+        return ((long) userId << 33) | ((long) targetType.ordinal() << 31) | (targetId & 0x7FFFFFFFL);
+    }
+
+    /**
+     * 개방 주소법 long 집합 (박싱 없음, 0은 별도 플래그로 표현)
+     */
+    private static final class LongHashSet {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private long[] table = new long[INITIAL_CAPACITY];
+        private int size;
+        private boolean containsZero;
+
+        int size() {
+            return size;
+        }
+
+        boolean contains(long key) {
+            if (key == 0) {
+                return containsZero;
+            }
+            int mask = table.length - 1;
+            for (int slot = mix(key) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+                if (table[slot] == key) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void add(long key) {
+            if (key == 0) {
+                if (!containsZero) {
+                    containsZero = true;
+                    size++;
+                }
+                return;
+            }
+            // 적재율 1/2 유지
+            if ((size + 1) * 2 > table.length) {
+                resize(table.length * 2);
+            }
+            int mask = table.length - 1;
+            int slot = mix(key) & mask;
+            while (table[slot] != 0) {
+                if (table[slot] == key) {
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = key;
+            size++;
+        }
+
+        // 커진 버킷의 메모리를 돌려주기 위해 초기 크기로 다시 할당
+        void clear() {
+            table = new long[INITIAL_CAPACITY];
+            size = 0;
+            containsZero = false;
+        }
+
+        private void resize(int capacity) {
+            long[] old = table;
+            table = new long[capacity];
+            int mask = capacity - 1;
+            for (long key : old) {
+                if (key != 0) {
+                    int slot = mix(key) & mask;
+                    while (table[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    table[slot] = key;
+                }
+            }
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
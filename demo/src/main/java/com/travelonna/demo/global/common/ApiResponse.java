@@ -1,5 +1,7 @@
 package com.travelonna.demo.global.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,6 +13,14 @@ public class ApiResponse<T> {
     private boolean success;
     private String message;
     private T data;
+    
+    // 커서 기반 페이지네이션 응답의 다음 페이지 커서 (마지막 페이지이거나 페이지네이션이 없으면 생략)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public ApiResponse(boolean success, String message, T data) {
+        this(success, message, data, null);
+    }
 
     public static <T> ApiResponse<T> success(String message, T data) {
         return new ApiResponse<>(true, message, data);
@@ -20,8 +30,13 @@ public class ApiResponse<T> {
     public static <T> ApiResponse<T> success(T data) {
         return new ApiResponse<>(true, "Success", data);
     }
+    
+    // 커서 기반 페이지 응답
+    public static <T> ApiResponse<T> successWithCursor(String message, CursorPage<T> page) {
+        return new ApiResponse<>(true, message, page.getContent(), page.getNextCursor());
+    }
 
     public static <T> ApiResponse<T> error(String message) {
         return new ApiResponse<>(false, message, null);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package com.travelonna.demo.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 커서 기반 페이지 결과
+ * content는 응답 데이터, nextCursor는 다음 페이지 조회 시 전달할 불투명 토큰 (없으면 마지막 페이지)
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+    private final T content;
+    private final String nextCursor;
+    
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
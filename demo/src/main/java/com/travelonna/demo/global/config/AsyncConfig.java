@@ -0,0 +1,53 @@
+package com.travelonna.demo.global.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // 검색 요청 하나가 동시에 실행하는 분류 수 (장소/사용자/기록)
+    private static final int SEARCH_CATEGORIES = 3;
+
+    /**
+     * 검색 분류별(장소/사용자/기록) 병렬 조회용 스레드 풀
+     * 큐가 가득 차면 거부되며, 거부된 분류는 빈 결과(부분 결과)로 처리된다.
+     * 작업 스레드마다 DB 커넥션을 하나씩 쓰므로 최대 스레드 수를 Hikari 풀 크기 × connection-share로 제한해
+     * 느린 검색이 몰려도 나머지 커넥션은 다른 요청이 쓸 수 있게 한다. (최소 한 요청의 분류 수만큼은 보장)
+     */
+    @Bean(name = "searchExecutor")
+    public Executor searchExecutor(@Value("${search.executor.core-size:3}") int coreSize,
+                                   @Value("${search.executor.connection-share:0.5}") double connectionShare,
+                                   @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+                                   @Value("${search.executor.queue-capacity:100}") int queueCapacity) {
+        int maxSize = Math.max(SEARCH_CATEGORIES, (int) (connectionPoolSize * connectionShare));
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.min(coreSize, maxSize));
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("search-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * AI 추천 서비스 실시간 호출용 스레드 풀 (호출 시간 제한 및 헤징 요청)
+     * 큐가 가득 차면 거부되며, 거부된 호출은 빈 결과(콜드스타트 대체)로 처리된다.
+     */
+    @Bean(name = "aiRecommendationExecutor")
+    public Executor aiRecommendationExecutor(@Value("${ai.recommendation.client.executor.core-size:8}") int coreSize,
+                                             @Value("${ai.recommendation.client.executor.max-size:32}") int maxSize,
+                                             @Value("${ai.recommendation.client.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-recommendation-");
+        executor.initialize();
+        return executor;
+    }
+}
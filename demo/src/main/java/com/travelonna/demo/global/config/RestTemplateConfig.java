@@ -1,20 +1,44 @@
 package com.travelonna.demo.global.config;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
+    @Primary
     public RestTemplate restTemplate(RestTemplateBuilder builder) {
         return builder
                 .setConnectTimeout(Duration.ofSeconds(5))
                 .setReadTimeout(Duration.ofSeconds(10))
                 .build();
     }
-} 
\ No newline at end of file
+
+    /**
+     * AI 추천 서비스 실시간 조회 전용 (연결 재사용 + 짧은 타임아웃)
+     * JDK HttpClient는 연결 풀을 유지하므로 요청마다 TCP 연결을 새로 맺지 않는다.
+     */
+    @Bean(name = "aiRecommendationRestTemplate")
+    public RestTemplate aiRecommendationRestTemplate(RestTemplateBuilder builder,
+                                                     @Value("${ai.recommendation.client.connect-timeout-ms:500}") long connectTimeoutMs,
+                                                     @Value("${ai.recommendation.client.read-timeout-ms:1500}") long readTimeoutMs) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return builder
+                .requestFactory(() -> requestFactory)
+                .build();
+    }
+}
@@ -50,6 +50,8 @@ public class SecurityConfig {
                 .requestMatchers("/api/v1/profiles/user/**").permitAll()
                 // 검색 API 인증 없이 허용
                 .requestMatchers("/api/v1/search/**").permitAll()
+                // 추천 배치용 액션 내보내기는 JWT 대신 내보내기 API 키로 확인
+                .requestMatchers("/api/v1/recommendations/interactions/export").permitAll()
                 // 프로필 생성 및 수정 API는 인증 필요
                 .requestMatchers(HttpMethod.POST, "/api/v1/profiles").authenticated()
                 .requestMatchers(HttpMethod.PUT, "/api/v1/profiles/**").authenticated()
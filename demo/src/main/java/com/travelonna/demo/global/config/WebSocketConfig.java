@@ -1,18 +1,59 @@
 package com.travelonna.demo.global.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import com.travelonna.demo.global.config.WebSocketProperties.Pool;
+import com.travelonna.demo.global.config.WebSocketProperties.Relay;
+import com.travelonna.demo.global.config.WebSocketProperties.Transport;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 메시지 브로커 설정
+ *
+ * - simple: 인스턴스 메모리 내 브로커 (단일 인스턴스 전용, 기본값)
+ * - relay: 외부 STOMP 브로커(RabbitMQ STOMP 플러그인, ActiveMQ 등)로 중계하여
+ *          여러 인스턴스에 접속한 그룹 일정 참여자(/topic/plan/{groupUrl})에게 같은 메시지를 전달
+ * 클라이언트 입출력 채널 스레드 풀과 세션별 전송 버퍼 한도는 두 방식에 공통으로 적용된다.
+ * 설정값은 WebSocketProperties(websocket.*)로 바인딩되며, 허용되지 않은 브로커 모드는 시작 시 실패한다.
+ */
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
+@EnableConfigurationProperties(WebSocketProperties.class)
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final WebSocketProperties properties;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");  // 메시지 브로커가 "/topic"로 시작하는 대상에게 메시지를 보냅니다.
+        if (properties.getBroker().getMode() == WebSocketProperties.BrokerMode.RELAY) {
+            // 외부 STOMP 브로커로 중계 (구독/전달을 브로커가 처리하므로 인스턴스 수와 무관)
+            Relay relayProperties = properties.getBroker().getRelay();
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic")
+                    .setRelayHost(relayProperties.getHost())
+                    .setRelayPort(relayProperties.getPort())
+                    .setClientLogin(relayProperties.getLogin())
+                    .setClientPasscode(relayProperties.getPasscode())
+                    .setSystemLogin(relayProperties.getLogin())
+                    .setSystemPasscode(relayProperties.getPasscode());
+            if (relayProperties.getVirtualHost() != null && !relayProperties.getVirtualHost().isBlank()) {
+                relay.setVirtualHost(relayProperties.getVirtualHost());
+            }
+            log.info("STOMP 브로커 중계 모드: {}:{}", relayProperties.getHost(), relayProperties.getPort());
+        } else {
+            config.enableSimpleBroker("/topic");  // 메시지 브로커가 "/topic"로 시작하는 대상에게 메시지를 보냅니다.
+        }
         config.setApplicationDestinationPrefixes("/app");  // 클라이언트에서 메시지를 보내는 엔드포인트의 접두사입니다.
     }
 
@@ -23,4 +64,33 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
     }
-} 
\ No newline at end of file
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // 클라이언트 → 서버 메시지 처리 스레드 풀
+        Pool inbound = properties.getChannel().getInbound();
+        registration.taskExecutor()
+                .corePoolSize(inbound.getCoreSize())
+                .maxPoolSize(inbound.getMaxSize())
+                .queueCapacity(inbound.getQueueCapacity());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 서버 → 클라이언트 메시지 전송 스레드 풀
+        Pool outbound = properties.getChannel().getOutbound();
+        registration.taskExecutor()
+                .corePoolSize(outbound.getCoreSize())
+                .maxPoolSize(outbound.getMaxSize())
+                .queueCapacity(outbound.getQueueCapacity());
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 느린 클라이언트 한 명이 전송 스레드를 오래 붙잡지 않도록 세션별 전송 시간/버퍼 한도 설정 (초과 시 세션 종료)
+        Transport transport = properties.getTransport();
+        registration.setSendTimeLimit(transport.getSendTimeLimitMs())
+                .setSendBufferSizeLimit(transport.getSendBufferSizeLimit())
+                .setMessageSizeLimit(transport.getMessageSizeLimit());
+    }
+}
@@ -0,0 +1,97 @@
+package com.travelonna.demo.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * WebSocket/STOMP 설정 (websocket.*)
+ *
+ * websocket.broker.mode는 simple 또는 relay만 허용하며(대소문자 무시), 그 외 값이면 바인딩 오류로 애플리케이션이 시작되지 않는다.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "websocket")
+public class WebSocketProperties {
+
+    public enum BrokerMode {
+        // 인스턴스 메모리 내 브로커 (단일 인스턴스 전용)
+        SIMPLE,
+        // 외부 STOMP 브로커로 중계 (다중 인스턴스)
+        RELAY
+    }
+
+    @Valid
+    private final Broker broker = new Broker();
+
+    @Valid
+    private final Channel channel = new Channel();
+
+    @Valid
+    private final Transport transport = new Transport();
+
+    @Getter
+    @Setter
+    public static class Broker {
+        @NotNull
+        private BrokerMode mode = BrokerMode.SIMPLE;
+
+        @Valid
+        private final Relay relay = new Relay();
+    }
+
+    @Getter
+    @Setter
+    public static class Relay {
+        private String host = "localhost";
+        private int port = 61613;
+        private String login = "guest";
+        private String passcode = "guest";
+        private String virtualHost = "";
+    }
+
+    @Getter
+    @Setter
+    public static class Channel {
+        @Valid
+        private final Pool inbound = new Pool();
+
+        @Valid
+        private final Pool outbound = new Pool();
+    }
+
+    /**
+     * 클라이언트 입출력 채널 스레드 풀
+     */
+    @Getter
+    @Setter
+    public static class Pool {
+        @Min(1)
+        private int coreSize = 8;
+
+        @Min(1)
+        private int maxSize = 32;
+
+        @Min(0)
+        private int queueCapacity = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Transport {
+        @Min(1)
+        private int sendTimeLimitMs = 10000;
+
+        @Min(1)
+        private int sendBufferSizeLimit = 524288;
+
+        @Min(1)
+        private int messageSizeLimit = 65536;
+    }
+}
@@ -0,0 +1,119 @@
+package com.travelonna.demo.global.util;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 한글 자모 분해 유틸리티 (자동완성 접두어 매칭용)
+ *
+ * 완성형 음절을 호환 자모 시퀀스로 풀고, 겹모음/겹받침도 구성 자모로 나눈다.
+ * 예) "서울" -> "ㅅㅓㅇㅜㄹ", "과" -> "ㄱㅗㅏ", "닭" -> "ㄷㅏㄹㄱ"
+ * 이렇게 하면 입력 중인 "서우", "달ㄱ"도 접두어로 매칭된다.
+ */
+public final class HangulUtil {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final char CONSONANT_BEGIN = 'ㄱ'; // ㄱ
+    private static final char CONSONANT_END = 'ㅎ';   // ㅎ
+
+    private static final String[] CHOSUNG = {
+        "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+        "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] JUNGSUNG = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+        "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSUNG = {
+        "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+        "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+        "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 단독으로 입력된 겹자모 (예: "ㅘ", "ㄺ") 분해표
+    private static final Map<Character, String> COMPOUND_JAMO = new HashMap<>();
+
+    static {
+        String compounds = "ㅘㅙㅚㅝㅞㅟㅢㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄ";
+        String[] parts = {
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ", "ㄱㅅ", "ㄴㅈ", "ㄴㅎ",
+            "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ"
+        };
+        for (int i = 0; i < compounds.length(); i++) {
+            COMPOUND_JAMO.put(compounds.charAt(i), parts[i]);
+        }
+    }
+
+    private HangulUtil() {
+    }
+
+    /**
+     * 검색용 정규화 (소문자, 공백/하이픈 제거)
+     */
+    public static String normalize(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c) && c != '-') {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 자모 시퀀스로 분해 (한글 외 문자는 그대로 유지)
+     */
+    public static String toJamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                int offset = c - SYLLABLE_BEGIN;
+                sb.append(CHOSUNG[offset / 588])
+                  .append(JUNGSUNG[(offset % 588) / 28])
+                  .append(JONGSUNG[offset % 28]);
+            } else {
+                String compound = COMPOUND_JAMO.get(c);
+                sb.append(compound != null ? compound : String.valueOf(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성 문자열 (한글 외 문자는 그대로 유지)
+     */
+    public static String toChosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                sb.append(CHOSUNG[(c - SYLLABLE_BEGIN) / 588]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 자음(초성)으로만 이루어진 입력인지 여부 (예: "ㅅㅇ")
+     */
+    public static boolean isChosungOnly(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < CONSONANT_BEGIN || c > CONSONANT_END) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,10 @@
+-- 프로필 팔로워/팔로잉 수 비정규화 컬럼
+-- 프로필 헤더 조회 시 follow 테이블을 COUNT(*) 하지 않도록 카운터를 profile 테이블에 저장한다.
+ALTER TABLE profile
+    ADD COLUMN follower_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN following_count INT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 백필
+UPDATE profile p
+SET p.follower_count = (SELECT COUNT(*) FROM follow f WHERE f.to_user = p.user_id),
+    p.following_count = (SELECT COUNT(*) FROM follow f WHERE f.from_user = p.user_id);
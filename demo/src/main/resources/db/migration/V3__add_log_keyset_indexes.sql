@@ -0,0 +1,6 @@
+-- 기록 피드 키셋(커서) 페이지네이션용 복합 인덱스
+-- WHERE 조건 컬럼 + (created_at, log_id) 순서로 정렬/범위 탐색을 인덱스만으로 처리한다.
+CREATE INDEX idx_log_public_created ON log (is_public, created_at, log_id);
+CREATE INDEX idx_log_user_created ON log (user_id, created_at, log_id);
+CREATE INDEX idx_log_plan_created ON log (plan_id, created_at, log_id);
+CREATE INDEX idx_log_place_created ON log (place_id, created_at, log_id);
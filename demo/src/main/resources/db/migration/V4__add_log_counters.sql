@@ -0,0 +1,10 @@
+-- 기록 좋아요/댓글 수 비정규화 컬럼
+-- 목록 조회 시 likes/log_comment 컬렉션을 로딩하지 않도록 카운터를 log 테이블에 저장한다.
+ALTER TABLE log
+    ADD COLUMN like_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN comment_count INT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 백필
+UPDATE log l
+SET l.like_count = (SELECT COUNT(*) FROM likes lk WHERE lk.log_id = l.log_id),
+    l.comment_count = (SELECT COUNT(*) FROM log_comment lc WHERE lc.log_id = l.log_id);
@@ -0,0 +1,14 @@
+-- 검색용 FULLTEXT 인덱스 (ngram 파서, 기본 ngram_token_size = 2)
+-- 기존 검색의 공백/하이픈 제거 매칭을 유지하기 위해 정규화된 값을 STORED 생성 컬럼으로 두고 인덱싱한다.
+-- 생성 컬럼과 FULLTEXT 인덱스는 INSERT/UPDATE/DELETE 시 InnoDB가 자동으로 갱신한다.
+ALTER TABLE place
+    ADD COLUMN p_name_search VARCHAR(255) GENERATED ALWAYS AS (REPLACE(REPLACE(p_name, ' ', ''), '-', '')) STORED,
+    ADD FULLTEXT INDEX ft_place_name (p_name_search) WITH PARSER ngram;
+
+ALTER TABLE profile
+    ADD COLUMN nickname_search VARCHAR(255) GENERATED ALWAYS AS (REPLACE(REPLACE(nickname, ' ', ''), '-', '')) STORED,
+    ADD FULLTEXT INDEX ft_profile_nickname (nickname_search) WITH PARSER ngram;
+
+ALTER TABLE log
+    ADD COLUMN comment_search TEXT GENERATED ALWAYS AS (REPLACE(REPLACE(comment, ' ', ''), '-', '')) STORED,
+    ADD FULLTEXT INDEX ft_log_comment (comment_search) WITH PARSER ngram;
@@ -0,0 +1,59 @@
+-- user_actions 월 단위 RANGE 파티셔닝 + 사용자별 커버링 인덱스
+-- 파티션 키(action_time)는 모든 유니크 키에 포함되어야 하므로 기본 키를 (action_id, action_time)으로 변경한다.
+-- (파티션 테이블은 외래 키를 가질 수 없으므로 user_actions에 외래 키가 있다면 먼저 제거해야 한다.)
+-- 이후 파티션 추가/삭제는 UserActionMaintenanceJob이 담당한다.
+ALTER TABLE user_actions
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (action_id, action_time),
+    ADD INDEX idx_user_actions_user_time (user_id, action_time, target_type, target_id, action_type);
+
+-- 기존 이력도 월 단위로 나누어 보존 작업이 첫 실행부터 기준일 이전 월을 파티션째 삭제할 수 있게 한다.
+-- 2025-01 이전 행은 pold 하나에 모으며, 상한이 보존 기준일(raw-months, 기본 6개월)보다 이르므로 첫 실행에서 삭제된다.
+ALTER TABLE user_actions
+    PARTITION BY RANGE (TO_DAYS(action_time)) (
+        PARTITION pold VALUES LESS THAN (TO_DAYS('2025-01-01')),
+        PARTITION p202501 VALUES LESS THAN (TO_DAYS('2025-02-01')),
+        PARTITION p202502 VALUES LESS THAN (TO_DAYS('2025-03-01')),
+        PARTITION p202503 VALUES LESS THAN (TO_DAYS('2025-04-01')),
+        PARTITION p202504 VALUES LESS THAN (TO_DAYS('2025-05-01')),
+        PARTITION p202505 VALUES LESS THAN (TO_DAYS('2025-06-01')),
+        PARTITION p202506 VALUES LESS THAN (TO_DAYS('2025-07-01')),
+        PARTITION p202507 VALUES LESS THAN (TO_DAYS('2025-08-01')),
+        PARTITION p202508 VALUES LESS THAN (TO_DAYS('2025-09-01')),
+        PARTITION p202509 VALUES LESS THAN (TO_DAYS('2025-10-01')),
+        PARTITION p202510 VALUES LESS THAN (TO_DAYS('2025-11-01')),
+        PARTITION p202511 VALUES LESS THAN (TO_DAYS('2025-12-01')),
+        PARTITION p202512 VALUES LESS THAN (TO_DAYS('2026-01-01')),
+        PARTITION p202601 VALUES LESS THAN (TO_DAYS('2026-02-01')),
+        PARTITION p202602 VALUES LESS THAN (TO_DAYS('2026-03-01')),
+        PARTITION p202603 VALUES LESS THAN (TO_DAYS('2026-04-01')),
+        PARTITION p202604 VALUES LESS THAN (TO_DAYS('2026-05-01')),
+        PARTITION p202605 VALUES LESS THAN (TO_DAYS('2026-06-01')),
+        PARTITION p202606 VALUES LESS THAN (TO_DAYS('2026-07-01')),
+        PARTITION p202607 VALUES LESS THAN (TO_DAYS('2026-08-01')),
+        PARTITION p202608 VALUES LESS THAN (TO_DAYS('2026-09-01')),
+        PARTITION p202609 VALUES LESS THAN (TO_DAYS('2026-10-01')),
+        PARTITION p202610 VALUES LESS THAN (TO_DAYS('2026-11-01')),
+        PARTITION p202611 VALUES LESS THAN (TO_DAYS('2026-12-01')),
+        PARTITION p202612 VALUES LESS THAN (TO_DAYS('2027-01-01')),
+        PARTITION pmax VALUES LESS THAN MAXVALUE
+    );
+
+-- 일별 (사용자, 대상, 액션) 집계
+-- 추천용 데이터는 원본 행 대신 이 테이블을 읽는다. (기본 키가 조회 범위 + 집계 컬럼을 모두 포함)
+CREATE TABLE user_action_daily (
+    action_date DATE NOT NULL,
+    user_id INT NOT NULL,
+    target_type VARCHAR(20) NOT NULL,
+    target_id INT NOT NULL,
+    action_type VARCHAR(20) NOT NULL,
+    action_count INT NOT NULL,
+    PRIMARY KEY (action_date, user_id, target_type, target_id, action_type),
+    INDEX idx_user_action_daily_user (user_id, action_date)
+);
+
+-- 기존 데이터 백필
+INSERT INTO user_action_daily (action_date, user_id, target_type, target_id, action_type, action_count)
+SELECT DATE(action_time), user_id, target_type, target_id, action_type, COUNT(*)
+FROM user_actions
+GROUP BY DATE(action_time), user_id, target_type, target_id, action_type;
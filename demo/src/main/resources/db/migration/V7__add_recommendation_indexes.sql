@@ -0,0 +1,4 @@
+-- 사용자별 추천 순위 조회용 복합 인덱스 (user_id, item_type 조건 + score 정렬)
+CREATE INDEX idx_recommendations_user_type_score ON recommendations (user_id, item_type, score);
+-- 새 추천 배치 감지용 (최신 created_at 및 이후 저장된 사용자 조회)
+CREATE INDEX idx_recommendations_created ON recommendations (created_at);
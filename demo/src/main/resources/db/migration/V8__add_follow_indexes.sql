@@ -0,0 +1,4 @@
+-- 팔로우 그래프 로딩용 커버링 인덱스
+-- 사용자의 팔로잉 ID 목록(from_user → to_user)과 팔로워 ID 목록(to_user → from_user)을 인덱스만으로 조회한다.
+CREATE INDEX idx_follow_from_to ON follow (from_user, to_user);
+CREATE INDEX idx_follow_to_from ON follow (to_user, from_user);
@@ -0,0 +1,4 @@
+-- 팔로워/팔로잉 목록 키셋(커서) 페이지네이션용 인덱스
+-- 대상 사용자 조건 + f_id 역순 범위 탐색을 인덱스로 처리한다.
+CREATE INDEX idx_follow_to_id ON follow (to_user, f_id);
+CREATE INDEX idx_follow_from_id ON follow (from_user, f_id);
@@ -0,0 +1,103 @@
+package com.travelonna.demo.domain.follow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.travelonna.demo.domain.follow.repository.FollowRepository;
+
+class FollowGraphTest {
+
+    private FollowRepository followRepository;
+    private FollowGraph followGraph;
+
+    @BeforeEach
+    void setUp() {
+        followRepository = mock(FollowRepository.class);
+        followGraph = new FollowGraph(followRepository, 100, 600);
+    }
+
+    @Test
+    void loadedFolloweesAreCachedAndUpdatedInPlace() {
+        when(followRepository.findFolloweeIds(1)).thenReturn(List.of(3, 5, 5, 9));
+
+        assertThat(followGraph.followeesOf(1)).containsExactly(3, 5, 9);
+        followGraph.onFollowed(1, 4);
+        followGraph.onUnfollowed(1, 9);
+
+        assertThat(followGraph.followeesOf(1)).containsExactly(3, 4, 5);
+        assertThat(followGraph.isFollowing(1, 4)).isTrue();
+        assertThat(followGraph.isFollowing(1, 9)).isFalse();
+        verify(followRepository, times(1)).findFolloweeIds(1);
+    }
+
+    @Test
+    void changeToLoadingUserDuringLoadIsNotOverwritten() {
+        // 로딩 조회 후 저장 전에 사용자 1의 팔로우가 커밋된 상황
+        when(followRepository.findFolloweeIds(1)).thenAnswer(invocation -> {
+            followGraph.onFollowed(1, 7);
+            return List.of(3);
+        }).thenReturn(List.of(3, 7));
+
+        assertThat(followGraph.followeesOf(1)).containsExactly(3);
+        assertThat(followGraph.followeesOf(1)).containsExactly(3, 7);
+        verify(followRepository, times(2)).findFolloweeIds(1);
+    }
+
+    @Test
+    void changeToOtherUserDuringLoadDoesNotRejectLoad() {
+        when(followRepository.findFolloweeIds(1)).thenAnswer(invocation -> {
+            followGraph.onFollowed(2, 7);
+            return List.of(3);
+        });
+
+        followGraph.followeesOf(1);
+        followGraph.followeesOf(1);
+
+        verify(followRepository, times(1)).findFolloweeIds(1);
+    }
+
+    @Test
+    void batchLoadRejectsOnlyMutatedUsers() {
+        when(followRepository.findFollowEdges(anyCollection())).thenAnswer(invocation -> {
+            followGraph.onUnfollowed(2, 8);
+            return List.<Object[]>of(new Object[] { 1, 4 }, new Object[] { 1, 6 }, new Object[] { 2, 8 });
+        });
+
+        int[][] followees = followGraph.followeesOfAll(new int[] { 1, 2, 3 });
+
+        assertThat(followees[0]).containsExactly(4, 6);
+        assertThat(followees[1]).containsExactly(8);
+        assertThat(followees[2]).isEmpty();
+
+        // 사용자 1, 3은 캐시, 로딩 중 변경된 사용자 2만 다시 조회
+        when(followRepository.findFolloweeIds(2)).thenReturn(List.of());
+        assertThat(followGraph.followeesOf(1)).containsExactly(4, 6);
+        assertThat(followGraph.followeesOf(3)).isEmpty();
+        assertThat(followGraph.followeesOf(2)).isEmpty();
+        verify(followRepository, times(0)).findFolloweeIds(1);
+        verify(followRepository, times(0)).findFolloweeIds(3);
+        verify(followRepository, times(1)).findFolloweeIds(2);
+    }
+
+    @Test
+    void intersectMatchesForBothStrategies() {
+        int[] small = { 2, 50, 999 };
+        int[] large = new int[200];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = i * 5;
+        }
+
+        assertThat(FollowGraph.intersect(small, large)).containsExactly(50);
+        assertThat(FollowGraph.intersect(new int[] { 1, 3, 5, 7 }, new int[] { 3, 4, 5, 6 })).containsExactly(3, 5);
+        assertThat(FollowGraph.intersect(new int[0], large)).isEmpty();
+    }
+}
@@ -0,0 +1,255 @@
+package com.travelonna.demo.domain.follow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.travelonna.demo.domain.follow.service.FollowSuggestionEngine.Candidates;
+import com.travelonna.demo.domain.follow.service.FollowSuggestionEngine.Suggestions;
+
+class FollowSuggestionEngineTest {
+
+    private final List<FollowSuggestionEngine> engines = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        engines.forEach(FollowSuggestionEngine::shutdown);
+    }
+
+    @Test
+    void differenceRemovesExcludedAndSelf() {
+        Candidates candidates = Candidates.difference(new int[] { 1, 3, 4, 7, 9, 12 }, new int[] { 2, 3, 9, 10 }, 7);
+
+        assertThat(idsOf(candidates)).containsExactly(1, 4, 12);
+        assertThat(countsOf(candidates)).containsOnly(1);
+    }
+
+    @Test
+    void mergeSumsCountsAndMatchesBruteForce() {
+        Random random = new Random(13);
+        for (int round = 0; round < 200; round++) {
+            int[] excluded = randomSortedIds(random, 20, 100);
+            int userId = 1 + random.nextInt(100);
+            Candidates merged = Candidates.difference(new int[0], excluded, userId);
+            Map<Integer, Integer> expected = new HashMap<>();
+
+            int lists = random.nextInt(10);
+            for (int i = 0; i < lists; i++) {
+                int[] followees = randomSortedIds(random, 40, 100);
+                merged = Candidates.merge(merged, Candidates.difference(followees, excluded, userId));
+                for (int id : followees) {
+                    if (id != userId && Arrays.binarySearch(excluded, id) < 0) {
+                        expected.merge(id, 1, Integer::sum);
+                    }
+                }
+            }
+
+            assertThat(idsOf(merged)).containsExactlyElementsOf(new TreeSet<>(expected.keySet()));
+            for (int i = 0; i < merged.size(); i++) {
+                assertThat(merged.countAt(i)).isEqualTo(expected.get(merged.idAt(i)));
+            }
+        }
+    }
+
+    @Test
+    void rankOrdersByMutualCountThenUserIdAndTruncates() {
+        Candidates candidates = Candidates.merge(
+                Candidates.merge(
+                        Candidates.difference(new int[] { 5, 8, 20 }, new int[0], 0),
+                        Candidates.difference(new int[] { 8, 20, 30 }, new int[0], 0)),
+                Candidates.difference(new int[] { 2, 20 }, new int[0], 0));
+
+        Suggestions all = FollowSuggestionEngine.rank(candidates, 10);
+        Suggestions top = FollowSuggestionEngine.rank(candidates, 2);
+
+        assertThat(userIdsOf(all)).containsExactly(20, 8, 2, 5, 30);
+        assertThat(mutualCountsOf(all)).containsExactly(3, 2, 1, 1, 1);
+        assertThat(userIdsOf(top)).containsExactly(20, 8);
+    }
+
+    @Test
+    void suggestionsMatchBruteForceOnRandomGraphs() {
+        Random random = new Random(17);
+        for (int round = 0; round < 20; round++) {
+            Map<Integer, int[]> graph = randomGraph(random, 300, 60);
+            int maxCandidates = 5 + random.nextInt(100);
+            FollowSuggestionEngine engine = engineOf(graph, 1_000, maxCandidates);
+
+            for (int userId = 1; userId <= 300; userId += 11) {
+                Suggestions suggestions = engine.suggestionsFor(userId);
+                List<int[]> expected = bruteForce(graph, userId, graph.get(userId), maxCandidates);
+
+                assertThat(suggestions.size()).isEqualTo(expected.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertThat(new int[] { suggestions.userIdAt(i), suggestions.mutualCountAt(i) })
+                            .as("userId=%d, rank=%d", userId, i)
+                            .containsExactly(expected.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    void largeFolloweeListsAreSampledAcrossWholeRange() {
+        int[] followees = new int[1_000];
+        for (int i = 0; i < followees.length; i++) {
+            followees[i] = (i + 1) * 3;
+        }
+
+        int[] sample = FollowSuggestionEngine.sample(followees, 100, 42);
+
+        assertThat(sample).hasSize(100).isSorted().doesNotHaveDuplicates();
+        assertThat(Arrays.stream(sample).allMatch(id -> Arrays.binarySearch(followees, id) >= 0)).isTrue();
+        assertThat(sample[sample.length - 1]).isGreaterThan(followees[100]);
+        assertThat(FollowSuggestionEngine.sample(followees, 100, 42)).isEqualTo(sample);
+        assertThat(FollowSuggestionEngine.sample(followees, 100, 43)).isNotEqualTo(sample);
+    }
+
+    @Test
+    void sampledSuggestionsMatchBruteForceOverSample() {
+        Random random = new Random(19);
+        Map<Integer, int[]> graph = randomGraph(random, 400, 150);
+        FollowSuggestionEngine engine = engineOf(graph, 40, 200);
+
+        for (int userId = 1; userId <= 400; userId += 13) {
+            int[] mine = graph.get(userId);
+            int[] sources = mine.length > 40 ? FollowSuggestionEngine.sample(mine, 40, userId) : mine;
+            List<int[]> expected = bruteForce(graph, userId, sources, 200);
+
+            Suggestions suggestions = engine.suggestionsFor(userId);
+            assertThat(suggestions.size()).isEqualTo(expected.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(suggestions.userIdAt(i)).isEqualTo(expected.get(i)[0]);
+            }
+        }
+    }
+
+    @Test
+    void resultComputedDuringInvalidationIsNotCached() {
+        FollowGraph followGraph = mock(FollowGraph.class);
+        FollowSuggestionEngine engine = new FollowSuggestionEngine(followGraph, 2, 500, 200, 100, 600);
+        engines.add(engine);
+        when(followGraph.followeesOfAll(any())).thenReturn(new int[][] { { 3 } });
+        // 계산 중(팔로잉 조회 후) 사용자 1의 팔로우가 바뀌어 무효화됨
+        when(followGraph.followeesOf(1)).thenAnswer(invocation -> {
+            engine.invalidate(1);
+            return new int[] { 2 };
+        }).thenReturn(new int[] { 2 });
+
+        engine.suggestionsFor(1);
+        Suggestions second = engine.suggestionsFor(1);
+        Suggestions third = engine.suggestionsFor(1);
+
+        assertThat(third).isSameAs(second);
+        verify(followGraph, times(2)).followeesOf(1);
+    }
+
+    @Test
+    void invalidationOfOtherUserDoesNotRejectResult() {
+        FollowGraph followGraph = mock(FollowGraph.class);
+        FollowSuggestionEngine engine = new FollowSuggestionEngine(followGraph, 2, 500, 200, 100, 600);
+        engines.add(engine);
+        when(followGraph.followeesOfAll(any())).thenReturn(new int[][] { { 3 } });
+        when(followGraph.followeesOf(anyInt())).thenAnswer(invocation -> {
+            engine.invalidate(9);
+            return new int[] { 2 };
+        });
+
+        Suggestions first = engine.suggestionsFor(1);
+
+        assertThat(engine.suggestionsFor(1)).isSameAs(first);
+        verify(followGraph, times(1)).followeesOf(1);
+    }
+
+    private FollowSuggestionEngine engineOf(Map<Integer, int[]> graph, int maxFollowees, int maxCandidates) {
+        FollowGraph followGraph = mock(FollowGraph.class);
+        when(followGraph.followeesOf(anyInt())).thenAnswer(invocation -> graph.get(invocation.<Integer>getArgument(0)));
+        when(followGraph.followeesOfAll(any())).thenAnswer(invocation -> {
+            int[] userIds = invocation.getArgument(0);
+            return Arrays.stream(userIds).mapToObj(graph::get).toArray(int[][]::new);
+        });
+        FollowSuggestionEngine engine = new FollowSuggestionEngine(followGraph, 4, maxFollowees, maxCandidates, 100, 600);
+        engines.add(engine);
+        return engine;
+    }
+
+    // sources가 팔로우하는 사용자 중 나와 내 팔로잉을 뺀 후보를 (공통 수 내림차순, ID 오름차순)으로 정렬한 [ID, 공통 수]
+    private List<int[]> bruteForce(Map<Integer, int[]> graph, int userId, int[] sources, int limit) {
+        Set<Integer> mine = new HashSet<>();
+        Arrays.stream(graph.get(userId)).forEach(mine::add);
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (int source : sources) {
+            for (int candidate : graph.get(source)) {
+                if (candidate != userId && !mine.contains(candidate)) {
+                    counts.merge(candidate, 1, Integer::sum);
+                }
+            }
+        }
+        List<int[]> ranked = new ArrayList<>();
+        counts.forEach((id, count) -> ranked.add(new int[] { id, count }));
+        ranked.sort((a, b) -> a[1] != b[1] ? Integer.compare(b[1], a[1]) : Integer.compare(a[0], b[0]));
+        return ranked.subList(0, Math.min(limit, ranked.size()));
+    }
+
+    private Map<Integer, int[]> randomGraph(Random random, int users, int maxDegree) {
+        Map<Integer, int[]> graph = new HashMap<>();
+        for (int userId = 1; userId <= users; userId++) {
+            graph.put(userId, randomSortedIds(random, maxDegree, users));
+        }
+        return graph;
+    }
+
+    private int[] randomSortedIds(Random random, int maxCount, int maxId) {
+        int count = random.nextInt(maxCount + 1);
+        return random.ints(count, 1, maxId + 1).distinct().sorted().toArray();
+    }
+
+    private List<Integer> idsOf(Candidates candidates) {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            ids.add(candidates.idAt(i));
+        }
+        return ids;
+    }
+
+    private List<Integer> countsOf(Candidates candidates) {
+        List<Integer> counts = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            counts.add(candidates.countAt(i));
+        }
+        return counts;
+    }
+
+    private int[] userIdsOf(Suggestions suggestions) {
+        int[] userIds = new int[suggestions.size()];
+        for (int i = 0; i < userIds.length; i++) {
+            userIds[i] = suggestions.userIdAt(i);
+        }
+        return userIds;
+    }
+
+    private int[] mutualCountsOf(Suggestions suggestions) {
+        int[] counts = new int[suggestions.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = suggestions.mutualCountAt(i);
+        }
+        return counts;
+    }
+}
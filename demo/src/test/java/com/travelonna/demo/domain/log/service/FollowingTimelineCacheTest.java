@@ -0,0 +1,73 @@
+package com.travelonna.demo.domain.log.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class FollowingTimelineCacheTest {
+
+    @Test
+    void invalidateAuthorRemovesOnlyFollowersTimelines() {
+        FollowingTimelineCache cache = new FollowingTimelineCache(100, 60);
+        cache.put(1, timeline(10, 20));
+        cache.put(2, timeline(20, 30));
+        cache.put(3, timeline(30));
+
+        cache.invalidateAuthor(20);
+
+        assertThat(cache.get(1)).isNull();
+        assertThat(cache.get(2)).isNull();
+        assertThat(cache.get(3)).isNotNull();
+        cache.invalidateAuthor(99);
+        assertThat(cache.get(3)).isNotNull();
+    }
+
+    @Test
+    void replacedTimelineIsIndexedByNewFollowees() {
+        FollowingTimelineCache cache = new FollowingTimelineCache(100, 60);
+        cache.put(1, timeline(10));
+        FollowingTimeline replaced = timeline(20);
+        cache.put(1, replaced);
+
+        cache.invalidateAuthor(10);
+        assertThat(cache.get(1)).isSameAs(replaced);
+
+        cache.invalidateAuthor(20);
+        assertThat(cache.get(1)).isNull();
+    }
+
+    @Test
+    void evictedAndInvalidatedViewersAreUnindexed() {
+        FollowingTimelineCache cache = new FollowingTimelineCache(2, 60);
+        cache.put(1, timeline(10));
+        cache.put(2, timeline(10));
+        cache.put(3, timeline(10));
+
+        assertThat(cache.get(1)).isNull();
+
+        // 제거된 사용자 1의 역색인이 남아 있으면 새로 캐시된 같은 사용자의 타임라인이 잘못 무효화됨
+        cache.invalidateViewer(2);
+        FollowingTimeline fresh = timeline(30);
+        cache.put(2, fresh);
+        cache.put(1, timeline(40));
+        cache.invalidateAuthor(10);
+
+        assertThat(cache.get(2)).isSameAs(fresh);
+        assertThat(cache.get(1)).isNotNull();
+        assertThat(cache.get(3)).isNull();
+    }
+
+    @Test
+    void expiredTimelineIsNotReturned() {
+        FollowingTimelineCache cache = new FollowingTimelineCache(100, -1);
+        cache.put(1, timeline(10));
+
+        assertThat(cache.get(1)).isNull();
+    }
+
+    private FollowingTimeline timeline(int... sortedFolloweeIds) {
+        return FollowingTimeline.merge(sortedFolloweeIds, List.of(), 50, 300);
+    }
+}
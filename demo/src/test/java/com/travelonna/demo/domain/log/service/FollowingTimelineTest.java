@@ -0,0 +1,113 @@
+package com.travelonna.demo.domain.log.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.travelonna.demo.domain.log.service.FollowingTimeline.Entry;
+
+class FollowingTimelineTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void mergeMatchesSortedConcatenation() {
+        Random random = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            List<List<Entry>> streams = randomStreams(random, 8, 20);
+
+            FollowingTimeline timeline = FollowingTimeline.merge(new int[0], streams, 100, 1000);
+
+            assertThat(timeline.isComplete()).isTrue();
+            assertThat(logIds(timeline.getEntries())).containsExactlyElementsOf(logIds(sortedConcatenation(streams)));
+        }
+    }
+
+    @Test
+    void sameCreatedAtIsOrderedByLogIdDescending() {
+        LocalDateTime sameTime = BASE.plusMinutes(5);
+        List<List<Entry>> streams = List.of(
+                List.of(new Entry(10, 1, sameTime), new Entry(4, 1, sameTime)),
+                List.of(new Entry(12, 2, sameTime), new Entry(7, 2, sameTime), new Entry(3, 2, BASE)));
+
+        FollowingTimeline timeline = FollowingTimeline.merge(new int[] { 1, 2 }, streams, 50, 300);
+
+        assertThat(logIds(timeline.getEntries())).containsExactly(12, 10, 7, 4, 3);
+    }
+
+    @Test
+    void mergeStopsAtCapacity() {
+        List<List<Entry>> streams = randomStreams(new Random(11), 5, 30);
+
+        FollowingTimeline timeline = FollowingTimeline.merge(new int[0], streams, 100, 10);
+
+        assertThat(timeline.isComplete()).isFalse();
+        assertThat(logIds(timeline.getEntries()))
+                .containsExactlyElementsOf(logIds(sortedConcatenation(streams)).subList(0, 10));
+    }
+
+    @Test
+    void mergeStopsWhenTruncatedStreamIsExhausted() {
+        // 사용자 1의 스트림은 perUserLimit(2)개를 모두 받았으므로 더 오래된 기록이 조회되지 않았을 수 있음
+        List<List<Entry>> streams = List.of(
+                List.of(entry(100, 1, 50), entry(90, 1, 40)),
+                List.of(entry(95, 2, 45), entry(80, 2, 30)));
+
+        FollowingTimeline timeline = FollowingTimeline.merge(new int[] { 1, 2 }, streams, 2, 300);
+
+        assertThat(timeline.isComplete()).isFalse();
+        assertThat(logIds(timeline.getEntries())).containsExactly(100, 95, 90);
+    }
+
+    @Test
+    void indexAfterPointsPastCursor() {
+        List<List<Entry>> streams = List.of(
+                List.of(entry(30, 1, 30), entry(10, 1, 10)),
+                List.of(entry(20, 2, 20)));
+        FollowingTimeline timeline = FollowingTimeline.merge(new int[] { 1, 2 }, streams, 50, 300);
+
+        assertThat(timeline.indexAfter(BASE.plusMinutes(30), 30)).isEqualTo(1);
+        assertThat(timeline.indexAfter(BASE.plusMinutes(25), Integer.MAX_VALUE)).isEqualTo(1);
+        assertThat(timeline.indexAfter(BASE.plusMinutes(10), 10)).isEqualTo(3);
+        assertThat(timeline.indexAfter(LocalDateTime.MAX, Integer.MAX_VALUE)).isZero();
+        assertThat(timeline.follows(2)).isTrue();
+        assertThat(timeline.follows(3)).isFalse();
+    }
+
+    // 사용자별 최신순 스트림 (같은 시각이 여러 사용자에 걸쳐 나오도록 분 단위로 생성)
+    private List<List<Entry>> randomStreams(Random random, int users, int maxPerUser) {
+        List<List<Entry>> streams = new ArrayList<>();
+        int nextLogId = 1;
+        for (int userId = 1; userId <= users; userId++) {
+            List<Entry> stream = new ArrayList<>();
+            int size = random.nextInt(maxPerUser + 1);
+            for (int i = 0; i < size; i++) {
+                stream.add(new Entry(nextLogId++, userId, BASE.plusMinutes(random.nextInt(40))));
+            }
+            stream.sort(FollowingTimeline.NEWEST_FIRST);
+            streams.add(stream);
+        }
+        return streams;
+    }
+
+    private List<Entry> sortedConcatenation(List<List<Entry>> streams) {
+        return streams.stream()
+                .flatMap(List::stream)
+                .sorted(FollowingTimeline.NEWEST_FIRST)
+                .collect(Collectors.toList());
+    }
+
+    private Entry entry(int logId, int authorId, int minutes) {
+        return new Entry(logId, authorId, BASE.plusMinutes(minutes));
+    }
+
+    private List<Integer> logIds(List<Entry> entries) {
+        return entries.stream().map(Entry::getLogId).collect(Collectors.toList());
+    }
+}
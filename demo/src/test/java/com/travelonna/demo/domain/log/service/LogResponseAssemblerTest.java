@@ -0,0 +1,227 @@
+package com.travelonna.demo.domain.log.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.travelonna.demo.domain.log.dto.LogResponseDto;
+import com.travelonna.demo.domain.log.entity.Likes;
+import com.travelonna.demo.domain.log.entity.Log;
+import com.travelonna.demo.domain.log.entity.LogComment;
+import com.travelonna.demo.domain.log.entity.LogImage;
+import com.travelonna.demo.domain.log.repository.LogRepository;
+import com.travelonna.demo.domain.plan.entity.MapCode;
+import com.travelonna.demo.domain.plan.entity.MyMap;
+import com.travelonna.demo.domain.plan.entity.Place;
+import com.travelonna.demo.domain.plan.entity.Plan;
+import com.travelonna.demo.domain.plan.service.PlanPlacesCache;
+import com.travelonna.demo.domain.user.entity.User;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ LogResponseAssembler.class, LikedStateResolver.class, LogMapCodeResolver.class, PlanPlacesCache.class })
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:assembler;MODE=MySQL;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class LogResponseAssemblerTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private LogRepository logRepository;
+
+    @Autowired
+    private LogResponseAssembler logResponseAssembler;
+
+    @Test
+    void queryCountDoesNotDependOnPageSize() {
+        User viewer = persistUser("viewer");
+
+        long smallPageQueries = countQueries(createLogs(3, viewer), viewer.getUserId());
+        long largePageQueries = countQueries(createLogs(30, viewer), viewer.getUserId());
+
+        assertThat(smallPageQueries).isEqualTo(largePageQueries);
+        assertThat(largePageQueries).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    void countersAndImagesAreAssembledWithoutLoadingCollections() {
+        User viewer = persistUser("reader");
+        List<Integer> logIds = createLogs(2, viewer);
+
+        em.clear();
+        List<LogResponseDto> dtos = logResponseAssembler.toDtoList(logRepository.findAllById(logIds), viewer.getUserId());
+
+        assertThat(dtos).hasSize(2);
+        assertThat(dtos).allSatisfy(dto -> {
+            assertThat(dto.getLikeCount()).isEqualTo(1);
+            assertThat(dto.getCommentCount()).isEqualTo(2);
+            assertThat(dto.getIsLiked()).isTrue();
+            assertThat(dto.getImageUrls()).containsExactly("img-1", "img-2");
+            assertThat(dto.getPlaceNames()).containsExactly("place-1", "place-2");
+            assertThat(dto.getUserName()).startsWith("author");
+        });
+    }
+
+    @Test
+    void planFeedMapCodeQueryCountDoesNotDependOnPageSize() {
+        User viewer = persistUser("planViewer");
+        MapCode myMapCode = persistMapCode("부산광역시", "해운대구");
+        persistMapCode("서울특별시", "강남구");
+
+        long smallPageQueries = countQueries(createLogs(3, viewer, myMapCode),
+                logs -> logResponseAssembler.toDtoListWithMapCodes(logs, viewer.getUserId()));
+        long largePageQueries = countQueries(createLogs(30, viewer, myMapCode),
+                logs -> logResponseAssembler.toDtoListWithMapCodes(logs, viewer.getUserId()));
+
+        assertThat(smallPageQueries).isEqualTo(largePageQueries);
+        assertThat(largePageQueries).isLessThanOrEqualTo(7);
+    }
+
+    @Test
+    void placeFeedMapCodeQueryCountDoesNotDependOnPageSize() {
+        User viewer = persistUser("placeViewer");
+        MapCode myMapCode = persistMapCode("부산광역시", "해운대구");
+        persistMapCode("서울특별시", "강남구");
+
+        long smallPageQueries = countQueries(createLogs(3, viewer, myMapCode),
+                logs -> logResponseAssembler.toDtoListForPlace(logs, viewer.getUserId(), logs.get(0).getPlace().getPlaceId()));
+        long largePageQueries = countQueries(createLogs(30, viewer, myMapCode),
+                logs -> logResponseAssembler.toDtoListForPlace(logs, viewer.getUserId(), logs.get(0).getPlace().getPlaceId()));
+
+        assertThat(smallPageQueries).isEqualTo(largePageQueries);
+        assertThat(largePageQueries).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    void mapCodesComeFromMyMapOrPlanLocation() {
+        User viewer = persistUser("mapReader");
+        MapCode myMapCode = persistMapCode("부산광역시", "해운대구");
+        persistMapCode("서울특별시", null);
+        persistMapCode("서울특별시", "강남구");
+        List<Integer> logIds = createLogs(2, viewer, myMapCode);
+
+        em.clear();
+        List<LogResponseDto> dtos = logResponseAssembler.toDtoListWithMapCodes(logRepository.findAllById(logIds), viewer.getUserId());
+
+        // 짝수 번째 기록은 MyMap, 홀수 번째 기록은 일정 location("서울특별시 강남구")에서 지역 코드를 찾음
+        Map<Integer, LogResponseDto> byLogId = dtos.stream()
+                .collect(Collectors.toMap(LogResponseDto::getLogId, Function.identity()));
+        assertThat(byLogId.get(logIds.get(0)).getMapCodeDistrict()).isEqualTo("해운대구");
+        assertThat(byLogId.get(logIds.get(1)).getMapCodeCity()).isEqualTo("서울특별시");
+        assertThat(byLogId.get(logIds.get(1)).getMapCodeDistrict()).isEqualTo("강남구");
+    }
+
+    private long countQueries(List<Integer> logIds, Integer viewerId) {
+        return countQueries(logIds, logs -> logResponseAssembler.toDtoList(logs, viewerId));
+    }
+
+    private long countQueries(List<Integer> logIds, Function<List<Log>, List<LogResponseDto>> converter) {
+        em.clear();
+        List<Log> logs = logRepository.findAllById(logIds);
+        // 장소별 조회 쿼리는 place를 fetch join 하므로 측정 전에 초기화
+        logs.forEach(log -> Hibernate.initialize(log.getPlace()));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        converter.apply(logs);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Integer> createLogs(int count, User viewer) {
+        return createLogs(count, viewer, null);
+    }
+
+    private List<Integer> createLogs(int count, User viewer, MapCode myMapCode) {
+        List<Integer> logIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User author = persistUser("author" + i);
+            Plan plan = persistPlan(author);
+            if (myMapCode != null) {
+                plan.setLocation("서울특별시 강남구");
+            }
+            Place first = persistPlace(plan, "place-1", 1);
+            persistPlace(plan, "place-2", 2);
+
+            Log logEntity = Log.builder()
+                    .user(author)
+                    .plan(plan)
+                    .place(first)
+                    .comment("comment " + i)
+                    .isPublic(true)
+                    .likeCount(1)
+                    .commentCount(2)
+                    .build();
+            logEntity.addImage(LogImage.builder().imageUrl("img-2").orderNum(2).build());
+            logEntity.addImage(LogImage.builder().imageUrl("img-1").orderNum(1).build());
+            em.persist(logEntity);
+
+            em.persist(Likes.builder().log(logEntity).user(viewer).build());
+            em.persist(LogComment.builder().log(logEntity).user(viewer).locoComment("nice").build());
+            em.persist(LogComment.builder().log(logEntity).user(author).locoComment("thanks").build());
+            if (myMapCode != null && i % 2 == 0) {
+                em.persist(MyMap.builder().log(logEntity).user(author).mapCode(myMapCode).build());
+            }
+            logIds.add(logEntity.getLogId());
+        }
+        em.flush();
+        return logIds;
+    }
+
+    private User persistUser(String name) {
+        return em.persist(User.builder().name(name).email(name + "@travelonna.com").build());
+    }
+
+    private MapCode persistMapCode(String city, String district) {
+        return em.persist(MapCode.builder().city(city).district(district).build());
+    }
+
+    private Plan persistPlan(User owner) {
+        Plan plan = new Plan();
+        plan.setUserId(owner.getUserId());
+        plan.setTitle("plan of " + owner.getName());
+        plan.setStartDate(LocalDate.of(2025, 1, 1));
+        plan.setEndDate(LocalDate.of(2025, 1, 3));
+        plan.setIsPublic(true);
+        return em.persist(plan);
+    }
+
+    private Place persistPlace(Plan plan, String name, int order) {
+        return em.persist(Place.builder()
+                .plan(plan)
+                .place("address of " + name)
+                .name(name)
+                .order(order)
+                .build());
+    }
+}
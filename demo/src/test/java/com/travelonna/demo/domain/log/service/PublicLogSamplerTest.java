@@ -0,0 +1,74 @@
+package com.travelonna.demo.domain.log.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.travelonna.demo.domain.log.repository.LogRepository;
+
+class PublicLogSamplerTest {
+
+    @Test
+    void permuteProducesEveryIndexExactlyOnce() {
+        int[] sizes = { 1, 2, 3, 5, 16, 17, 100, 1000, 4097 };
+        long[] seeds = { 0L, 1L, -1L, 42L, 0x9E3779B97F4A7C15L };
+
+        for (int n : sizes) {
+            for (long seed : seeds) {
+                int[] hits = new int[n];
+                for (int index = 0; index < n; index++) {
+                    int permuted = PublicLogSampler.permute(index, n, seed);
+                    assertThat(permuted).isBetween(0, n - 1);
+                    hits[permuted]++;
+                }
+                assertThat(hits).as("n=%d, seed=%d", n, seed).containsOnly(1);
+            }
+        }
+    }
+
+    @Test
+    void permuteDependsOnSeed() {
+        int n = 1000;
+        List<Integer> first = IntStream.range(0, n).map(i -> PublicLogSampler.permute(i, n, 1L)).boxed().collect(Collectors.toList());
+        List<Integer> second = IntStream.range(0, n).map(i -> PublicLogSampler.permute(i, n, 2L)).boxed().collect(Collectors.toList());
+
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    void pagesOfOneUserCoverAllPublicLogsWithoutRepeats() {
+        List<Integer> publicLogIds = IntStream.rangeClosed(1, 95).map(i -> i * 3).boxed().collect(Collectors.toList());
+        PublicLogSampler sampler = samplerOf(publicLogIds);
+
+        List<Integer> visited = new ArrayList<>();
+        for (int offset = 0; offset < publicLogIds.size(); offset += 20) {
+            visited.addAll(sampler.samplePage(7, offset, 20));
+        }
+
+        assertThat(visited).containsExactlyInAnyOrderElementsOf(publicLogIds);
+        assertThat(sampler.samplePage(7, 0, 20)).isEqualTo(visited.subList(0, 20));
+        assertThat(sampler.samplePage(7, publicLogIds.size(), 20)).isEmpty();
+    }
+
+    @Test
+    void sampleSkipsExcludedLogs() {
+        List<Integer> publicLogIds = IntStream.rangeClosed(1, 50).boxed().collect(Collectors.toList());
+        PublicLogSampler sampler = samplerOf(publicLogIds);
+        List<Integer> excluded = IntStream.rangeClosed(1, 45).boxed().collect(Collectors.toList());
+
+        assertThat(sampler.sample(10, excluded)).containsExactlyInAnyOrder(46, 47, 48, 49, 50);
+    }
+
+    private PublicLogSampler samplerOf(List<Integer> publicLogIds) {
+        LogRepository logRepository = mock(LogRepository.class);
+        when(logRepository.findPublicLogIds()).thenReturn(publicLogIds);
+        return new PublicLogSampler(logRepository);
+    }
+}
@@ -0,0 +1,246 @@
+package com.travelonna.demo.domain.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.travelonna.demo.domain.recommendation.service.AIRecommendationClient.AIRecommendationResponse;
+import com.travelonna.demo.domain.recommendation.service.AIServiceCircuitBreaker.State;
+import com.travelonna.demo.global.config.AsyncConfig;
+import com.travelonna.demo.global.config.RestTemplateConfig;
+
+/**
+ * 지연/오류를 주입하는 HTTP 스텁 서버로 차단기 상태 전이, 헤징, 호출 제한 시간 확인
+ */
+class AIRecommendationClientTest {
+
+    private static final String BODY =
+            "{\"userId\":1,\"itemType\":\"log\",\"recommendations\":[{\"itemId\":10,\"score\":0.9}]}";
+
+    private static final int FAILURE_THRESHOLD = 3;
+    // 스케줄링 지연에 흔들리지 않도록 각 시간 사이에 수백 ms 간격을 둠
+    private static final long SLOW_CALL_MILLIS = 500;
+    private static final long OPEN_DURATION_MILLIS = 500;
+    private static final long DEADLINE_MILLIS = 3000;
+    private static final long STUB_HANG_MILLIS = 8000;
+
+    // 요청마다 순서대로 적용할 응답 (비어 있으면 즉시 200)
+    private final ConcurrentLinkedQueue<StubResponse> script = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final List<State> statesOnArrival = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ThreadPoolTaskExecutor clientExecutor;
+    private AIServiceCircuitBreaker circuitBreaker;
+    private AIRecommendationClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/", this::handle);
+        server.start();
+
+        RestTemplate aiRestTemplate = new RestTemplateConfig()
+                .aiRecommendationRestTemplate(new RestTemplateBuilder(), 500, 5000);
+        clientExecutor = (ThreadPoolTaskExecutor) new AsyncConfig().aiRecommendationExecutor(4, 8, 10);
+        circuitBreaker = new AIServiceCircuitBreaker(FAILURE_THRESHOLD, SLOW_CALL_MILLIS, OPEN_DURATION_MILLIS);
+        client = new AIRecommendationClient(new RestTemplate(), aiRestTemplate, clientExecutor, circuitBreaker);
+        ReflectionTestUtils.setField(client, "aiServiceUrl", "http://localhost:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(client, "deadlineMillis", DEADLINE_MILLIS);
+        ReflectionTestUtils.setField(client, "hedgeDelayMillis", 0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        clientExecutor.shutdown();
+    }
+
+    @Test
+    void failuresOpenBreakerAndSuccessfulProbeClosesIt() throws InterruptedException {
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            script.add(StubResponse.status(500));
+        }
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThat(fetch().isFallback()).isTrue();
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+
+        // OPEN 동안은 AI 서비스에 요청하지 않음
+        assertThat(fetch().isFallback()).isTrue();
+        assertThat(requests).hasValue(FAILURE_THRESHOLD);
+
+        Thread.sleep(OPEN_DURATION_MILLIS + 300);
+        AIRecommendationResponse probe = fetch();
+
+        assertThat(probe.isFallback()).isFalse();
+        assertThat(probe.getRecommendations()).hasSize(1);
+        assertThat(statesOnArrival.get(statesOnArrival.size() - 1)).isEqualTo(State.HALF_OPEN);
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void failedProbeReopensBreaker() throws InterruptedException {
+        for (int i = 0; i <= FAILURE_THRESHOLD; i++) {
+            script.add(StubResponse.status(503));
+        }
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            fetch();
+        }
+        Thread.sleep(OPEN_DURATION_MILLIS + 300);
+
+        assertThat(fetch().isFallback()).isTrue();
+        assertThat(statesOnArrival.get(statesOnArrival.size() - 1)).isEqualTo(State.HALF_OPEN);
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void slowSuccessIsReturnedButCountedAsFailure() {
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            script.add(StubResponse.delayed(SLOW_CALL_MILLIS + 400));
+        }
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            AIRecommendationResponse response = fetch();
+            assertThat(response.isFallback()).isFalse();
+            assertThat(response.getRecommendations()).hasSize(1);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void deadlineReturnsFallbackAndCancelsRequest() throws InterruptedException {
+        ReflectionTestUtils.setField(client, "deadlineMillis", 300L);
+        script.add(StubResponse.delayed(STUB_HANG_MILLIS));
+
+        long start = System.nanoTime();
+        AIRecommendationResponse response = fetch();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(response.isFallback()).isTrue();
+        assertThat(elapsedMillis).isLessThan(DEADLINE_MILLIS);
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+        assertWorkersReleased();
+    }
+
+    @Test
+    void hedgeWinsOverSlowPrimaryAndCancelsIt() throws InterruptedException {
+        ReflectionTestUtils.setField(client, "hedgeDelayMillis", 100L);
+        script.add(StubResponse.delayed(STUB_HANG_MILLIS));
+        script.add(StubResponse.status(200));
+
+        long start = System.nanoTime();
+        AIRecommendationResponse response = fetch();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(response.isFallback()).isFalse();
+        assertThat(response.getRecommendations()).hasSize(1);
+        assertThat(requests).hasValue(2);
+        assertThat(elapsedMillis).isLessThan(DEADLINE_MILLIS);
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+        assertWorkersReleased();
+    }
+
+    @Test
+    void noHedgeWhileBreakerIsNotClosed() throws InterruptedException {
+        ReflectionTestUtils.setField(client, "hedgeDelayMillis", 100L);
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            script.add(StubResponse.status(500));
+        }
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            fetch();
+        }
+        Thread.sleep(OPEN_DURATION_MILLIS + 300);
+
+        // 시험 호출은 헤징 대기 시간보다 느리지만(느린 호출 기준보다는 빠름) 헤징하지 않음
+        script.add(StubResponse.delayed(300));
+        AIRecommendationResponse probe = fetch();
+
+        assertThat(probe.isFallback()).isFalse();
+        assertThat(requests).hasValue(FAILURE_THRESHOLD + 1);
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    private AIRecommendationResponse fetch() {
+        return client.getRecommendations(1, "log", 10);
+    }
+
+    // 취소된 요청의 작업 스레드가 스텁 응답(STUB_HANG_MILLIS)을 기다리지 않고 반환되는지 확인
+    private void assertWorkersReleased() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (clientExecutor.getActiveCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(clientExecutor.getActiveCount()).isZero();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        statesOnArrival.add(circuitBreaker.getState());
+        StubResponse stub = script.poll();
+        if (stub == null) {
+            stub = StubResponse.status(200);
+        }
+        try {
+            if (stub.delayMillis > 0) {
+                Thread.sleep(stub.delayMillis);
+            }
+            if (stub.status != 200) {
+                exchange.sendResponseHeaders(stub.status, -1);
+                return;
+            }
+            byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 클라이언트가 요청을 취소해 연결이 끊긴 경우
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static final class StubResponse {
+        private final long delayMillis;
+        private final int status;
+
+        private StubResponse(long delayMillis, int status) {
+            this.delayMillis = delayMillis;
+            this.status = status;
+        }
+
+        static StubResponse status(int status) {
+            return new StubResponse(0, status);
+        }
+
+        static StubResponse delayed(long delayMillis) {
+            return new StubResponse(delayMillis, 200);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.travelonna.demo.domain.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.travelonna.demo.domain.recommendation.service.AIServiceCircuitBreaker.Permit;
+import com.travelonna.demo.domain.recommendation.service.AIServiceCircuitBreaker.State;
+
+class AIServiceCircuitBreakerTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final long SLOW_CALL_MILLIS = 1000;
+
+    @Test
+    void lateSuccessWhileOpenDoesNotCloseBreaker() {
+        AIServiceCircuitBreaker breaker = new AIServiceCircuitBreaker(FAILURE_THRESHOLD, SLOW_CALL_MILLIS, 60_000);
+        Permit slowCall = breaker.tryAcquire();
+        open(breaker);
+
+        // OPEN 전에 시작된 호출이 늦게 성공해도 OPEN 유지
+        breaker.onSuccess(slowCall, 10);
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire()).isEqualTo(Permit.DENIED);
+    }
+
+    @Test
+    void onlyProbeSuccessClosesHalfOpenBreaker() {
+        AIServiceCircuitBreaker breaker = new AIServiceCircuitBreaker(FAILURE_THRESHOLD, SLOW_CALL_MILLIS, 0);
+        Permit lateCall = breaker.tryAcquire();
+        open(breaker);
+
+        Permit probe = breaker.tryAcquire();
+        assertThat(probe).isEqualTo(Permit.PROBE);
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isEqualTo(Permit.DENIED);
+
+        breaker.onSuccess(lateCall, 10);
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+
+        breaker.onSuccess(probe, 10);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.tryAcquire()).isEqualTo(Permit.CALL);
+    }
+
+    @Test
+    void lateFailureDoesNotFailHalfOpenProbe() {
+        AIServiceCircuitBreaker breaker = new AIServiceCircuitBreaker(FAILURE_THRESHOLD, SLOW_CALL_MILLIS, 0);
+        Permit lateCall = breaker.tryAcquire();
+        open(breaker);
+        Permit probe = breaker.tryAcquire();
+
+        // 시험 호출 중 이전 호출의 실패(느린 응답 포함)는 상태를 바꾸지 않음
+        breaker.onFailure(lateCall);
+        breaker.onSuccess(lateCall, SLOW_CALL_MILLIS + 1);
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+
+        breaker.onFailure(probe);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void releasedProbeLetsNextCallProbe() {
+        AIServiceCircuitBreaker breaker = new AIServiceCircuitBreaker(FAILURE_THRESHOLD, SLOW_CALL_MILLIS, 0);
+        open(breaker);
+
+        Permit probe = breaker.tryAcquire();
+        breaker.release(probe);
+
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isEqualTo(Permit.PROBE);
+    }
+
+    private void open(AIServiceCircuitBreaker breaker) {
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            breaker.onFailure(breaker.tryAcquire());
+        }
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+}
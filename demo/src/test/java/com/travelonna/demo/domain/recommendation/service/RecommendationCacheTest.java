@@ -0,0 +1,143 @@
+package com.travelonna.demo.domain.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.travelonna.demo.domain.recommendation.service.RecommendationCache.RankedRecommendations;
+
+class RecommendationCacheTest {
+
+    private final RecommendationCache cache = new RecommendationCache(100, 3600, 300);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void missLoadsOnceAndHitReturnsCachedRanking() {
+        RankedRecommendations first = cache.get(1, () -> load(cache.batch(new int[] { 10, 20 }, new float[] { 0.9f, 0.5f })));
+        RankedRecommendations second = cache.get(1, () -> load(cache.batch(new int[0], new float[0])));
+
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(second.size()).isEqualTo(2);
+        assertThat(second.itemIdAt(0)).isEqualTo(10);
+        assertThat(second.scoreAt(1)).isEqualTo(0.5f);
+        assertThat(second.getSource()).isEqualTo(RecommendationCache.Source.BATCH);
+    }
+
+    @Test
+    void invalidateUsersForcesReloadOnlyForThoseUsers() {
+        cache.get(1, () -> load(cache.batch(new int[] { 10 }, new float[] { 1f })));
+        cache.get(2, () -> load(cache.batch(new int[] { 20 }, new float[] { 1f })));
+
+        cache.invalidateUsers(List.of(1));
+
+        assertThat(cache.get(1, () -> load(cache.batch(new int[] { 11 }, new float[] { 1f }))).itemIdAt(0)).isEqualTo(11);
+        assertThat(cache.get(2, () -> load(cache.batch(new int[] { 21 }, new float[] { 1f }))).itemIdAt(0)).isEqualTo(20);
+        assertThat(loads).hasValue(3);
+
+        cache.invalidateAll();
+        assertThat(cache.get(2, () -> load(cache.batch(new int[] { 22 }, new float[] { 1f }))).itemIdAt(0)).isEqualTo(22);
+    }
+
+    @Test
+    void resultLoadedDuringInvalidationIsNotStored() {
+        RankedRecommendations stale = cache.get(1, () -> {
+            cache.invalidateUsers(List.of(1));
+            return load(cache.batch(new int[] { 10 }, new float[] { 1f }));
+        });
+        RankedRecommendations fresh = cache.get(1, () -> load(cache.batch(new int[] { 11 }, new float[] { 1f })));
+
+        assertThat(stale.itemIdAt(0)).isEqualTo(10);
+        assertThat(fresh.itemIdAt(0)).isEqualTo(11);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void unavailableResultIsNotCached() {
+        cache.get(1, () -> load(cache.unavailable()));
+        RankedRecommendations next = cache.get(1, () -> load(cache.realtime(new int[] { 10 }, new float[] { 1f })));
+
+        assertThat(next.getSource()).isEqualTo(RecommendationCache.Source.REALTIME);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void expiredAndEvictedEntriesAreReloaded() {
+        RecommendationCache expiring = new RecommendationCache(100, -1, -1);
+        expiring.get(1, () -> load(expiring.batch(new int[] { 10 }, new float[] { 1f })));
+        expiring.get(1, () -> load(expiring.batch(new int[] { 10 }, new float[] { 1f })));
+        assertThat(loads).hasValue(2);
+
+        RecommendationCache small = new RecommendationCache(2, 3600, 300);
+        small.get(1, () -> load(small.batch(new int[] { 10 }, new float[] { 1f })));
+        small.get(2, () -> load(small.batch(new int[] { 20 }, new float[] { 1f })));
+        small.get(1, () -> load(small.batch(new int[] { 10 }, new float[] { 1f })));
+        small.get(3, () -> load(small.batch(new int[] { 30 }, new float[] { 1f })));
+        assertThat(loads).hasValue(5);
+
+        // 최근에 조회한 1은 남고 가장 오래 조회되지 않은 2가 제거됨
+        small.get(1, () -> load(small.batch(new int[] { 10 }, new float[] { 1f })));
+        assertThat(loads).hasValue(5);
+        small.get(2, () -> load(small.batch(new int[] { 20 }, new float[] { 1f })));
+        assertThat(loads).hasValue(6);
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<RankedRecommendations> leader = executor.submit(() -> cache.get(1, () -> {
+                loaderStarted.countDown();
+                await(release);
+                return load(cache.batch(new int[] { 10 }, new float[] { 1f }));
+            }));
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<RankedRecommendations>> waiters = List.of(
+                    executor.submit(() -> cache.get(1, () -> load(cache.batch(new int[0], new float[0])))),
+                    executor.submit(() -> cache.get(1, () -> load(cache.batch(new int[0], new float[0])))));
+            release.countDown();
+
+            RankedRecommendations loaded = leader.get(5, TimeUnit.SECONDS);
+            for (Future<RankedRecommendations> waiter : waiters) {
+                assertThat(waiter.get(5, TimeUnit.SECONDS)).isSameAs(loaded);
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void loaderFailureIsRethrownAndNotCached() {
+        assertThatThrownBy(() -> cache.get(1, () -> {
+            throw new IllegalStateException("AI 서비스 오류");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get(1, () -> load(cache.batch(new int[] { 10 }, new float[] { 1f }))).size()).isEqualTo(1);
+    }
+
+    private RankedRecommendations load(RankedRecommendations recommendations) {
+        loads.incrementAndGet();
+        return recommendations;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.travelonna.demo.domain.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.travelonna.demo.domain.recommendation.entity.Recommendation.ItemType;
+import com.travelonna.demo.domain.recommendation.repository.RecommendationRepository;
+import com.travelonna.demo.domain.recommendation.repository.UserRecommendationCountProjection;
+
+class RecommendationIndexTest {
+
+    private RecommendationRepository recommendationRepository;
+    private RecommendationIndex recommendationIndex;
+
+    @BeforeEach
+    void setUp() {
+        recommendationRepository = mock(RecommendationRepository.class);
+        recommendationIndex = new RecommendationIndex(recommendationRepository);
+    }
+
+    @Test
+    void notReadyBeforeFirstRebuild() {
+        assertThat(recommendationIndex.isReady()).isFalse();
+        assertThat(recommendationIndex.contains(1, ItemType.LOG)).isFalse();
+        assertThat(recommendationIndex.count(1, ItemType.LOG)).isZero();
+
+        rebuildWith(List.of());
+
+        assertThat(recommendationIndex.isReady()).isTrue();
+        assertThat(recommendationIndex.contains(1, ItemType.LOG)).isFalse();
+    }
+
+    @Test
+    void hitsAndMissesArePerUserAndType() {
+        rebuildWith(List.of(row(1, ItemType.LOG, 30), row(1, ItemType.PLACE, 5), row(2, ItemType.LOG, 7)));
+
+        assertThat(recommendationIndex.contains(1, ItemType.LOG)).isTrue();
+        assertThat(recommendationIndex.count(1, ItemType.LOG)).isEqualTo(30);
+        assertThat(recommendationIndex.count(1, ItemType.PLACE)).isEqualTo(5);
+        assertThat(recommendationIndex.contains(2, ItemType.PLACE)).isFalse();
+        assertThat(recommendationIndex.count(2, ItemType.PLACE)).isZero();
+        assertThat(recommendationIndex.contains(3, ItemType.LOG)).isFalse();
+        assertThat(recommendationIndex.contains(1, ItemType.PLAN)).isFalse();
+        assertThat(recommendationIndex.contains(null, ItemType.LOG)).isFalse();
+        assertThat(recommendationIndex.count(null, ItemType.LOG)).isZero();
+        assertThat(recommendationIndex.contains(-1, ItemType.LOG)).isFalse();
+    }
+
+    @Test
+    void rebuildReplacesPreviousSnapshot() {
+        rebuildWith(List.of(row(1, ItemType.LOG, 30), row(2, ItemType.LOG, 7)));
+
+        rebuildWith(List.of(row(2, ItemType.LOG, 9), row(3, ItemType.LOG, 1)));
+
+        assertThat(recommendationIndex.contains(1, ItemType.LOG)).isFalse();
+        assertThat(recommendationIndex.count(1, ItemType.LOG)).isZero();
+        assertThat(recommendationIndex.count(2, ItemType.LOG)).isEqualTo(9);
+        assertThat(recommendationIndex.contains(3, ItemType.LOG)).isTrue();
+    }
+
+    @Test
+    void countsMatchSourceAcrossResizes() {
+        Random random = new Random(5);
+        Map<Integer, Integer> expected = new HashMap<>();
+        List<UserRecommendationCountProjection> rows = new ArrayList<>();
+        while (expected.size() < 5_000) {
+            int userId = 1 + random.nextInt(1_000_000);
+            int count = 1 + random.nextInt(100);
+            if (expected.putIfAbsent(userId, count) == null) {
+                rows.add(row(userId, ItemType.LOG, count));
+            }
+        }
+        rebuildWith(rows);
+
+        expected.forEach((userId, count) -> {
+            assertThat(recommendationIndex.contains(userId, ItemType.LOG)).isTrue();
+            assertThat(recommendationIndex.count(userId, ItemType.LOG)).as("userId=%d", userId).isEqualTo(count);
+        });
+        for (int i = 0; i < 5_000; i++) {
+            int userId = 1 + random.nextInt(1_000_000);
+            assertThat(recommendationIndex.contains(userId, ItemType.LOG)).isEqualTo(expected.containsKey(userId));
+            assertThat(recommendationIndex.count(userId, ItemType.LOG)).isEqualTo(expected.getOrDefault(userId, 0));
+        }
+    }
+
+    private void rebuildWith(List<UserRecommendationCountProjection> rows) {
+        when(recommendationRepository.countRecommendationsByUserAndItemType(ItemType.LOG)).thenReturn(rows);
+        recommendationIndex.rebuild();
+    }
+
+    private static UserRecommendationCountProjection row(int userId, ItemType itemType, long count) {
+        return new UserRecommendationCountProjection() {
+            @Override
+            public Integer getUserId() {
+                return userId;
+            }
+
+            @Override
+            public ItemType getItemType() {
+                return itemType;
+            }
+
+            @Override
+            public Long getRecommendationCount() {
+                return count;
+            }
+        };
+    }
+}
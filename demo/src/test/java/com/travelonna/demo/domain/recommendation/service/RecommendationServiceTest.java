@@ -0,0 +1,166 @@
+package com.travelonna.demo.domain.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.travelonna.demo.domain.log.service.LogService;
+import com.travelonna.demo.domain.log.service.PublicLogSampler;
+import com.travelonna.demo.domain.recommendation.dto.RecommendationResponseDto;
+import com.travelonna.demo.domain.recommendation.dto.RecommendationResponseDto.RecommendationItemDto;
+import com.travelonna.demo.domain.recommendation.entity.Recommendation.ItemType;
+import com.travelonna.demo.domain.recommendation.repository.RecommendationRepository;
+import com.travelonna.demo.domain.recommendation.repository.RecommendedLogProjection;
+import com.travelonna.demo.domain.recommendation.service.AIRecommendationClient.AIRecommendationItem;
+import com.travelonna.demo.domain.recommendation.service.AIRecommendationClient.AIRecommendationResponse;
+import com.travelonna.demo.domain.user.entity.User;
+import com.travelonna.demo.domain.user.repository.UserRepository;
+
+class RecommendationServiceTest {
+
+    private static final int USER_ID = 1;
+
+    private RecommendationRepository recommendationRepository;
+    private AIRecommendationClient aiRecommendationClient;
+    private RecommendationIndex recommendationIndex;
+    private RecommendationService recommendationService;
+
+    @BeforeEach
+    void setUp() {
+        recommendationRepository = mock(RecommendationRepository.class);
+        aiRecommendationClient = mock(AIRecommendationClient.class);
+        recommendationIndex = mock(RecommendationIndex.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(mock(User.class)));
+        when(recommendationRepository.findRankedItems(USER_ID, ItemType.LOG)).thenReturn(List.of());
+
+        recommendationService = new RecommendationService(recommendationRepository, userRepository,
+                mock(LogService.class), mock(PublicLogSampler.class), aiRecommendationClient,
+                new RecommendationCache(100, 3600, 300), recommendationIndex);
+    }
+
+    @Test
+    void realtimeTotalsCountOnlyPublicLogs() {
+        // 5개 중 2는 비공개, 4는 삭제됨, 3은 중복
+        givenAiRecommendations(5, 4, 3, 2, 1, 3);
+        List<RecommendedLogProjection> logs = List.of(logInfo(5, true), logInfo(3, true), logInfo(2, false), logInfo(1, true));
+        when(recommendationRepository.findRecommendedLogs(anyCollection())).thenReturn(logs);
+
+        RecommendationResponseDto first = recommendationService.getRecommendationsPaginated(USER_ID, "log", 1, 2);
+        RecommendationResponseDto second = recommendationService.getRecommendationsPaginated(USER_ID, "log", 2, 2);
+
+        assertThat(logIds(first)).containsExactly(5, 3);
+        assertThat(logIds(second)).containsExactly(1);
+        assertThat(first.getPageInfo().getTotalElements()).isEqualTo(3);
+        assertThat(first.getPageInfo().getTotalPages()).isEqualTo(2);
+        assertThat(second.getPageInfo().getIsLast()).isTrue();
+    }
+
+    @Test
+    void realtimeMissBuildsFirstPageFromSingleLogQuery() {
+        givenAiRecommendations(1, 2, 3);
+        List<RecommendedLogProjection> logs = List.of(logInfo(1, true), logInfo(2, true), logInfo(3, true));
+        when(recommendationRepository.findRecommendedLogs(anyCollection())).thenReturn(logs);
+
+        RecommendationResponseDto first = recommendationService.getRecommendationsPaginated(USER_ID, "log", 1, 2);
+        verify(recommendationRepository, times(1)).findRecommendedLogs(anyCollection());
+
+        // 캐시된 순위의 다음 페이지는 해당 페이지만 조회
+        RecommendationResponseDto second = recommendationService.getRecommendationsPaginated(USER_ID, "log", 2, 2);
+        verify(recommendationRepository, times(2)).findRecommendedLogs(anyCollection());
+
+        assertThat(logIds(first)).containsExactly(1, 2);
+        assertThat(logIds(second)).containsExactly(3);
+    }
+
+    @Test
+    void pageAndSizeAreClamped() {
+        givenAiRecommendations(1, 2, 3);
+        List<RecommendedLogProjection> logs = List.of(logInfo(1, true), logInfo(2, true), logInfo(3, true));
+        when(recommendationRepository.findRecommendedLogs(anyCollection())).thenReturn(logs);
+
+        RecommendationResponseDto zeroPage = recommendationService.getRecommendationsPaginated(USER_ID, "log", 0, 2);
+        RecommendationResponseDto negativePage = recommendationService.getRecommendationsPaginated(USER_ID, "log", -3, 2);
+        RecommendationResponseDto zeroSize = recommendationService.getRecommendationsPaginated(USER_ID, "log", 1, 0);
+
+        assertThat(logIds(zeroPage)).containsExactly(1, 2);
+        assertThat(zeroPage.getPageInfo().getCurrentPage()).isEqualTo(1);
+        assertThat(logIds(negativePage)).containsExactly(1, 2);
+        assertThat(zeroSize.getPageInfo().getPageSize()).isEqualTo(20);
+        assertThat(logIds(zeroSize)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void countAndExistsDoNotLoadOnIndexMiss() {
+        when(recommendationIndex.isReady()).thenReturn(true);
+        givenAiRecommendations(1, 2);
+
+        assertThat(recommendationService.getRecommendationCount(USER_ID, "log")).isZero();
+        assertThat(recommendationService.hasRecommendations(USER_ID, "log")).isFalse();
+        verify(aiRecommendationClient, never()).getRecommendations(any(), any(), any());
+        verify(recommendationRepository, never()).findRankedItems(any(), any());
+    }
+
+    @Test
+    void countUsesIndexWhenReadyAndPublicDbCountBefore() {
+        when(recommendationRepository.countRankedItems(USER_ID, ItemType.LOG)).thenReturn(4L);
+        assertThat(recommendationService.getRecommendationCount(USER_ID, "log")).isEqualTo(4);
+
+        when(recommendationIndex.isReady()).thenReturn(true);
+        when(recommendationIndex.count(USER_ID, ItemType.LOG)).thenReturn(7);
+        assertThat(recommendationService.getRecommendationCount(USER_ID, "log")).isEqualTo(7);
+        assertThat(recommendationService.hasRecommendations(USER_ID, "log")).isTrue();
+        verify(recommendationRepository, times(1)).countRankedItems(USER_ID, ItemType.LOG);
+    }
+
+    @Test
+    void countIncludesAlreadyCachedRealtimeRanking() {
+        when(recommendationIndex.isReady()).thenReturn(true);
+        givenAiRecommendations(1, 2, 3);
+        List<RecommendedLogProjection> logs = List.of(logInfo(1, true), logInfo(2, false), logInfo(3, true));
+        when(recommendationRepository.findRecommendedLogs(anyCollection())).thenReturn(logs);
+
+        recommendationService.getRecommendationsPaginated(USER_ID, "log", 1, 20);
+
+        assertThat(recommendationService.getRecommendationCount(USER_ID, "log")).isEqualTo(2);
+        assertThat(recommendationService.hasRecommendations(USER_ID, "log")).isTrue();
+        verify(aiRecommendationClient, times(1)).getRecommendations(any(), any(), any());
+    }
+
+    private void givenAiRecommendations(int... logIds) {
+        List<AIRecommendationItem> items = new ArrayList<>();
+        for (int i = 0; i < logIds.length; i++) {
+            items.add(new AIRecommendationItem(logIds[i], 1.0 - i * 0.1));
+        }
+        when(aiRecommendationClient.getRecommendations(eq(USER_ID), any(), anyInt()))
+                .thenReturn(new AIRecommendationResponse(USER_ID, "log", items));
+    }
+
+    private RecommendedLogProjection logInfo(int logId, boolean isPublic) {
+        RecommendedLogProjection logInfo = mock(RecommendedLogProjection.class);
+        when(logInfo.getLogId()).thenReturn(logId);
+        when(logInfo.getIsPublic()).thenReturn(isPublic);
+        when(logInfo.getCreatedAt()).thenReturn(LocalDateTime.of(2026, 1, 1, 0, 0));
+        return logInfo;
+    }
+
+    private List<Integer> logIds(RecommendationResponseDto response) {
+        return response.getRecommendations().stream().map(RecommendationItemDto::getLogId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,163 @@
+package com.travelonna.demo.domain.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.travelonna.demo.domain.search.dto.AutocompleteSuggestionDto;
+import com.travelonna.demo.domain.search.dto.AutocompleteSuggestionDto.SuggestionType;
+import com.travelonna.demo.domain.search.repository.AutocompleteSourceRepository;
+import com.travelonna.demo.global.util.HangulUtil;
+
+class AutocompleteIndexTest {
+
+    private static final String[] SYLLABLES = { "서", "울", "숲", "제", "주", "도", "강", "남", "섬" };
+
+    private AutocompleteSourceRepository sourceRepository;
+    private AutocompleteIndex autocompleteIndex;
+
+    @BeforeEach
+    void setUp() {
+        sourceRepository = mock(AutocompleteSourceRepository.class);
+        when(sourceRepository.findNicknameCounts()).thenReturn(Map.of());
+        when(sourceRepository.findRegions()).thenReturn(List.of());
+        autocompleteIndex = new AutocompleteIndex(sourceRepository);
+    }
+
+    @Test
+    void partialSyllableAndChosungPrefixesMatch() {
+        rebuildWithPlaces(Map.of("서울숲", 5L, "닭갈비골목", 3L));
+
+        assertThat(texts(autocompleteIndex.suggest("서우", 10))).containsExactly("서울숲");
+        assertThat(texts(autocompleteIndex.suggest("달ㄱ", 10))).containsExactly("닭갈비골목");
+        assertThat(texts(autocompleteIndex.suggest("ㅅㅇ", 10))).containsExactly("서울숲");
+        assertThat(texts(autocompleteIndex.suggest("ㄷㄱㅂ", 10))).containsExactly("닭갈비골목");
+        assertThat(autocompleteIndex.suggest("부산", 10)).isEmpty();
+    }
+
+    @Test
+    void regionIsFoundByCityOrDistrict() {
+        when(sourceRepository.findPublicPlaceNameCounts()).thenReturn(Map.of());
+        when(sourceRepository.findRegions()).thenReturn(List.<Object[]>of(new Object[] { "서울특별시", "강남구" }));
+        autocompleteIndex.rebuild();
+
+        assertThat(autocompleteIndex.suggest("강남", 10))
+                .extracting(AutocompleteSuggestionDto::getText, AutocompleteSuggestionDto::getType)
+                .containsExactly(Tuple.tuple("서울특별시 강남구", SuggestionType.REGION));
+        assertThat(texts(autocompleteIndex.suggest("서울특별시", 10))).containsExactly("서울특별시", "서울특별시 강남구");
+    }
+
+    @Test
+    void eachPrefixKeepsTopTenByWeight() {
+        Map<String, Long> places = new LinkedHashMap<>();
+        for (int i = 1; i <= 15; i++) {
+            places.put("제주" + i, (long) i);
+        }
+        rebuildWithPlaces(places);
+
+        List<String> expected = List.of("제주15", "제주14", "제주13", "제주12", "제주11",
+                "제주10", "제주9", "제주8", "제주7", "제주6");
+        assertThat(texts(autocompleteIndex.suggest("ㅈ", 20))).containsExactlyElementsOf(expected);
+        assertThat(texts(autocompleteIndex.suggest("제", 20))).containsExactlyElementsOf(expected);
+        assertThat(texts(autocompleteIndex.suggest("제주", 20))).containsExactlyElementsOf(expected);
+        assertThat(texts(autocompleteIndex.suggest("제주", 3))).containsExactly("제주15", "제주14", "제주13");
+    }
+
+    @Test
+    void insertPromotesSuggestionIntoTopTen() {
+        Map<String, Long> places = new LinkedHashMap<>();
+        for (int i = 1; i <= 15; i++) {
+            places.put("제주" + i, (long) i);
+        }
+        rebuildWithPlaces(places);
+
+        // 가중치 5 -> 15: 같은 가중치의 "제주15"보다 짧으므로 맨 앞으로 이동
+        for (int i = 0; i < 10; i++) {
+            autocompleteIndex.addPlace("제주5");
+        }
+        autocompleteIndex.addPlace("제주도");
+
+        List<String> top = texts(autocompleteIndex.suggest("제주", 20));
+        assertThat(top).hasSize(AutocompleteIndex.MAX_SUGGESTIONS);
+        assertThat(top.subList(0, 2)).containsExactly("제주5", "제주15");
+        assertThat(top).doesNotContain("제주도", "제주6");
+        assertThat(texts(autocompleteIndex.suggest("제주ㄷ", 10))).containsExactly("제주도");
+    }
+
+    @Test
+    void rebuildRemovesSuggestionsMissingFromSource() {
+        rebuildWithPlaces(Map.of("서울숲", 5L, "서울역", 2L));
+        autocompleteIndex.addPlace("서울대공원");
+
+        rebuildWithPlaces(Map.of("서울역", 2L));
+
+        assertThat(texts(autocompleteIndex.suggest("서울", 10))).containsExactly("서울역");
+        assertThat(autocompleteIndex.suggest("ㅅㅇㅅ", 10)).isEmpty();
+    }
+
+    @Test
+    void topTenMatchesBruteForceForEveryPrefix() {
+        Random random = new Random(3);
+        Map<String, Long> weights = new HashMap<>();
+        while (weights.size() < 60) {
+            StringBuilder name = new StringBuilder();
+            int length = 1 + random.nextInt(3);
+            for (int i = 0; i < length; i++) {
+                name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            weights.put(name.toString(), 1L + random.nextInt(20));
+        }
+        rebuildWithPlaces(new HashMap<>(weights));
+
+        // 커밋 후 증분 반영 (트랜잭션 밖이므로 즉시 적용)
+        List<String> names = new ArrayList<>(weights.keySet());
+        for (int i = 0; i < 200; i++) {
+            String name = names.get(random.nextInt(names.size()));
+            autocompleteIndex.addPlace(name);
+            weights.merge(name, 1L, Long::sum);
+        }
+
+        for (String name : names) {
+            String jamo = HangulUtil.toJamo(name);
+            for (int end = 1; end <= jamo.length(); end++) {
+                String prefix = jamo.substring(0, end);
+                assertThat(texts(autocompleteIndex.suggest(prefix, AutocompleteIndex.MAX_SUGGESTIONS)))
+                        .as("prefix=%s", prefix)
+                        .containsExactlyElementsOf(bruteForceTop(weights, prefix));
+            }
+        }
+    }
+
+    // 가중치 내림차순 -> 짧은 문자열 -> 사전순으로 접두어가 일치하는 상위 10개
+    private List<String> bruteForceTop(Map<String, Long> weights, String jamoPrefix) {
+        return weights.keySet().stream()
+                .filter(name -> HangulUtil.toJamo(name).startsWith(jamoPrefix))
+                .sorted(Comparator.<String>comparingLong(weights::get).reversed()
+                        .thenComparingInt(String::length)
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(AutocompleteIndex.MAX_SUGGESTIONS)
+                .collect(Collectors.toList());
+    }
+
+    private void rebuildWithPlaces(Map<String, Long> places) {
+        when(sourceRepository.findPublicPlaceNameCounts()).thenReturn(places);
+        autocompleteIndex.rebuild();
+    }
+
+    private List<String> texts(List<AutocompleteSuggestionDto> suggestions) {
+        return suggestions.stream().map(AutocompleteSuggestionDto::getText).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,153 @@
+package com.travelonna.demo.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.travelonna.demo.domain.user.entity.UserAction;
+import com.travelonna.demo.domain.user.entity.UserAction.ActionType;
+import com.travelonna.demo.domain.user.entity.UserAction.TargetType;
+import com.travelonna.demo.domain.user.repository.UserActionBatchRepository;
+import com.travelonna.demo.domain.user.service.UserActionPipeline.OverflowPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserActionPipelineTest {
+
+    private UserActionBatchRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    // 저장된 액션 (targetId로 구분)
+    private final Set<Integer> saved = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(UserActionBatchRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        doAnswer(invocation -> {
+            List<UserAction> actions = invocation.getArgument(0);
+            actions.forEach(action -> saved.add(action.getTargetId()));
+            return null;
+        }).when(repository).insertAll(anyList());
+    }
+
+    @Test
+    void actionsEnqueuedWhileStoppingAreAllSaved() throws Exception {
+        UserActionPipeline pipeline = pipeline(100_000);
+        pipeline.start();
+
+        AtomicInteger nextId = new AtomicInteger();
+        AtomicBoolean producing = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(4);
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            producers.execute(() -> {
+                started.countDown();
+                while (producing.get()) {
+                    pipeline.enqueue(action(nextId.incrementAndGet()));
+                }
+            });
+        }
+        started.await(5, TimeUnit.SECONDS);
+        Thread.sleep(50);
+
+        // 등록이 계속되는 중에 정지
+        pipeline.stop();
+        Thread.sleep(50);
+        producing.set(false);
+        producers.shutdown();
+        assertThat(producers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(saved).hasSize(nextId.get());
+        assertThat(count("failed")).isZero();
+    }
+
+    @Test
+    void failedBatchIsRetried() {
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("connection reset");
+            }
+            List<UserAction> actions = invocation.getArgument(0);
+            actions.forEach(action -> saved.add(action.getTargetId()));
+            return null;
+        }).when(repository).insertAll(anyList());
+        UserActionPipeline pipeline = pipeline(1000);
+        pipeline.start();
+
+        for (int id = 1; id <= 10; id++) {
+            pipeline.enqueue(action(id));
+        }
+        pipeline.stop();
+
+        assertThat(saved).hasSize(10);
+        assertThat(count("written")).isEqualTo(10);
+        assertThat(count("failed")).isZero();
+    }
+
+    @Test
+    void persistentlyFailingBatchIsSavedRowByRow() {
+        // targetId 5가 포함된 저장은 항상 실패
+        doAnswer(invocation -> {
+            List<UserAction> actions = invocation.getArgument(0);
+            if (actions.stream().anyMatch(action -> action.getTargetId() == 5)) {
+                throw new IllegalArgumentException("invalid row");
+            }
+            actions.forEach(action -> saved.add(action.getTargetId()));
+            return null;
+        }).when(repository).insertAll(anyList());
+        UserActionPipeline pipeline = pipeline(1000);
+        pipeline.start();
+
+        for (int id = 1; id <= 10; id++) {
+            pipeline.enqueue(action(id));
+        }
+        pipeline.stop();
+
+        assertThat(saved).hasSize(9).doesNotContain(5);
+        assertThat(count("written")).isEqualTo(9);
+        assertThat(count("failed")).isEqualTo(1);
+    }
+
+    @Test
+    void actionAfterStopIsWrittenImmediately() {
+        UserActionPipeline pipeline = pipeline(1000);
+        pipeline.start();
+        pipeline.stop();
+
+        pipeline.enqueue(action(1));
+
+        assertThat(saved).containsExactly(1);
+    }
+
+    private UserActionPipeline pipeline(int capacity) {
+        return new UserActionPipeline(repository, meterRegistry, capacity, 200, 50, OverflowPolicy.CALLER_RUNS);
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("user_actions.pipeline.events", "result", result).count();
+    }
+
+    private UserAction action(int targetId) {
+        return UserAction.builder()
+                .userId(1)
+                .targetId(targetId)
+                .actionType(ActionType.VIEW)
+                .targetType(TargetType.LOG)
+                .build();
+    }
+}
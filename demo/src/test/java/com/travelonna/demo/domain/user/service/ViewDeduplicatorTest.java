@@ -0,0 +1,101 @@
+package com.travelonna.demo.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.travelonna.demo.domain.user.entity.UserAction.TargetType;
+
+class ViewDeduplicatorTest {
+
+    // 60분 윈도우 = 10분 버킷 6개
+    private static final long BUCKET_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final long START = BUCKET_MILLIS * 1_000;
+
+    @Test
+    void secondViewInWindowIsDuplicate() {
+        ViewDeduplicator deduplicator = new ViewDeduplicator(60, 100_000);
+
+        assertThat(deduplicator.markViewed(1, TargetType.LOG, 10, START)).isTrue();
+        assertThat(deduplicator.markViewed(1, TargetType.LOG, 10, START + 1_000)).isFalse();
+        assertThat(deduplicator.markViewed(1, TargetType.PLACE, 10, START + 1_000)).isTrue();
+        assertThat(deduplicator.markViewed(2, TargetType.LOG, 10, START + 1_000)).isTrue();
+        assertThat(deduplicator.markViewed(1, TargetType.LOG, 11, START + 1_000)).isTrue();
+    }
+
+    @Test
+    void duplicateIsDetectedAcrossBucketRotation() {
+        ViewDeduplicator deduplicator = new ViewDeduplicator(60, 100_000);
+
+        // 버킷 끝에서 조회한 뒤 다음 버킷들로 넘어가도 윈도우 안이면 중복
+        assertThat(deduplicator.markViewed(1, TargetType.LOG, 10, START + BUCKET_MILLIS - 1)).isTrue();
+        assertThat(deduplicator.markViewed(1, TargetType.LOG, 10, START + BUCKET_MILLIS)).isFalse();
+        assertThat(deduplicator.markViewed(1, TargetType.LOG, 10, START + 5 * BUCKET_MILLIS)).isFalse();
+        assertThat(deduplicator.markViewed(1, TargetType.LOG, 10, START + 6 * BUCKET_MILLIS - 1)).isFalse();
+    }
+
+    @Test
+    void viewIsForgottenWhenItsBucketIsReused() {
+        ViewDeduplicator deduplicator = new ViewDeduplicator(60, 100_000);
+
+        assertThat(deduplicator.markViewed(1, TargetType.LOG, 10, START)).isTrue();
+        // 같은 버킷 칸이 6구간 뒤에 다시 쓰이면서 비워짐 -> 새 조회로 기록
+        assertThat(deduplicator.markViewed(1, TargetType.LOG, 10, START + 6 * BUCKET_MILLIS)).isTrue();
+        assertThat(deduplicator.markViewed(1, TargetType.LOG, 10, START + 6 * BUCKET_MILLIS + 1)).isFalse();
+    }
+
+    @Test
+    void staleBucketIsIgnoredEvenBeforeItIsCleared() {
+        ViewDeduplicator deduplicator = new ViewDeduplicator(60, 100_000);
+
+        assertThat(deduplicator.markViewed(1, TargetType.LOG, 10, START)).isTrue();
+        // 다른 버킷 칸에서 조회하므로 START 버킷은 아직 비워지지 않았지만 윈도우 밖이므로 무시
+        assertThat(deduplicator.markViewed(1, TargetType.LOG, 10, START + 7 * BUCKET_MILLIS)).isTrue();
+    }
+
+    @Test
+    void entriesOverBucketCapAreNotRemembered() {
+        ViewDeduplicator deduplicator = new ViewDeduplicator(60, 2);
+
+        assertThat(deduplicator.markViewed(1, TargetType.LOG, 1, START)).isTrue();
+        assertThat(deduplicator.markViewed(1, TargetType.LOG, 2, START)).isTrue();
+        assertThat(deduplicator.markViewed(1, TargetType.LOG, 3, START)).isTrue();
+
+        assertThat(deduplicator.markViewed(1, TargetType.LOG, 2, START)).isFalse();
+        assertThat(deduplicator.markViewed(1, TargetType.LOG, 3, START)).isTrue();
+    }
+
+    @Test
+    void zeroKeyAndManyKeysAreTracked() {
+        ViewDeduplicator deduplicator = new ViewDeduplicator(60, 100_000);
+
+        assertThat(ViewDeduplicator.pack(0, TargetType.LOG, 0)).isZero();
+        assertThat(deduplicator.markViewed(0, TargetType.LOG, 0, START)).isTrue();
+        assertThat(deduplicator.markViewed(0, TargetType.LOG, 0, START)).isFalse();
+
+        // 내부 집합이 여러 번 커진 뒤에도 모든 키를 기억
+        for (int targetId = 1; targetId <= 5_000; targetId++) {
+            assertThat(deduplicator.markViewed(7, TargetType.PLAN, targetId, START)).isTrue();
+        }
+        for (int targetId = 1; targetId <= 5_000; targetId++) {
+            assertThat(deduplicator.markViewed(7, TargetType.PLAN, targetId, START)).isFalse();
+        }
+    }
+
+    @Test
+    void packIsInjectiveForNonNegativeIds() {
+        Set<Long> keys = new HashSet<>();
+        int[] ids = { 0, 1, 2, 1_000, Integer.MAX_VALUE };
+        for (int userId : ids) {
+            for (TargetType type : TargetType.values()) {
+                for (int targetId : ids) {
+                    assertThat(keys.add(ViewDeduplicator.pack(userId, type, targetId))).isTrue();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.travelonna.demo.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class WebSocketConfigTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withUserConfiguration(WebSocketConfig.class);
+
+    @Test
+    void relayModeConnectsToBrokerAndUsesConfiguredChannelPools() throws Exception {
+        // 외부 STOMP 브로커 대신 연결만 받는 스텁 포트
+        try (ServerSocket stubBroker = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            stubBroker.setSoTimeout(10_000);
+
+            contextRunner
+                    .withPropertyValues(
+                            "websocket.broker.mode=relay",
+                            "websocket.broker.relay.host=127.0.0.1",
+                            "websocket.broker.relay.port=" + stubBroker.getLocalPort(),
+                            "websocket.channel.inbound.core-size=3",
+                            "websocket.channel.inbound.max-size=6",
+                            "websocket.channel.inbound.queue-capacity=50",
+                            "websocket.channel.outbound.core-size=2",
+                            "websocket.channel.outbound.max-size=5",
+                            "websocket.channel.outbound.queue-capacity=40")
+                    .run(context -> {
+                        assertThat(context).hasNotFailed();
+                        assertThat(context).hasSingleBean(StompBrokerRelayMessageHandler.class);
+                        assertThat(context).doesNotHaveBean(SimpleBrokerMessageHandler.class);
+
+                        StompBrokerRelayMessageHandler relay = context.getBean(StompBrokerRelayMessageHandler.class);
+                        assertThat(relay.getRelayHost()).isEqualTo("127.0.0.1");
+                        assertThat(relay.getRelayPort()).isEqualTo(stubBroker.getLocalPort());
+
+                        assertPool(context.getBean("clientInboundChannelExecutor", ThreadPoolTaskExecutor.class), 3, 6, 50);
+                        assertPool(context.getBean("clientOutboundChannelExecutor", ThreadPoolTaskExecutor.class), 2, 5, 40);
+
+                        // 시작 시 시스템 세션이 스텁 브로커로 STOMP CONNECT 프레임을 보냄
+                        try (Socket systemSession = stubBroker.accept()) {
+                            BufferedReader reader = new BufferedReader(
+                                    new InputStreamReader(systemSession.getInputStream(), StandardCharsets.UTF_8));
+                            assertThat(reader.readLine()).isEqualTo("CONNECT");
+                        }
+                    });
+        }
+    }
+
+    @Test
+    void simpleModeIsDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).hasSingleBean(SimpleBrokerMessageHandler.class);
+            assertThat(context).doesNotHaveBean(StompBrokerRelayMessageHandler.class);
+            assertPool(context.getBean("clientInboundChannelExecutor", ThreadPoolTaskExecutor.class), 8, 32, 1000);
+        });
+    }
+
+    @Test
+    void brokerModeIsCaseInsensitive() {
+        contextRunner
+                .withPropertyValues("websocket.broker.mode=Simple")
+                .run(context -> assertThat(context).hasSingleBean(SimpleBrokerMessageHandler.class));
+    }
+
+    @Test
+    void unknownBrokerModeFailsStartup() {
+        contextRunner
+                .withPropertyValues("websocket.broker.mode=rabbit")
+                .run(context -> {
+                    assertThat(context).hasFailed();
+                    assertThat(context.getStartupFailure()).hasStackTraceContaining("websocket.broker.mode");
+                });
+    }
+
+    private void assertPool(ThreadPoolTaskExecutor executor, int coreSize, int maxSize, int queueCapacity) {
+        assertThat(executor.getCorePoolSize()).isEqualTo(coreSize);
+        assertThat(executor.getMaxPoolSize()).isEqualTo(maxSize);
+        assertThat(executor.getQueueCapacity()).isEqualTo(queueCapacity);
+    }
+}
@@ -0,0 +1,43 @@
+package com.travelonna.demo.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HangulUtilTest {
+
+    @Test
+    void toJamoSplitsSyllablesAndCompoundJamo() {
+        assertThat(HangulUtil.toJamo("서울")).isEqualTo("ㅅㅓㅇㅜㄹ");
+        assertThat(HangulUtil.toJamo("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulUtil.toJamo("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulUtil.toJamo("ㅘㄺ")).isEqualTo("ㅗㅏㄹㄱ");
+        assertThat(HangulUtil.toJamo("n서울")).isEqualTo("nㅅㅓㅇㅜㄹ");
+    }
+
+    @Test
+    void partiallyTypedSyllableIsJamoPrefix() {
+        assertThat(HangulUtil.toJamo("서울숲")).startsWith(HangulUtil.toJamo("서우"));
+        assertThat(HangulUtil.toJamo("닭갈비")).startsWith(HangulUtil.toJamo("달ㄱ"));
+        assertThat(HangulUtil.toJamo("관광")).startsWith(HangulUtil.toJamo("고"));
+    }
+
+    @Test
+    void toChosungKeepsOnlyInitialConsonants() {
+        assertThat(HangulUtil.toChosung("서울숲")).isEqualTo("ㅅㅇㅅ");
+        assertThat(HangulUtil.toChosung("까치산2")).isEqualTo("ㄲㅊㅅ2");
+    }
+
+    @Test
+    void isChosungOnlyAcceptsConsonantsOnly() {
+        assertThat(HangulUtil.isChosungOnly("ㅅㅇ")).isTrue();
+        assertThat(HangulUtil.isChosungOnly("ㅅㅓ")).isFalse();
+        assertThat(HangulUtil.isChosungOnly("서")).isFalse();
+        assertThat(HangulUtil.isChosungOnly("")).isFalse();
+    }
+
+    @Test
+    void normalizeRemovesWhitespaceAndHyphensAndLowercases() {
+        assertThat(HangulUtil.normalize(" 서울 Forest-Park ")).isEqualTo("서울forestpark");
+    }
+}